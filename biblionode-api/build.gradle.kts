@@ -3,6 +3,7 @@ plugins {
 	jacoco
 	id("org.springframework.boot") version "4.0.2"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("org.hibernate.orm")
 }
 
 group = "io.github.mgrablo"
@@ -25,6 +26,14 @@ repositories {
 	mavenCentral()
 }
 
+// The bytecode enhancement plugin and hibernate-core must come from the same release.
+extra["hibernate.version"] = property("hibernateVersion")
+
+hibernate {
+	enhancement {
+	}
+}
+
 jacoco {
 	toolVersion = "0.8.14"
 }
@@ -66,6 +75,7 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-webmvc")
 	implementation("org.springframework.boot:spring-boot-starter-liquibase")
 	implementation("org.springframework.boot:spring-boot-starter-security-oauth2-resource-server")
+	implementation("org.apache.httpcomponents.client5:httpclient5")
 	compileOnly("org.projectlombok:lombok")
 	runtimeOnly("com.h2database:h2")
 	runtimeOnly("org.postgresql:postgresql")
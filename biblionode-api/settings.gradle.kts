@@ -1 +1,8 @@
+pluginManagement {
+	val hibernateVersion: String by settings
+	plugins {
+		id("org.hibernate.orm") version hibernateVersion
+	}
+}
+
 rootProject.name = "biblionode-api"
@@ -4,12 +4,18 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
+import io.github.mgrablo.BiblioNode.config.BookCacheProperties;
+import io.github.mgrablo.BiblioNode.config.CoverProperties;
+import io.github.mgrablo.BiblioNode.config.ImportProperties;
 import io.github.mgrablo.BiblioNode.config.LoanProperties;
 import io.github.mgrablo.BiblioNode.config.PaginationProperties;
+import io.github.mgrablo.BiblioNode.config.PopularityProperties;
+import io.github.mgrablo.BiblioNode.config.RecommendationProperties;
+import io.github.mgrablo.BiblioNode.config.SearchProperties;
 import io.github.mgrablo.BiblioNode.config.SecurityProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties({LoanProperties.class, SecurityProperties.class, PaginationProperties.class})
+@EnableConfigurationProperties({LoanProperties.class, SecurityProperties.class, PaginationProperties.class, SearchProperties.class, ImportProperties.class, BookCacheProperties.class, CoverProperties.class, RecommendationProperties.class, PopularityProperties.class})
 public class BiblioNodeApplication {
 
 	public static void main(String[] args) {
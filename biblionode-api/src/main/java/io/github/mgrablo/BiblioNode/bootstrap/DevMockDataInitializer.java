@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 
 import io.github.mgrablo.BiblioNode.dto.*;
 import io.github.mgrablo.BiblioNode.model.Loan;
+import io.github.mgrablo.BiblioNode.model.LoanStatus;
 import io.github.mgrablo.BiblioNode.model.User;
 import io.github.mgrablo.BiblioNode.repository.BookRepository;
 import io.github.mgrablo.BiblioNode.repository.LoanRepository;
@@ -129,11 +130,10 @@ public class DevMockDataInitializer implements CommandLineRunner {
 		loan.setLoanDate(now.minusDays(30));
 		loan.setDueDate(now.minusDays(16));
 		loan.setReturnDate(null);
+		loan.setStatus(LoanStatus.OVERDUE);
 
 		loanRepository.save(loan);
-
-		var loanBook = loan.getBook();
-		loanBook.setAvailable(false);
-		bookRepository.save(loanBook);
+		bookRepository.claimCopy(bookId, now);
+		readerRepository.claimLoanSlot(readerId, Integer.MAX_VALUE);
 	}
 }
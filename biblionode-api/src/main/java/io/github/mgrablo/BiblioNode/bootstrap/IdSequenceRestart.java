@@ -0,0 +1,55 @@
+package io.github.mgrablo.BiblioNode.bootstrap;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+
+/**
+ * Liquibase task that moves each {@code <table>_seq} past the highest id written by the old identity columns,
+ * so the first block handed out by Hibernate's pooled-lo optimizer cannot collide with existing rows.
+ */
+public class IdSequenceRestart implements CustomTaskChange {
+	private static final List<String> TABLES = List.of("authors", "books", "loans", "readers", "users", "roles");
+
+	@Override
+	public void execute(Database database) throws CustomChangeException {
+		JdbcConnection connection = (JdbcConnection) database.getConnection();
+		try (Statement statement = connection.createStatement()) {
+			for (String table : TABLES) {
+				long next;
+				try (ResultSet max = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+					max.next();
+					next = max.getLong(1);
+				}
+				statement.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH " + next);
+			}
+		} catch (DatabaseException | SQLException e) {
+			throw new CustomChangeException("Could not restart id sequences", e);
+		}
+	}
+
+	@Override
+	public String getConfirmationMessage() {
+		return "Restarted id sequences for " + String.join(", ", TABLES);
+	}
+
+	@Override
+	public void setUp() { }
+
+	@Override
+	public void setFileOpener(ResourceAccessor resourceAccessor) { }
+
+	@Override
+	public ValidationErrors validate(Database database) {
+		return new ValidationErrors();
+	}
+}
@@ -0,0 +1,69 @@
+package io.github.mgrablo.BiblioNode.bootstrap;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import io.github.mgrablo.BiblioNode.model.Isbn;
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.DatabaseException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+
+/**
+ * Liquibase task that fills {@code books.isbn13} for rows written before the column existed,
+ * using the same normalization as {@link io.github.mgrablo.BiblioNode.model.Book}.
+ */
+public class Isbn13Backfill implements CustomTaskChange {
+	private static final int BATCH_SIZE = 500;
+
+	private int updated;
+
+	@Override
+	public void execute(Database database) throws CustomChangeException {
+		JdbcConnection connection = (JdbcConnection) database.getConnection();
+		try (PreparedStatement select = connection.prepareStatement("SELECT id, isbn FROM books WHERE isbn13 IS NULL");
+			 PreparedStatement update = connection.prepareStatement("UPDATE books SET isbn13 = ? WHERE id = ?");
+			 ResultSet rows = select.executeQuery()) {
+			int pending = 0;
+			while (rows.next()) {
+				String isbn13 = Isbn.toIsbn13(rows.getString("isbn"));
+				if (isbn13 == null) {
+					continue;
+				}
+				update.setString(1, isbn13);
+				update.setLong(2, rows.getLong("id"));
+				update.addBatch();
+				updated++;
+				if (++pending == BATCH_SIZE) {
+					update.executeBatch();
+					pending = 0;
+				}
+			}
+			if (pending > 0) {
+				update.executeBatch();
+			}
+		} catch (DatabaseException | SQLException e) {
+			throw new CustomChangeException("Could not backfill books.isbn13", e);
+		}
+	}
+
+	@Override
+	public String getConfirmationMessage() {
+		return "Backfilled isbn13 for " + updated + " books";
+	}
+
+	@Override
+	public void setUp() { }
+
+	@Override
+	public void setFileOpener(ResourceAccessor resourceAccessor) { }
+
+	@Override
+	public ValidationErrors validate(Database database) {
+		return new ValidationErrors();
+	}
+}
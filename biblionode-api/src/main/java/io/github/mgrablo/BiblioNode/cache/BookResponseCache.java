@@ -0,0 +1,139 @@
+package io.github.mgrablo.BiblioNode.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.github.mgrablo.BiblioNode.config.BookCacheProperties;
+import io.github.mgrablo.BiblioNode.dto.BookResponse;
+import io.github.mgrablo.BiblioNode.event.AuthorChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookAvailabilityChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookDeletedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read-through cache of book details keyed by id, bounded to the configured number of entries
+ * with least-recently-used eviction. Entries are evicted after every committed change to the book,
+ * its availability or its author's name. Reports the standard {@code cache.*} meters tagged {@code cache=books}.
+ */
+@Component
+public class BookResponseCache {
+	private static final String NAME = "books";
+
+	private final int maxEntries;
+	private final Map<Long, BookResponse> entries;
+	private final AtomicLong generation = new AtomicLong();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	public BookResponseCache(BookCacheProperties properties, MeterRegistry meterRegistry) {
+		this.maxEntries = properties.maxEntries();
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, BookResponse> eldest) {
+				if (size() > maxEntries) {
+					evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+
+		FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+				.tags("cache", NAME, "result", "hit")
+				.register(meterRegistry);
+		FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+				.tags("cache", NAME, "result", "miss")
+				.register(meterRegistry);
+		FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+				.tags("cache", NAME)
+				.register(meterRegistry);
+		Gauge.builder("cache.size", this, BookResponseCache::size)
+				.tags("cache", NAME)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Returns the cached book, running {@code loader} on a miss. A loader that throws caches nothing.
+	 */
+	public BookResponse get(Long id, Function<Long, BookResponse> loader) {
+		BookResponse cached;
+		synchronized (entries) {
+			cached = entries.get(id);
+		}
+		if (cached != null) {
+			hits.increment();
+			return cached;
+		}
+
+		misses.increment();
+		long seen = generation.get();
+		BookResponse loaded = loader.apply(id);
+		synchronized (entries) {
+			// A write committed while we were loading; the result may already be stale.
+			if (seen == generation.get()) {
+				entries.put(id, loaded);
+			}
+		}
+		return loaded;
+	}
+
+	/**
+	 * Returns the cached book without loading it or counting a hit or miss.
+	 */
+	public Optional<BookResponse> peek(Long id) {
+		synchronized (entries) {
+			return Optional.ofNullable(entries.get(id));
+		}
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookChanged(BookChangedEvent event) {
+		evict(event.bookId());
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookDeleted(BookDeletedEvent event) {
+		evict(event.bookId());
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onAvailabilityChanged(BookAvailabilityChangedEvent event) {
+		evict(event.bookId());
+	}
+
+	/**
+	 * The author's name is copied into every book response, so all of their cached books go.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onAuthorChanged(AuthorChangedEvent event) {
+		synchronized (entries) {
+			generation.incrementAndGet();
+			entries.values().removeIf(book -> event.authorId().equals(book.authorId()));
+		}
+	}
+
+	private void evict(Long bookId) {
+		synchronized (entries) {
+			generation.incrementAndGet();
+			entries.remove(bookId);
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package io.github.mgrablo.BiblioNode.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.mgrablo.BiblioNode.dto.ResourceVersion;
+import io.github.mgrablo.BiblioNode.repository.AuthorRepository;
+import io.github.mgrablo.BiblioNode.repository.BookRepository;
+import io.github.mgrablo.BiblioNode.repository.TableVersionView;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Version of the book and author tables, used to validate cached catalog lists without querying them.
+ * It is read from the database rather than kept in memory, so every instance behind a load balancer
+ * hands out the same ETag for the same data.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogVersion {
+	private final BookRepository bookRepository;
+	private final AuthorRepository authorRepository;
+
+	@Transactional(readOnly = true)
+	public ResourceVersion current() {
+		TableVersionView books = bookRepository.findTableVersion();
+		TableVersionView authors = authorRepository.findTableVersion();
+		return ResourceVersion.of("c", books.getTotal() + "-" + authors.getTotal(),
+				books.getCreatedAt(), books.getModifiedAt(), authors.getCreatedAt(), authors.getModifiedAt());
+	}
+}
@@ -0,0 +1,476 @@
+package io.github.mgrablo.BiblioNode.cache;
+
+import org.apache.hc.client5.http.SystemDefaultDnsResolver;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.mgrablo.BiblioNode.config.CoverProperties;
+import io.github.mgrablo.BiblioNode.dto.CoverFile;
+import io.github.mgrablo.BiblioNode.exception.CoverUnavailableException;
+import jakarta.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Disk-backed, content-addressed store of cover images fetched from their external {@code coverUrl}.
+ * <p>
+ * {@code blobs/ab/<sha256>} holds the original bytes and {@code blobs/ab/<sha256>-<size>.jpg} its thumbnail;
+ * {@code urls/<sha256 of url>} points a source URL at its blob. Every file is written to a temporary
+ * name and moved into place, so readers never see a partial file, and identical images fetched from
+ * different URLs are stored once. A URL is fetched at most once, even under concurrent requests.
+ * <p>
+ * Cover URLs come from book data and the cover endpoint is public, so every request, including each
+ * redirect hop, must target an allowed host that resolves only to public addresses. The address check
+ * happens in the connection's own DNS lookup, so the address that was checked is the one connected to. Covers are served
+ * from the API's own origin, so only raster formats recognised by their leading bytes are stored;
+ * an SVG could carry script.
+ */
+@Component
+@Slf4j
+public class CoverStore {
+	private static final String THUMBNAIL_TYPE = "image/jpeg";
+	private static final long MAX_DECODED_PIXELS = 50_000_000L;
+	private static final int MAX_REDIRECTS = 5;
+	private static final Set<String> RASTER_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/webp");
+
+	private final Path blobs;
+	private final Path urls;
+	private final int thumbnailSize;
+	private final long maxBytes;
+	private final List<String> allowedHosts;
+	private final CloseableHttpClient httpClient;
+
+	private final Map<String, CompletableFuture<Blob>> inFlight = new ConcurrentHashMap<>();
+
+	public CoverStore(CoverProperties properties) {
+		this.blobs = properties.directory().resolve("blobs");
+		this.urls = properties.directory().resolve("urls");
+		this.thumbnailSize = properties.thumbnailSize();
+		this.maxBytes = properties.maxSize().toBytes();
+		this.allowedHosts = properties.allowedHosts().stream()
+				.map(host -> host.toLowerCase(Locale.ROOT))
+				.toList();
+		Timeout timeout = Timeout.of(properties.fetchTimeout());
+		this.httpClient = HttpClients.custom()
+				.setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+						.setDnsResolver(new VettingDnsResolver(properties.allowPrivateAddresses()))
+						.setDefaultConnectionConfig(ConnectionConfig.custom()
+								.setConnectTimeout(timeout)
+								.setSocketTimeout(timeout)
+								.build())
+						.build())
+				.setDefaultRequestConfig(RequestConfig.custom().setResponseTimeout(timeout).build())
+				.disableRedirectHandling()
+				.disableAutomaticRetries()
+				.disableCookieManagement()
+				.build();
+	}
+
+	@PreDestroy
+	void close() throws IOException {
+		httpClient.close();
+	}
+
+	/**
+	 * Returns the stored original or thumbnail of the image at {@code url}, fetching it on first use.
+	 *
+	 * @throws CoverUnavailableException if the origin cannot be reached or does not return an image
+	 */
+	public CoverFile get(String url, boolean thumbnail) {
+		String urlKey = sha256(url.getBytes(StandardCharsets.UTF_8));
+		Blob blob = readPointer(urlKey);
+		if (blob == null) {
+			blob = fetchOnce(url, urlKey);
+		}
+		if (!thumbnail) {
+			return new CoverFile(blob.path(), blob.mediaType(), "\"" + blob.sha256() + "\"");
+		}
+
+		Path thumbnailPath = blob.path().resolveSibling(blob.sha256() + "-" + thumbnailSize + ".jpg");
+		if (Files.exists(thumbnailPath) || writeThumbnail(blob.path(), thumbnailPath)) {
+			return new CoverFile(thumbnailPath, THUMBNAIL_TYPE, "\"" + blob.sha256() + "-" + thumbnailSize + "\"");
+		}
+		// Not decodable by ImageIO (e.g. WebP or SVG); the original is the best we can offer.
+		return new CoverFile(blob.path(), blob.mediaType(), "\"" + blob.sha256() + "\"");
+	}
+
+	private Blob fetchOnce(String url, String urlKey) {
+		CompletableFuture<Blob> mine = new CompletableFuture<>();
+		CompletableFuture<Blob> running = inFlight.putIfAbsent(urlKey, mine);
+		if (running != null) {
+			try {
+				return running.join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof CoverUnavailableException cause ? cause : e;
+			}
+		}
+
+		try {
+			// Another request may have finished between our pointer check and putIfAbsent.
+			Blob blob = readPointer(urlKey);
+			if (blob == null) {
+				blob = fetch(url);
+				writePointer(urlKey, blob);
+			}
+			mine.complete(blob);
+			return blob;
+		} catch (RuntimeException e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(urlKey, mine);
+		}
+	}
+
+	private Blob fetch(String url) {
+		URI uri;
+		try {
+			uri = URI.create(url);
+		} catch (IllegalArgumentException e) {
+			throw new CoverUnavailableException("Invalid cover URL: " + url);
+		}
+
+		try {
+			for (int redirects = 0; ; redirects++) {
+				checkTarget(uri, url);
+				URI target = uri;
+				Hop hop = httpClient.execute(new HttpGet(target), response -> receive(response, target, url));
+				if (hop.blob() != null) {
+					return hop.blob();
+				}
+				if (redirects == MAX_REDIRECTS) {
+					throw new CoverUnavailableException("Too many redirects while fetching cover from " + url);
+				}
+				uri = hop.redirect();
+			}
+		} catch (IOException e) {
+			throw new CoverUnavailableException("Could not fetch cover from " + url, e);
+		}
+	}
+
+	/**
+	 * Stores the image in {@code response}, or names where it redirects to; redirects are followed by
+	 * {@link #fetch} so that every hop goes through {@link #checkTarget} and the vetting resolver.
+	 */
+	private Hop receive(ClassicHttpResponse response, URI uri, String url) throws IOException {
+		int status = response.getCode();
+		if (status == 301 || status == 302 || status == 303 || status == 307 || status == 308) {
+			Header location = response.getFirstHeader("Location");
+			if (location == null) {
+				throw new CoverUnavailableException("Cover origin answered " + status + " without a redirect target for " + url);
+			}
+			try {
+				return new Hop(null, uri.resolve(location.getValue()));
+			} catch (IllegalArgumentException e) {
+				throw new CoverUnavailableException("Invalid cover redirect " + location.getValue() + " for " + url);
+			}
+		}
+		if (status != 200 || response.getEntity() == null) {
+			throw new CoverUnavailableException("Cover origin answered " + status + " for " + url);
+		}
+		Header contentType = response.getFirstHeader("Content-Type");
+		String declaredType = contentType == null ? ""
+				: contentType.getValue().split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+		if (!declaredType.startsWith("image/")) {
+			throw new CoverUnavailableException("Cover origin returned " + declaredType + " instead of an image for " + url);
+		}
+
+		Path temp = null;
+		try (InputStream body = response.getEntity().getContent()) {
+			Files.createDirectories(blobs);
+			temp = Files.createTempFile(blobs, "fetch-", ".tmp");
+			MessageDigest digest = newDigest();
+			try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+				copyBounded(body, out, url);
+			}
+			String mediaType = sniffMediaType(temp);
+			if (mediaType == null) {
+				throw new CoverUnavailableException("Cover at " + url + " is not a JPEG, PNG, GIF or WebP image");
+			}
+
+			String sha256 = HexFormat.of().formatHex(digest.digest());
+			Path path = blobPath(sha256);
+			Files.createDirectories(path.getParent());
+			moveIntoPlace(temp, path);
+			temp = null;
+			log.debug("Stored cover {} from {}", sha256, url);
+			return new Hop(new Blob(sha256, path, mediaType), null);
+		} finally {
+			deleteQuietly(temp);
+		}
+	}
+
+	private void checkTarget(URI uri, String url) {
+		if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())) {
+			throw new CoverUnavailableException("Unsupported cover URL: " + url);
+		}
+		String host = uri.getHost();
+		if (host == null) {
+			throw new CoverUnavailableException("Invalid cover URL: " + url);
+		}
+		String normalizedHost = host.toLowerCase(Locale.ROOT);
+		if (!allowedHosts.isEmpty() && allowedHosts.stream()
+				.noneMatch(allowed -> normalizedHost.equals(allowed) || normalizedHost.endsWith("." + allowed))) {
+			throw new CoverUnavailableException("Cover host " + host + " is not allowed for " + url);
+		}
+	}
+
+	private static boolean isPublic(InetAddress address) {
+		if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+				|| address.isSiteLocalAddress() || address.isMulticastAddress()) {
+			return false;
+		}
+		byte[] bytes = address.getAddress();
+		if (address instanceof Inet6Address) {
+			// fc00::/7 unique local addresses
+			return (bytes[0] & 0xfe) != 0xfc;
+		}
+		// 0.0.0.0/8 and the 100.64.0.0/10 carrier-grade NAT range
+		return bytes[0] != 0 && !(bytes[0] == 100 && (bytes[1] & 0xc0) == 64);
+	}
+
+	/**
+	 * Names the raster format by its signature, ignoring what the origin claimed; {@code null} for anything else.
+	 */
+	private static String sniffMediaType(Path file) throws IOException {
+		byte[] head;
+		try (InputStream in = Files.newInputStream(file)) {
+			head = in.readNBytes(12);
+		}
+		if (startsWith(head, 0, 0xFF, 0xD8, 0xFF)) {
+			return "image/jpeg";
+		}
+		if (startsWith(head, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+			return "image/png";
+		}
+		if (startsWith(head, 0, 'G', 'I', 'F', '8') && (startsWith(head, 4, '7', 'a') || startsWith(head, 4, '9', 'a'))) {
+			return "image/gif";
+		}
+		if (startsWith(head, 0, 'R', 'I', 'F', 'F') && startsWith(head, 8, 'W', 'E', 'B', 'P')) {
+			return "image/webp";
+		}
+		return null;
+	}
+
+	private static boolean startsWith(byte[] bytes, int offset, int... signature) {
+		if (bytes.length < offset + signature.length) {
+			return false;
+		}
+		for (int i = 0; i < signature.length; i++) {
+			if ((bytes[offset + i] & 0xFF) != signature[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void copyBounded(InputStream in, OutputStream out, String url) throws IOException {
+		byte[] buffer = new byte[8192];
+		long total = 0;
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			total += read;
+			if (total > maxBytes) {
+				throw new CoverUnavailableException("Cover at " + url + " is larger than " + maxBytes + " bytes");
+			}
+			out.write(buffer, 0, read);
+		}
+	}
+
+	/**
+	 * Scales the image to fit a {@code thumbnailSize} square, reading a subsample of large images
+	 * so the full-size raster is never decoded. Returns {@code false} if the format is not supported.
+	 */
+	private boolean writeThumbnail(Path source, Path target) {
+		BufferedImage image;
+		try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+			Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+			if (readers == null || !readers.hasNext()) {
+				return false;
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(input, true, true);
+				int width = reader.getWidth(0);
+				int height = reader.getHeight(0);
+				int step = Math.max(1, Math.max(width, height) / (thumbnailSize * 2));
+				if ((long) width * height / ((long) step * step) > MAX_DECODED_PIXELS) {
+					return false;
+				}
+				ImageReadParam param = reader.getDefaultReadParam();
+				param.setSourceSubsampling(step, step, 0, 0);
+				image = reader.read(0, param);
+			} finally {
+				reader.dispose();
+			}
+		} catch (IOException e) {
+			log.warn("Could not decode cover {}: {}", source.getFileName(), e.getMessage());
+			return false;
+		}
+
+		double scale = Math.min(1.0, (double) thumbnailSize / Math.max(image.getWidth(), image.getHeight()));
+		int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+		int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+		BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = thumbnail.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, width, height);
+			graphics.drawImage(image, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+
+		Path temp = null;
+		try {
+			temp = Files.createTempFile(target.getParent(), "thumb-", ".tmp");
+			ImageIO.write(thumbnail, "jpg", temp.toFile());
+			moveIntoPlace(temp, target);
+			temp = null;
+			return true;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			deleteQuietly(temp);
+		}
+	}
+
+	private Blob readPointer(String urlKey) {
+		Path pointer = urls.resolve(urlKey);
+		try {
+			String[] parts = Files.readString(pointer).trim().split(" ", 2);
+			Path path = blobPath(parts[0]);
+			// Pointers written before sniffing may name other types; those covers are fetched and checked again.
+			if (!RASTER_TYPES.contains(parts[1])) {
+				return null;
+			}
+			return Files.exists(path) ? new Blob(parts[0], path, parts[1]) : null;
+		} catch (IOException | ArrayIndexOutOfBoundsException e) {
+			return null;
+		}
+	}
+
+	private void writePointer(String urlKey, Blob blob) {
+		Path temp = null;
+		try {
+			Files.createDirectories(urls);
+			temp = Files.createTempFile(urls, "pointer-", ".tmp");
+			Files.writeString(temp, blob.sha256() + " " + blob.mediaType() + "\n");
+			Files.move(temp, urls.resolve(urlKey), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			temp = null;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			deleteQuietly(temp);
+		}
+	}
+
+	private Path blobPath(String sha256) {
+		return blobs.resolve(sha256.substring(0, 2)).resolve(sha256);
+	}
+
+	/**
+	 * Content-addressed files never change, so when two requests race, either copy is the right one.
+	 */
+	private static void moveIntoPlace(Path temp, Path target) throws IOException {
+		try {
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+		} catch (FileAlreadyExistsException e) {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private static void deleteQuietly(Path path) {
+		if (path == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			log.warn("Could not delete temporary cover file {}", path);
+		}
+	}
+
+	private static String sha256(byte[] bytes) {
+		return HexFormat.of().formatHex(newDigest().digest(bytes));
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private record Blob(String sha256, Path path, String mediaType) { }
+
+	private record Hop(Blob blob, URI redirect) { }
+
+	/**
+	 * Resolves a host once and hands the connection exactly the addresses it vetted, so a DNS answer that
+	 * changes between the check and the connect (DNS rebinding) cannot reach a private address.
+	 */
+	private static final class VettingDnsResolver extends SystemDefaultDnsResolver {
+		private final boolean allowPrivateAddresses;
+
+		VettingDnsResolver(boolean allowPrivateAddresses) {
+			this.allowPrivateAddresses = allowPrivateAddresses;
+		}
+
+		@Override
+		public InetAddress[] resolve(String host) throws UnknownHostException {
+			InetAddress[] addresses = super.resolve(host);
+			if (!allowPrivateAddresses) {
+				for (InetAddress address : addresses) {
+					if (!isPublic(address)) {
+						throw new UnknownHostException("Cover host " + host + " does not resolve to a public address");
+					}
+				}
+			}
+			return addresses;
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package io.github.mgrablo.BiblioNode.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import io.github.mgrablo.BiblioNode.config.PaginationProperties;
+
+/**
+ * Short-lived cache of {@code count(*)} results keyed by entity region and normalized filter.
+ * Totals are approximate: they may lag behind the database by up to the configured TTL,
+ * except that every committed write through the services evicts its whole region.
+ */
+@Component
+public class TotalCountCache {
+	private final Clock clock;
+	private final Duration ttl;
+	private final int maxEntries;
+
+	private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+	private final Map<CountRegion, AtomicLong> generations = new EnumMap<>(CountRegion.class);
+
+	public TotalCountCache(Clock clock, PaginationProperties paginationProperties) {
+		this.clock = clock;
+		this.ttl = paginationProperties.countCacheTtl();
+		this.maxEntries = paginationProperties.countCacheMaxEntries();
+		for (CountRegion region : CountRegion.values()) {
+			generations.put(region, new AtomicLong());
+		}
+	}
+
+	/**
+	 * Returns the cached total for {@code filter} within {@code region}, running {@code counter} on a miss.
+	 * Filter values are compared with {@code equals}, so callers normalize them first, e.g. with {@link #ignoreCase}.
+	 */
+	public long get(CountRegion region, LongSupplier counter, Object... filter) {
+		Key key = new Key(region, Arrays.asList(filter));
+		Instant now = clock.instant();
+
+		Entry cached = entries.get(key);
+		if (cached != null && cached.expiresAt().isAfter(now)) {
+			return cached.total();
+		}
+
+		long generation = generations.get(region).get();
+		long total = counter.getAsLong();
+		// A write committed while we were counting; the result may already be stale.
+		if (generation == generations.get(region).get()) {
+			makeRoom(now);
+			Entry entry = new Entry(total, now.plus(ttl));
+			entries.put(key, entry);
+			// evict() bumps the generation before clearing the region, so a put that slipped in
+			// between is either cleared by it or seen here.
+			if (generation != generations.get(region).get()) {
+				entries.remove(key, entry);
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Evicts all totals of the region once the current transaction commits,
+	 * or immediately when called outside a transaction.
+	 */
+	public void invalidate(CountRegion region) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evict(region);
+				}
+			});
+		} else {
+			evict(region);
+		}
+	}
+
+	public static String ignoreCase(String value) {
+		return value == null ? "" : value.toLowerCase(Locale.ROOT);
+	}
+
+	private void evict(CountRegion region) {
+		generations.get(region).incrementAndGet();
+		entries.keySet().removeIf(key -> key.region() == region);
+	}
+
+	private void makeRoom(Instant now) {
+		if (entries.size() < maxEntries) {
+			return;
+		}
+		entries.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+		if (entries.size() >= maxEntries) {
+			entries.clear();
+		}
+	}
+
+	public enum CountRegion {
+		BOOKS, AUTHORS, READERS, LOANS
+	}
+
+	private record Key(CountRegion region, List<Object> filter) { }
+
+	private record Entry(long total, Instant expiresAt) { }
+}
@@ -0,0 +1,14 @@
+package io.github.mgrablo.BiblioNode.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.book-cache")
+public record BookCacheProperties(
+		int maxEntries
+) {
+	public BookCacheProperties {
+		if (maxEntries <= 0) {
+			maxEntries = 10_000;
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package io.github.mgrablo.BiblioNode.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @param allowedHosts hosts covers may be fetched from, each also admitting its subdomains; empty admits any host
+ * @param allowPrivateAddresses whether hosts resolving to loopback, link-local or private addresses may be fetched
+ */
+@ConfigurationProperties(prefix = "app.covers")
+public record CoverProperties(
+		Path directory,
+		int thumbnailSize,
+		DataSize maxSize,
+		Duration fetchTimeout,
+		Duration maxAge,
+		List<String> allowedHosts,
+		boolean allowPrivateAddresses
+) {
+	public CoverProperties {
+		if (directory == null) {
+			directory = Path.of("covers");
+		}
+		if (thumbnailSize <= 0) {
+			thumbnailSize = 320;
+		}
+		if (maxSize == null) {
+			maxSize = DataSize.ofMegabytes(5);
+		}
+		if (fetchTimeout == null) {
+			fetchTimeout = Duration.ofSeconds(10);
+		}
+		if (maxAge == null) {
+			maxAge = Duration.ofDays(1);
+		}
+		allowedHosts = allowedHosts == null ? List.of() : List.copyOf(allowedHosts);
+	}
+}
@@ -0,0 +1,48 @@
+package io.github.mgrablo.BiblioNode.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves {@code ?after=<cursor>&size=N} into a {@link CursorRequest}, applying the same
+ * default and maximum page size as the {@code Pageable} resolver.
+ */
+@RequiredArgsConstructor
+class CursorRequestArgumentResolver implements HandlerMethodArgumentResolver {
+	static final String AFTER_PARAMETER = "after";
+	static final String SIZE_PARAMETER = "size";
+
+	private final PaginationProperties paginationProperties;
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return CursorRequest.class.equals(parameter.getParameterType());
+	}
+
+	@Override
+	public CursorRequest resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+										 NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+		String after = webRequest.getParameter(AFTER_PARAMETER);
+		return new CursorRequest(after == null || after.isBlank() ? null : after, resolveSize(webRequest.getParameter(SIZE_PARAMETER)));
+	}
+
+	private int resolveSize(String size) {
+		int resolved;
+		try {
+			resolved = size == null ? paginationProperties.defaultPageSize() : Integer.parseInt(size);
+		} catch (NumberFormatException e) {
+			resolved = paginationProperties.defaultPageSize();
+		}
+
+		if (resolved < 1) {
+			return paginationProperties.defaultPageSize();
+		}
+		return Math.min(resolved, paginationProperties.maxPageSize());
+	}
+}
@@ -0,0 +1,18 @@
+package io.github.mgrablo.BiblioNode.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.import")
+public record ImportProperties(
+		int batchSize,
+		int maxReportedErrors
+) {
+	public ImportProperties {
+		if (batchSize <= 0) {
+			batchSize = 500;
+		}
+		if (maxReportedErrors <= 0) {
+			maxReportedErrors = 1000;
+		}
+	}
+}
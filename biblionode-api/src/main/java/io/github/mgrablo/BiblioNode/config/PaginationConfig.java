@@ -25,6 +25,7 @@ public class PaginationConfig implements WebMvcConfigurer {
 		pageableResolver.setMaxPageSize(paginationProperties.maxPageSize());
 
 		resolvers.add(pageableResolver);
+		resolvers.add(new CursorRequestArgumentResolver(paginationProperties));
 	}
 
 	@Bean
@@ -2,8 +2,21 @@ package io.github.mgrablo.BiblioNode.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "app.pagination")
 public record PaginationProperties(
 	int defaultPageSize,
-	int maxPageSize
-) { }
+	int maxPageSize,
+	Duration countCacheTtl,
+	int countCacheMaxEntries
+) {
+	public PaginationProperties {
+		if (countCacheTtl == null) {
+			countCacheTtl = Duration.ofSeconds(30);
+		}
+		if (countCacheMaxEntries <= 0) {
+			countCacheMaxEntries = 1000;
+		}
+	}
+}
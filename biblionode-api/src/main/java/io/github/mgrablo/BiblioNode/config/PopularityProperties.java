@@ -0,0 +1,28 @@
+package io.github.mgrablo.BiblioNode.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.popularity")
+public record PopularityProperties(
+		Duration maxWindow,
+		int maxResults,
+		int sketchWidth,
+		int sketchDepth
+) {
+	public PopularityProperties {
+		if (maxWindow == null || maxWindow.toDays() < 1) {
+			maxWindow = Duration.ofDays(30);
+		}
+		if (maxResults <= 0) {
+			maxResults = 20;
+		}
+		if (sketchWidth <= 0) {
+			sketchWidth = 2048;
+		}
+		if (sketchDepth <= 0) {
+			sketchDepth = 4;
+		}
+	}
+}
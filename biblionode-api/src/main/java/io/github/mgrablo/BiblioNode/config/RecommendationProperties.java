@@ -0,0 +1,18 @@
+package io.github.mgrablo.BiblioNode.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.recommendations")
+public record RecommendationProperties(
+		int maxRelated,
+		int maxReaderHistory
+) {
+	public RecommendationProperties {
+		if (maxRelated <= 0) {
+			maxRelated = 10;
+		}
+		if (maxReaderHistory <= 0) {
+			maxReaderHistory = 50;
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package io.github.mgrablo.BiblioNode.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.search")
+public record SearchProperties(
+		SearchMode mode
+) {
+	public SearchProperties {
+		if (mode == null) {
+			mode = SearchMode.INDEX;
+		}
+	}
+
+	public enum SearchMode {
+		/** In-memory trigram index, falling back to JPQL {@code LIKE} queries. */
+		INDEX,
+		/** Native PostgreSQL queries backed by {@code pg_trgm} and full-text indexes. */
+		POSTGRES,
+		/** Portable JPQL {@code LIKE} queries, e.g. for H2. */
+		LIKE
+	}
+}
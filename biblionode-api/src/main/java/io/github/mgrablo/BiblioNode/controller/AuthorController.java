@@ -3,13 +3,20 @@ package io.github.mgrablo.BiblioNode.controller;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 import io.github.mgrablo.BiblioNode.dto.AuthorRequest;
 import io.github.mgrablo.BiblioNode.dto.AuthorResponse;
+import io.github.mgrablo.BiblioNode.dto.BatchResult;
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
 import io.github.mgrablo.BiblioNode.dto.ErrorResponse;
 import io.github.mgrablo.BiblioNode.service.AuthorService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -46,11 +53,62 @@ class AuthorController {
 	@GetMapping
 	@PreAuthorize("hasAnyRole('ADMIN', 'READER')")
 	@Operation(summary = "Get all authors", description = "Returns a paginated list of all authors.")
-	@ApiResponse(responseCode = "200", description = "Successfully retrieved list of authors")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully retrieved list of authors"),
+			@ApiResponse(responseCode = "304", description = "Catalog unchanged since the given ETag or date")
+	})
 	ResponseEntity<Page<AuthorResponse>> getAll(
-			@ParameterObject Pageable pageable
+			@ParameterObject Pageable pageable,
+			WebRequest request
+	) {
+		return ConditionalResponses.ifModified(request, authorService.catalogVersion(),
+				() -> authorService.getAll(pageable));
+	}
+
+	@GetMapping(params = {"count=false", "!after", "!ids"})
+	@PreAuthorize("hasAnyRole('ADMIN', 'READER')")
+	@Operation(summary = "Get all authors without total", description = "Returns a slice of authors that only reports whether a next page exists, skipping the count query.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully retrieved list of authors"),
+			@ApiResponse(responseCode = "304", description = "Catalog unchanged since the given ETag or date")
+	})
+	ResponseEntity<Slice<AuthorResponse>> getAllSlice(
+			@ParameterObject Pageable pageable,
+			WebRequest request
+	) {
+		return ConditionalResponses.ifModified(request, authorService.catalogVersion(),
+				() -> authorService.sliceAll(pageable));
+	}
+
+	@GetMapping(params = "after")
+	@PreAuthorize("hasAnyRole('ADMIN', 'READER')")
+	@Operation(summary = "Scroll all authors", description = "Returns authors ordered by ID after the given cursor, without counting or offsetting.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully retrieved list of authors"),
+			@ApiResponse(responseCode = "304", description = "Catalog unchanged since the given ETag or date"),
+			@ApiResponse(responseCode = "400", description = "Invalid cursor",
+					content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	ResponseEntity<CursorPage<AuthorResponse>> scrollAll(
+			@ParameterObject CursorRequest cursor,
+			WebRequest request
 	) {
-		var response = authorService.getAll(pageable);
+		return ConditionalResponses.ifModified(request, authorService.catalogVersion(),
+				() -> authorService.scrollAll(cursor));
+	}
+
+	@GetMapping(params = "ids")
+	@PreAuthorize("hasAnyRole('ADMIN', 'READER')")
+	@Operation(summary = "Get authors by IDs", description = "Returns up to 100 authors for a comma-separated list of IDs, in request order, with their books read in the same query. IDs that do not exist are listed in missing.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Found authors and missing IDs"),
+			@ApiResponse(responseCode = "400", description = "Too many IDs",
+					content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	ResponseEntity<BatchResult<AuthorResponse>> getByIds(
+			@RequestParam List<Long> ids
+	) {
+		var response = authorService.findByIds(ids);
 		return ResponseEntity.ok(response);
 	}
 
@@ -59,14 +117,16 @@ class AuthorController {
 	@Operation(summary = "Get author by ID", description = "Returns a single author by their unique identifier.")
 	@ApiResponses({
 			@ApiResponse(responseCode = "200", description = "Found the author"),
+			@ApiResponse(responseCode = "304", description = "Author unchanged since the given ETag or date"),
 			@ApiResponse(responseCode = "404", description = "Author not found",
 					content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 	})
 	ResponseEntity<AuthorResponse> getById(
-			@PathVariable Long id
+			@PathVariable Long id,
+			WebRequest request
 	) {
-		var response = authorService.findById(id);
-		return ResponseEntity.ok(response);
+		return ConditionalResponses.ifModified(request, authorService.findAuthorVersion(id),
+				() -> authorService.findById(id));
 	}
 
 	@GetMapping("/find")
@@ -3,14 +3,25 @@ package io.github.mgrablo.BiblioNode.controller;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
+
+import io.github.mgrablo.BiblioNode.dto.BatchResult;
 import io.github.mgrablo.BiblioNode.dto.BookRequest;
 import io.github.mgrablo.BiblioNode.dto.BookResponse;
+import io.github.mgrablo.BiblioNode.dto.BookSearchResult;
+import io.github.mgrablo.BiblioNode.dto.BookSummary;
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
 import io.github.mgrablo.BiblioNode.dto.ErrorResponse;
+import io.github.mgrablo.BiblioNode.dto.PopularBook;
+import io.github.mgrablo.BiblioNode.dto.Suggestion;
 import io.github.mgrablo.BiblioNode.service.BookService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -49,12 +60,66 @@ class BookController {
 
 	@GetMapping
 	@PreAuthorize("hasAnyRole('ADMIN', 'READER')")
-	@Operation(summary = "Get all books", description = "Returns a paginated list of all books in the library.")
-	@ApiResponse(responseCode = "200", description = "Successfully retrieved list of books")
-	public ResponseEntity<Page<BookResponse>> getAll(
-			@ParameterObject Pageable pageable
+	@Operation(summary = "Get all books", description = "Returns a paginated list of book summaries. Use GET /api/books/{bookId} for the full description. With availableOnly=true, only books that can be borrowed right now are listed.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully retrieved list of books"),
+			@ApiResponse(responseCode = "304", description = "Catalog unchanged since the given ETag or date")
+	})
+	public ResponseEntity<Page<BookSummary>> getAll(
+			@ParameterObject Pageable pageable,
+			@RequestParam(defaultValue = "false") boolean availableOnly,
+			WebRequest request
 			) {
-		var response = bookService.getAllBooks(pageable);
+		return ConditionalResponses.ifModified(request, bookService.catalogVersion(),
+				() -> availableOnly ? bookService.getAvailableBooks(pageable) : bookService.getAllBooks(pageable));
+	}
+
+	@GetMapping(params = {"count=false", "!after", "!ids"})
+	@PreAuthorize("hasAnyRole('ADMIN', 'READER')")
+	@Operation(summary = "Get all books without total", description = "Returns a slice of books that only reports whether a next page exists, skipping the count query.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully retrieved list of books"),
+			@ApiResponse(responseCode = "304", description = "Catalog unchanged since the given ETag or date")
+	})
+	public ResponseEntity<Slice<BookSummary>> getAllSlice(
+			@ParameterObject Pageable pageable,
+			@RequestParam(defaultValue = "false") boolean availableOnly,
+			WebRequest request
+	) {
+		return ConditionalResponses.ifModified(request, bookService.catalogVersion(),
+				() -> availableOnly ? bookService.sliceAvailableBooks(pageable) : bookService.sliceAllBooks(pageable));
+	}
+
+	@GetMapping(params = "after")
+	@PreAuthorize("hasAnyRole('ADMIN', 'READER')")
+	@Operation(summary = "Scroll all books", description = "Returns books ordered by ID after the given cursor, without counting or offsetting.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully retrieved list of books"),
+			@ApiResponse(responseCode = "304", description = "Catalog unchanged since the given ETag or date"),
+			@ApiResponse(responseCode = "400", description = "Invalid cursor",
+					content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public ResponseEntity<CursorPage<BookSummary>> scrollAll(
+			@ParameterObject CursorRequest cursor,
+			@RequestParam(defaultValue = "false") boolean availableOnly,
+			WebRequest request
+	) {
+		return ConditionalResponses.ifModified(request, bookService.catalogVersion(),
+				() -> availableOnly ? bookService.scrollAvailableBooks(cursor) : bookService.scrollAllBooks(cursor));
+	}
+
+	@GetMapping(params = "ids")
+	@PreAuthorize("hasAnyRole('ADMIN', 'READER')")
+	@Operation(summary = "Get books by IDs", description = "Returns up to 100 books for a comma-separated list of IDs, in request order, read in a single query. IDs that do not exist are listed in missing instead of failing the request.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Found books and missing IDs"),
+			@ApiResponse(responseCode = "400", description = "Too many IDs",
+					content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public ResponseEntity<BatchResult<BookResponse>> getByIds(
+			@RequestParam List<Long> ids
+	) {
+		var response = bookService.findBooksByIds(ids);
 		return ResponseEntity.ok(response);
 	}
 
@@ -63,14 +128,16 @@ class BookController {
 	@Operation(summary = "Get book by ID", description = "Returns a single book by its unique identifier.")
 	@ApiResponses({
 			@ApiResponse(responseCode = "200", description = "Found the book"),
+			@ApiResponse(responseCode = "304", description = "Book unchanged since the given ETag or date"),
 			@ApiResponse(responseCode = "404", description = "Book not found",
 					content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 	})
 	public ResponseEntity<BookResponse> getById(
-			@PathVariable Long bookId
+			@PathVariable Long bookId,
+			WebRequest request
 	) {
-		var response = bookService.findBookById(bookId);
-		return ResponseEntity.ok(response);
+		return ConditionalResponses.ifModified(request, bookService.findBookVersion(bookId),
+				() -> bookService.findBookById(bookId));
 	}
 
 	@GetMapping("/find")
@@ -88,16 +155,106 @@ class BookController {
 		return ResponseEntity.ok(response);
 	}
 
+	@GetMapping("/isbn/{isbn}")
+	@PreAuthorize("hasAnyRole('ADMIN', 'READER')")
+	@Operation(summary = "Find book by ISBN", description = "Returns a book by ISBN-10 or ISBN-13, with or without hyphens.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Found the book"),
+			@ApiResponse(responseCode = "400", description = "Not an ISBN",
+					content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+			@ApiResponse(responseCode = "404", description = "Book not found",
+					content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public ResponseEntity<BookResponse> findByIsbn(
+			@PathVariable String isbn
+	) {
+		var response = bookService.findBookByIsbn(isbn);
+		return ResponseEntity.ok(response);
+	}
+
 	@GetMapping("/search")
 	@PreAuthorize("hasAnyRole('ADMIN', 'READER')")
-	@Operation(summary = "Search books", description = "Searches for books by title and/or author name. Both parameters are optional.")
+	@Operation(summary = "Search books", description = "Searches for books by title and/or author name. Both parameters are optional. With availableOnly=true, only books that can be borrowed right now are returned.")
 	@ApiResponse(responseCode = "200", description = "Successfully retrieved list of books")
-	public ResponseEntity<Page<BookResponse>> searchBooks(
+	public ResponseEntity<Page<BookSummary>> searchBooks(
 			@RequestParam(required = false) String bookTitle,
 			@RequestParam(required = false) String authorName,
+			@RequestParam(defaultValue = "false") boolean availableOnly,
+			@ParameterObject Pageable pageable
+	) {
+		var response = availableOnly
+				? bookService.searchAvailableBooks(bookTitle, authorName, pageable)
+				: bookService.searchBooks(bookTitle, authorName, pageable);
+		return ResponseEntity.ok(response);
+	}
+
+	@GetMapping(value = "/search", params = "facets=true")
+	@PreAuthorize("hasAnyRole('ADMIN', 'READER')")
+	@Operation(summary = "Search books with facets", description = "Same as GET /api/books/search, plus the number of matches per author (top 20) and available vs. on loan, computed over all matches.")
+	@ApiResponse(responseCode = "200", description = "Successfully retrieved books and facet counts")
+	public ResponseEntity<BookSearchResult> searchBooksWithFacets(
+			@RequestParam(required = false) String bookTitle,
+			@RequestParam(required = false) String authorName,
+			@RequestParam(defaultValue = "false") boolean availableOnly,
+			@ParameterObject Pageable pageable
+	) {
+		var response = bookService.searchBooksWithFacets(bookTitle, authorName, availableOnly, pageable);
+		return ResponseEntity.ok(response);
+	}
+
+	@GetMapping("/suggest")
+	@PreAuthorize("hasAnyRole('ADMIN', 'READER')")
+	@Operation(summary = "Suggest completions", description = "Returns title and author name completions for a typed prefix, served from memory.")
+	@ApiResponse(responseCode = "200", description = "Successfully retrieved suggestions")
+	public ResponseEntity<List<Suggestion>> suggest(
+			@RequestParam String q,
+			@RequestParam(defaultValue = "10") int limit
+	) {
+		var response = bookService.suggest(q, limit);
+		return ResponseEntity.ok(response);
+	}
+
+	@GetMapping("/popular")
+	@PreAuthorize("hasAnyRole('ADMIN', 'READER')")
+	@Operation(summary = "Get popular books", description = "Returns the most borrowed books over a trailing window of whole days, e.g. 7d or 30d, with approximate loan counts served from memory.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully retrieved popular books"),
+			@ApiResponse(responseCode = "400", description = "Invalid window",
+					content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public ResponseEntity<List<PopularBook>> getPopular(
+			@RequestParam(defaultValue = "7d") String window,
+			@RequestParam(defaultValue = "10") int limit
+	) {
+		var response = bookService.findPopularBooks(window, limit);
+		return ResponseEntity.ok(response);
+	}
+
+	@GetMapping("/{bookId}/related")
+	@PreAuthorize("hasAnyRole('ADMIN', 'READER')")
+	@Operation(summary = "Get related books", description = "Returns books most often borrowed by readers of this book, strongest first, served from a precomputed co-borrow index.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully retrieved related books"),
+			@ApiResponse(responseCode = "404", description = "Book not found",
+					content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public ResponseEntity<List<BookResponse>> getRelated(
+			@PathVariable Long bookId,
+			@RequestParam(defaultValue = "10") int limit
+	) {
+		var response = bookService.findRelatedBooks(bookId, limit);
+		return ResponseEntity.ok(response);
+	}
+
+	@GetMapping("/search/description")
+	@PreAuthorize("hasAnyRole('ADMIN', 'READER')")
+	@Operation(summary = "Search book descriptions", description = "Full-text search over book descriptions. Results are ranked by relevance when PostgreSQL search mode is enabled.")
+	@ApiResponse(responseCode = "200", description = "Successfully retrieved list of books")
+	public ResponseEntity<Page<BookResponse>> searchByDescription(
+			@RequestParam String query,
 			@ParameterObject Pageable pageable
 	) {
-		var response = bookService.searchBooks(bookTitle, authorName, pageable);
+		var response = bookService.searchByDescription(query, pageable);
 		return ResponseEntity.ok(response);
 	}
 
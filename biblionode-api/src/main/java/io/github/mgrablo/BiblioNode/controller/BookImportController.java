@@ -0,0 +1,54 @@
+package io.github.mgrablo.BiblioNode.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+import io.github.mgrablo.BiblioNode.dto.BookImportResult;
+import io.github.mgrablo.BiblioNode.dto.ErrorResponse;
+import io.github.mgrablo.BiblioNode.dto.FileFormat;
+import io.github.mgrablo.BiblioNode.service.BookImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/books/import")
+@RequiredArgsConstructor
+@Tag(name = "Books", description = "Endpoints for managing books in the library")
+class BookImportController {
+	static final String TEXT_CSV_VALUE = "text/csv";
+
+	private final BookImportService bookImportService;
+
+	@PostMapping(consumes = TEXT_CSV_VALUE)
+	@PreAuthorize("hasRole('ADMIN')")
+	@Operation(summary = "Import books from CSV", description = "Streams a CSV file with a title,isbn,author[,coverUrl,description] header. Missing authors are created; invalid rows are reported and skipped.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Import finished, possibly with rejected rows"),
+			@ApiResponse(responseCode = "400", description = "Missing or invalid CSV header",
+					content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public ResponseEntity<BookImportResult> importCsv(InputStream body) {
+		var response = bookImportService.importBooks(body, FileFormat.CSV);
+		return ResponseEntity.ok(response);
+	}
+
+	@PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	@PreAuthorize("hasRole('ADMIN')")
+	@Operation(summary = "Import books from NDJSON", description = "Streams one JSON object per line with title, isbn, author, coverUrl and description. Missing authors are created; invalid rows are reported and skipped.")
+	@ApiResponse(responseCode = "200", description = "Import finished, possibly with rejected rows")
+	public ResponseEntity<BookImportResult> importNdjson(InputStream body) {
+		var response = bookImportService.importBooks(body, FileFormat.NDJSON);
+		return ResponseEntity.ok(response);
+	}
+}
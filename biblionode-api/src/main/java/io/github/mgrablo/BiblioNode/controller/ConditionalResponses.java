@@ -0,0 +1,38 @@
+package io.github.mgrablo.BiblioNode.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+import io.github.mgrablo.BiblioNode.dto.ResourceVersion;
+
+/**
+ * Answers {@code If-None-Match} / {@code If-Modified-Since} before the body is loaded.
+ */
+final class ConditionalResponses {
+	private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+	private ConditionalResponses() {
+	}
+
+	/**
+	 * Returns {@code 304 Not Modified} when the client already holds {@code version}; otherwise
+	 * loads the body and returns it with the validators. {@code private, no-cache} replaces the
+	 * default {@code no-store}, so clients keep the copy and revalidate it on every request.
+	 */
+	static <T> ResponseEntity<T> ifModified(WebRequest request, ResourceVersion version, Supplier<T> body) {
+		if (request.checkNotModified(version.eTag(), version.lastModified().toEpochMilli())) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+					.cacheControl(REVALIDATE)
+					.build();
+		}
+		return ResponseEntity.ok()
+				.cacheControl(REVALIDATE)
+				.eTag(version.eTag())
+				.lastModified(version.lastModified())
+				.body(body.get());
+	}
+}
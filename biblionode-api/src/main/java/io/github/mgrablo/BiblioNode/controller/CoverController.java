@@ -0,0 +1,110 @@
+package io.github.mgrablo.BiblioNode.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import io.github.mgrablo.BiblioNode.config.CoverProperties;
+import io.github.mgrablo.BiblioNode.dto.CoverFile;
+import io.github.mgrablo.BiblioNode.dto.ErrorResponse;
+import io.github.mgrablo.BiblioNode.service.CoverService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/books")
+@RequiredArgsConstructor
+@Tag(name = "Books", description = "Endpoints for managing books in the library")
+class CoverController {
+	private final CoverService coverService;
+	private final CoverProperties coverProperties;
+
+	@GetMapping("/{bookId}/cover")
+	@Operation(summary = "Get book cover", description = "Serves the book's cover image from the local cover cache, fetching it from coverUrl on first use. With thumbnail=true, a JPEG scaled to fit app.covers.thumbnail-size is returned. Supports single byte ranges. Public, so it can be used as an img src.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Cover image"),
+			@ApiResponse(responseCode = "206", description = "Requested byte range of the cover image"),
+			@ApiResponse(responseCode = "304", description = "Cover unchanged since the given ETag"),
+			@ApiResponse(responseCode = "404", description = "Book not found or has no cover",
+					content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+			@ApiResponse(responseCode = "416", description = "Range outside the image"),
+			@ApiResponse(responseCode = "502", description = "Cover could not be fetched from its origin",
+					content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public void getCover(
+			@PathVariable Long bookId,
+			@RequestParam(defaultValue = "false") boolean thumbnail,
+			HttpServletRequest request,
+			HttpServletResponse response
+	) throws IOException {
+		// The image is served from the API's origin; never let a browser reinterpret it or run anything in it.
+		response.setHeader("X-Content-Type-Options", "nosniff");
+		response.setHeader("Content-Security-Policy", "sandbox");
+		CoverFile cover = coverService.findCover(bookId, thumbnail);
+		long length = Files.size(cover.path());
+
+		response.setHeader(HttpHeaders.CACHE_CONTROL,
+				CacheControl.maxAge(coverProperties.maxAge()).cachePublic().getHeaderValue());
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		if (new ServletWebRequest(request, response).checkNotModified(cover.eTag())) {
+			return;
+		}
+		response.setContentType(cover.mediaType());
+
+		List<HttpRange> ranges = requestedRanges(request, cover.eTag());
+		if (ranges.size() != 1) {
+			// Covers are small; a multipart/byteranges answer is not worth it, the whole image is.
+			FileTransfers.send(request, response, cover.path(), 0, length);
+			return;
+		}
+
+		long start;
+		long end;
+		try {
+			start = ranges.getFirst().getRangeStart(length);
+			end = ranges.getFirst().getRangeEnd(length);
+		} catch (IllegalArgumentException e) {
+			response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+			response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+			return;
+		}
+		response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+		response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+		FileTransfers.send(request, response, cover.path(), start, end - start + 1);
+	}
+
+	/**
+	 * The ranges to serve, or none when there is no {@code Range} header, it cannot be parsed,
+	 * or an {@code If-Range} names a different version of the image.
+	 */
+	private static List<HttpRange> requestedRanges(HttpServletRequest request, String eTag) {
+		String range = request.getHeader(HttpHeaders.RANGE);
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		if (range == null || (ifRange != null && !ifRange.equals(eTag))) {
+			return List.of();
+		}
+		try {
+			return HttpRange.parseRanges(range);
+		} catch (IllegalArgumentException e) {
+			return List.of();
+		}
+	}
+}
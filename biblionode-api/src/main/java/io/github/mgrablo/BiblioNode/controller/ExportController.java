@@ -0,0 +1,56 @@
+package io.github.mgrablo.BiblioNode.controller;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import io.github.mgrablo.BiblioNode.dto.FileFormat;
+import io.github.mgrablo.BiblioNode.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+@Tag(name = "Export", description = "Endpoints for streaming whole tables for reporting")
+class ExportController {
+	private final ExportService exportService;
+
+	@GetMapping("/books")
+	@PreAuthorize("hasRole('ADMIN')")
+	@Operation(summary = "Export all books", description = "Streams every book ordered by ID as NDJSON or CSV, without paging or counting.")
+	@ApiResponse(responseCode = "200", description = "Export streamed")
+	public ResponseEntity<StreamingResponseBody> exportBooks(
+			@RequestParam(defaultValue = "NDJSON") FileFormat format
+	) {
+		return stream("books", format, output -> exportService.exportBooks(output, format));
+	}
+
+	@GetMapping("/loans")
+	@PreAuthorize("hasRole('ADMIN')")
+	@Operation(summary = "Export all loans", description = "Streams every loan ordered by ID as NDJSON or CSV, without paging or counting.")
+	@ApiResponse(responseCode = "200", description = "Export streamed")
+	public ResponseEntity<StreamingResponseBody> exportLoans(
+			@RequestParam(defaultValue = "NDJSON") FileFormat format
+	) {
+		return stream("loans", format, output -> exportService.exportLoans(output, format));
+	}
+
+	private static ResponseEntity<StreamingResponseBody> stream(String name, FileFormat format, StreamingResponseBody body) {
+		ContentDisposition disposition = ContentDisposition.attachment()
+				.filename(name + "." + format.extension())
+				.build();
+		return ResponseEntity.ok()
+				.contentType(format.mediaType())
+				.header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+				.body(body);
+	}
+}
@@ -0,0 +1,52 @@
+package io.github.mgrablo.BiblioNode.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Sends a byte range of a file without copying it through a heap buffer.
+ */
+final class FileTransfers {
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+	private FileTransfers() {
+	}
+
+	/**
+	 * Hands the file to Tomcat's sendfile support when the connector offers it, so the bytes go from
+	 * the page cache to the socket once the handler returns. Otherwise, e.g. behind a compressing
+	 * connector or in tests, {@link FileChannel#transferTo} writes straight to the response stream.
+	 */
+	static void send(HttpServletRequest request, HttpServletResponse response, Path path, long position, long count)
+			throws IOException {
+		response.setContentLengthLong(count);
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+			request.setAttribute(SENDFILE_START, position);
+			request.setAttribute(SENDFILE_END, position + count);
+			return;
+		}
+
+		try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+			WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+			long sent = 0;
+			while (sent < count) {
+				long written = file.transferTo(position + sent, count - sent, out);
+				if (written <= 0) {
+					break;
+				}
+				sent += written;
+			}
+		}
+	}
+}
@@ -3,6 +3,7 @@ package io.github.mgrablo.BiblioNode.controller;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -10,7 +11,12 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
+import io.github.mgrablo.BiblioNode.dto.BatchResult;
 import io.github.mgrablo.BiblioNode.dto.BorrowRequest;
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
 import io.github.mgrablo.BiblioNode.dto.ErrorResponse;
 import io.github.mgrablo.BiblioNode.dto.LoanResponse;
 import io.github.mgrablo.BiblioNode.service.LoanService;
@@ -101,6 +107,59 @@ class LoanController {
 		}
 	}
 
+	@GetMapping(params = "ids")
+	@PreAuthorize("hasRole('ADMIN')")
+	@Operation(
+			summary = "Get loans by IDs",
+			description = "Returns up to 100 loans for a comma-separated list of IDs, in request order, with book, author and reader read in a single query. IDs that do not exist are listed in missing."
+	)
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Found loans and missing IDs"),
+			@ApiResponse(responseCode = "400", description = "Too many IDs",
+					content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public ResponseEntity<BatchResult<LoanResponse>> getLoansByIds(
+			@RequestParam List<Long> ids
+	) {
+		return ResponseEntity.ok(loanService.findLoansByIds(ids));
+	}
+
+	@GetMapping(params = {"count=false", "!after", "!ids"})
+	@PreAuthorize("hasRole('ADMIN')")
+	@Operation(
+			summary = "Get loans with filters without total",
+			description = "Retrieves a slice of loans that only reports whether a next page exists, skipping the count query. Accepts the same filters as the paginated variant."
+	)
+	@ApiResponse(responseCode = "200", description = "Successfully retrieved list of loans")
+	public ResponseEntity<Slice<LoanResponse>> getLoansSlice(
+			@Parameter(description = "Filter by Reader ID") @RequestParam(required = false) Long readerId,
+			@Parameter(description = "Filter by Book ID") @RequestParam(required = false) Long bookId,
+			@Parameter(description = "Show only non-returned loans") @RequestParam(defaultValue = "false") boolean activeOnly,
+			@ParameterObject Pageable pageable
+	) {
+		return ResponseEntity.ok(loanService.sliceLoans(readerId, bookId, activeOnly, pageable));
+	}
+
+	@GetMapping(params = "after")
+	@PreAuthorize("hasRole('ADMIN')")
+	@Operation(
+			summary = "Scroll loans with filters",
+			description = "Retrieves loans newest first after the given cursor, without counting or offsetting. Accepts the same filters as the paginated variant."
+	)
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully retrieved list of loans"),
+			@ApiResponse(responseCode = "400", description = "Invalid cursor",
+					content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public ResponseEntity<CursorPage<LoanResponse>> scrollLoans(
+			@Parameter(description = "Filter by Reader ID") @RequestParam(required = false) Long readerId,
+			@Parameter(description = "Filter by Book ID") @RequestParam(required = false) Long bookId,
+			@Parameter(description = "Show only non-returned loans") @RequestParam(defaultValue = "false") boolean activeOnly,
+			@ParameterObject CursorRequest cursor
+	) {
+		return ResponseEntity.ok(loanService.scrollLoans(readerId, bookId, activeOnly, cursor));
+	}
+
 	@GetMapping("/overdue")
 	@PreAuthorize("hasRole('ADMIN')")
 	@Operation(
@@ -0,0 +1,46 @@
+package io.github.mgrablo.BiblioNode.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.mgrablo.BiblioNode.dto.ErrorResponse;
+import io.github.mgrablo.BiblioNode.dto.ReturnRequest;
+import io.github.mgrablo.BiblioNode.dto.ReturnResult;
+import io.github.mgrablo.BiblioNode.service.LoanReturnService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/loans/returns")
+@RequiredArgsConstructor
+@Tag(name = "Loans", description = "Endpoints for managing book borrowings, returns, and overdue tracking")
+class LoanReturnController {
+	private final LoanReturnService loanReturnService;
+
+	@PostMapping
+	@PreAuthorize("hasRole('ADMIN')")
+	@Operation(
+			summary = "Return several books",
+			description = "Registers up to 1000 returns by loan ID or book ID, committing every 100 in one transaction with set-based updates. " +
+					"A book ID is returned only when the book has exactly one open loan. Each item reports its own outcome."
+	)
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Returns processed, possibly with items that were not returned"),
+			@ApiResponse(responseCode = "400", description = "Too many IDs",
+					content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public ResponseEntity<ReturnResult> returnBooks(
+			@RequestBody ReturnRequest request
+	) {
+		return ResponseEntity.ok(loanReturnService.returnBooks(request));
+	}
+}
@@ -3,6 +3,7 @@ package io.github.mgrablo.BiblioNode.controller;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -11,6 +12,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
+import io.github.mgrablo.BiblioNode.dto.BatchResult;
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
 import io.github.mgrablo.BiblioNode.dto.LoanResponse;
 import io.github.mgrablo.BiblioNode.dto.UserProfileResponse;
 import io.github.mgrablo.BiblioNode.service.LoanService;
@@ -45,4 +51,34 @@ public class MeController {
 		Page<LoanResponse> loans = loanService.getLoansByReaderEmail(email, pageable);
 		return ResponseEntity.ok(loans);
 	}
+
+	@GetMapping(value = "/loans", params = {"count=false", "!after", "!ids"})
+	public ResponseEntity<Slice<LoanResponse>> getMyLoansSlice(
+			@AuthenticationPrincipal Jwt jwt,
+			@ParameterObject Pageable pageable
+	) {
+		String email = jwt.getSubject();
+		Slice<LoanResponse> loans = loanService.sliceLoansByReaderEmail(email, pageable);
+		return ResponseEntity.ok(loans);
+	}
+
+	@GetMapping(value = "/loans", params = "ids")
+	public ResponseEntity<BatchResult<LoanResponse>> getMyLoansByIds(
+			@AuthenticationPrincipal Jwt jwt,
+			@RequestParam List<Long> ids
+	) {
+		String email = jwt.getSubject();
+		BatchResult<LoanResponse> loans = loanService.findLoansByIdsAndReaderEmail(ids, email);
+		return ResponseEntity.ok(loans);
+	}
+
+	@GetMapping(value = "/loans", params = "after")
+	public ResponseEntity<CursorPage<LoanResponse>> scrollMyLoans(
+			@AuthenticationPrincipal Jwt jwt,
+			@ParameterObject CursorRequest cursor
+	) {
+		String email = jwt.getSubject();
+		CursorPage<LoanResponse> loans = loanService.scrollLoansByReaderEmail(email, cursor);
+		return ResponseEntity.ok(loans);
+	}
 }
@@ -3,10 +3,13 @@ package io.github.mgrablo.BiblioNode.controller;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
 import io.github.mgrablo.BiblioNode.dto.ErrorResponse;
 import io.github.mgrablo.BiblioNode.dto.ReaderRequest;
 import io.github.mgrablo.BiblioNode.dto.ReaderResponse;
@@ -68,6 +71,32 @@ class ReaderController {
 		return ResponseEntity.ok(response);
 	}
 
+	@GetMapping(params = {"count=false", "!after"})
+	@PreAuthorize("hasRole('ADMIN')")
+	@Operation(summary = "Get all readers without total", description = "Returns a slice of readers that only reports whether a next page exists, skipping the count query.")
+	@ApiResponse(responseCode = "200", description = "Successfully retrieved list of readers")
+	public ResponseEntity<Slice<ReaderResponse>> getAllSlice(
+			@ParameterObject Pageable pageable
+	) {
+		var response = readerService.sliceAll(pageable);
+		return ResponseEntity.ok(response);
+	}
+
+	@GetMapping(params = "after")
+	@PreAuthorize("hasRole('ADMIN')")
+	@Operation(summary = "Scroll all readers", description = "Returns readers ordered by ID after the given cursor, without counting or offsetting.")
+	@ApiResponses({
+			@ApiResponse(responseCode = "200", description = "Successfully retrieved list of readers"),
+			@ApiResponse(responseCode = "400", description = "Invalid cursor",
+					content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	public ResponseEntity<CursorPage<ReaderResponse>> scrollAll(
+			@ParameterObject CursorRequest cursor
+	) {
+		var response = readerService.scrollAll(cursor);
+		return ResponseEntity.ok(response);
+	}
+
 	@PutMapping("/{id}")
 	@PreAuthorize("hasRole('ADMIN')")
 	@Operation(summary = "Update a reader", description = "Updates an existing reader's information.")
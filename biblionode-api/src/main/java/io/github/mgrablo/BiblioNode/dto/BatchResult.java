@@ -0,0 +1,11 @@
+package io.github.mgrablo.BiblioNode.dto;
+
+import java.util.List;
+
+/**
+ * Resources looked up by id, in the order the ids were requested; ids with no match are listed in {@code missing}.
+ */
+public record BatchResult<T>(
+		List<T> results,
+		List<Long> missing
+) { }
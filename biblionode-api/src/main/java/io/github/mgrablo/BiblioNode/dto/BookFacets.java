@@ -0,0 +1,19 @@
+package io.github.mgrablo.BiblioNode.dto;
+
+import java.util.List;
+
+/**
+ * Counts over every book matching a search, not just the returned page.
+ * {@code authors} holds the authors with the most matches, most first.
+ */
+public record BookFacets(
+		List<AuthorFacet> authors,
+		long available,
+		long onLoan
+) {
+	public record AuthorFacet(
+			Long authorId,
+			String authorName,
+			long count
+	) { }
+}
@@ -0,0 +1,16 @@
+package io.github.mgrablo.BiblioNode.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} holds at most the configured number of entries,
+ * while {@code failed} counts every rejected row.
+ */
+public record BookImportResult(
+		long imported,
+		long failed,
+		int authorsCreated,
+		List<RowError> errors
+) {
+	public record RowError(long line, String message) { }
+}
@@ -0,0 +1,12 @@
+package io.github.mgrablo.BiblioNode.dto;
+
+/**
+ * One book in a bulk import file. The author is given by name and created when it does not exist yet.
+ */
+public record BookImportRow(
+		String title,
+		String isbn,
+		String author,
+		String coverUrl,
+		String description
+) { }
@@ -1,5 +1,6 @@
 package io.github.mgrablo.BiblioNode.dto;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -17,9 +18,16 @@ public record BookRequest(
 		@Size(max = 1000, message = "The cover URL cannot exceed 1000 characters")
 		String coverUrl,
 
-		String description
+		String description,
+
+		@Min(value = 1, message = "A book must have at least one copy")
+		Integer totalCopies
 ) {
 	public BookRequest(String title, String isbn, Long authorId) {
-		this(title, isbn, authorId, null, null);
+		this(title, isbn, authorId, null, null, null);
+	}
+
+	public BookRequest(String title, String isbn, Long authorId, String coverUrl, String description) {
+		this(title, isbn, authorId, coverUrl, description, null);
 	}
 }
@@ -11,6 +11,8 @@ public record BookResponse(
 		String authorName,
 		Long authorId,
 		boolean available,
+		int availableCopies,
+		int totalCopies,
 		String coverUrl,
 		String description,
 
@@ -0,0 +1,8 @@
+package io.github.mgrablo.BiblioNode.dto;
+
+import org.springframework.data.domain.Page;
+
+public record BookSearchResult(
+		Page<BookSummary> results,
+		BookFacets facets
+) { }
@@ -0,0 +1,11 @@
+package io.github.mgrablo.BiblioNode.dto;
+
+public record BookSummary(
+		Long id,
+		String title,
+		String isbn,
+		String authorName,
+		Long authorId,
+		boolean available,
+		String coverUrl
+) { }
@@ -0,0 +1,13 @@
+package io.github.mgrablo.BiblioNode.dto;
+
+import java.nio.file.Path;
+
+/**
+ * A cover image in the local store. Files are named by content hash and never rewritten,
+ * so {@code eTag} identifies the bytes at {@code path} for good.
+ */
+public record CoverFile(
+		Path path,
+		String mediaType,
+		String eTag
+) { }
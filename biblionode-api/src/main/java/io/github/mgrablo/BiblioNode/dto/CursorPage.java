@@ -0,0 +1,10 @@
+package io.github.mgrablo.BiblioNode.dto;
+
+import java.util.List;
+
+public record CursorPage<T>(
+		List<T> content,
+		int size,
+		String nextCursor,
+		boolean hasNext
+) { }
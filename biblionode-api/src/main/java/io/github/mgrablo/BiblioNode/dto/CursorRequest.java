@@ -0,0 +1,10 @@
+package io.github.mgrablo.BiblioNode.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record CursorRequest(
+		@Schema(description = "Cursor returned as nextCursor by the previous page. Send an empty value for the first page.")
+		String after,
+		@Schema(description = "Number of elements to return")
+		int size
+) { }
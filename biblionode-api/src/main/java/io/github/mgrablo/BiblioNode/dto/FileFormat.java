@@ -0,0 +1,27 @@
+package io.github.mgrablo.BiblioNode.dto;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Line-oriented formats accepted by the bulk import and produced by the exports.
+ */
+public enum FileFormat {
+	CSV(new MediaType("text", "csv"), "csv"),
+	NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+	private final MediaType mediaType;
+	private final String extension;
+
+	FileFormat(MediaType mediaType, String extension) {
+		this.mediaType = mediaType;
+		this.extension = extension;
+	}
+
+	public MediaType mediaType() {
+		return mediaType;
+	}
+
+	public String extension() {
+		return extension;
+	}
+}
@@ -0,0 +1,6 @@
+package io.github.mgrablo.BiblioNode.dto;
+
+public record PopularBook(
+		BookResponse book,
+		long loans
+) { }
@@ -0,0 +1,28 @@
+package io.github.mgrablo.BiblioNode.dto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Validators for a conditional GET: a strong, quoted {@code ETag} and the instant sent as {@code Last-Modified}.
+ */
+public record ResourceVersion(String eTag, Instant lastModified) {
+	/**
+	 * Builds a version from the audit timestamps a representation depends on. The ETag encodes each
+	 * timestamp to the microsecond; {@code Last-Modified} is the latest of them.
+	 */
+	public static ResourceVersion of(String kind, Object key, LocalDateTime... timestamps) {
+		Instant lastModified = Instant.EPOCH;
+		StringBuilder eTag = new StringBuilder("\"").append(kind).append('-').append(key);
+		for (LocalDateTime timestamp : timestamps) {
+			Instant instant = timestamp == null ? Instant.EPOCH : timestamp.atZone(ZoneId.systemDefault()).toInstant();
+			eTag.append('-').append(Long.toString(ChronoUnit.MICROS.between(Instant.EPOCH, instant), 36));
+			if (instant.isAfter(lastModified)) {
+				lastModified = instant;
+			}
+		}
+		return new ResourceVersion(eTag.append('"').toString(), lastModified);
+	}
+}
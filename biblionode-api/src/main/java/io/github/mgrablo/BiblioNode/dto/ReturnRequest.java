@@ -0,0 +1,11 @@
+package io.github.mgrablo.BiblioNode.dto;
+
+import java.util.List;
+
+/**
+ * Loans to close, given by loan id, by book id, or both. A book id stands for that book's open loan.
+ */
+public record ReturnRequest(
+		List<Long> loanIds,
+		List<Long> bookIds
+) { }
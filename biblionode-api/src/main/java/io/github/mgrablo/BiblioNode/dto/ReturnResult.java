@@ -0,0 +1,28 @@
+package io.github.mgrablo.BiblioNode.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk return, one item per distinct requested id: loan ids first, then book ids,
+ * each in request order. {@code notReturned} counts every other item, whatever its status.
+ */
+public record ReturnResult(
+		int returned,
+		int notReturned,
+		List<Item> items
+) {
+	public record Item(Long loanId, Long bookId, Status status) { }
+
+	public enum Status {
+		RETURNED,
+		ALREADY_RETURNED,
+		/** No loan with the requested loan id. */
+		NOT_FOUND,
+		/** The requested book has no open loan. */
+		NOT_BORROWED,
+		/** The requested book has several open loans, so the copy cannot be matched to one of them. */
+		AMBIGUOUS,
+		/** The item's chunk was rolled back. */
+		FAILED
+	}
+}
@@ -0,0 +1,11 @@
+package io.github.mgrablo.BiblioNode.dto;
+
+public record Suggestion(
+		String text,
+		Type type
+) {
+	public enum Type {
+		TITLE,
+		AUTHOR
+	}
+}
@@ -0,0 +1,6 @@
+package io.github.mgrablo.BiblioNode.event;
+
+public record AuthorChangedEvent(
+		Long authorId,
+		String name
+) { }
@@ -0,0 +1,5 @@
+package io.github.mgrablo.BiblioNode.event;
+
+public record AuthorDeletedEvent(
+		Long authorId
+) { }
@@ -0,0 +1,6 @@
+package io.github.mgrablo.BiblioNode.event;
+
+public record BookAvailabilityChangedEvent(
+		Long bookId,
+		boolean available
+) { }
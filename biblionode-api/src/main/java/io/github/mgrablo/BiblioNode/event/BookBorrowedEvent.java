@@ -0,0 +1,7 @@
+package io.github.mgrablo.BiblioNode.event;
+
+public record BookBorrowedEvent(
+		Long loanId,
+		Long bookId,
+		Long readerId
+) { }
@@ -0,0 +1,8 @@
+package io.github.mgrablo.BiblioNode.event;
+
+public record BookChangedEvent(
+		Long bookId,
+		String title,
+		Long authorId,
+		String authorName
+) { }
@@ -0,0 +1,7 @@
+package io.github.mgrablo.BiblioNode.exception;
+
+public class BatchTooLargeException extends RuntimeException {
+	public BatchTooLargeException(String message) {
+		super(message);
+	}
+}
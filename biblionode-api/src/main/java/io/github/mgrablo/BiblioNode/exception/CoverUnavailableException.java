@@ -0,0 +1,11 @@
+package io.github.mgrablo.BiblioNode.exception;
+
+public class CoverUnavailableException extends RuntimeException {
+	public CoverUnavailableException(String message) {
+		super(message);
+	}
+
+	public CoverUnavailableException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
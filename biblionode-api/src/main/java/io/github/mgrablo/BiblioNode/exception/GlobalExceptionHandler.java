@@ -101,6 +101,84 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
 	}
 
+	@ExceptionHandler(InvalidCursorException.class)
+	public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException e, HttpServletRequest request) {
+		ErrorResponse errorResponse = new ErrorResponse(
+				LocalDateTime.now(),
+				HttpStatus.BAD_REQUEST.value(),
+				HttpStatus.BAD_REQUEST.getReasonPhrase(),
+				e.getMessage(),
+				request.getRequestURI()
+		);
+
+		return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(InvalidIsbnException.class)
+	public ResponseEntity<ErrorResponse> handleInvalidIsbn(InvalidIsbnException e, HttpServletRequest request) {
+		ErrorResponse errorResponse = new ErrorResponse(
+				LocalDateTime.now(),
+				HttpStatus.BAD_REQUEST.value(),
+				HttpStatus.BAD_REQUEST.getReasonPhrase(),
+				e.getMessage(),
+				request.getRequestURI()
+		);
+
+		return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(InvalidImportException.class)
+	public ResponseEntity<ErrorResponse> handleInvalidImport(InvalidImportException e, HttpServletRequest request) {
+		ErrorResponse errorResponse = new ErrorResponse(
+				LocalDateTime.now(),
+				HttpStatus.BAD_REQUEST.value(),
+				HttpStatus.BAD_REQUEST.getReasonPhrase(),
+				e.getMessage(),
+				request.getRequestURI()
+		);
+
+		return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(InvalidWindowException.class)
+	public ResponseEntity<ErrorResponse> handleInvalidWindow(InvalidWindowException e, HttpServletRequest request) {
+		ErrorResponse errorResponse = new ErrorResponse(
+				LocalDateTime.now(),
+				HttpStatus.BAD_REQUEST.value(),
+				HttpStatus.BAD_REQUEST.getReasonPhrase(),
+				e.getMessage(),
+				request.getRequestURI()
+		);
+
+		return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(BatchTooLargeException.class)
+	public ResponseEntity<ErrorResponse> handleBatchTooLarge(BatchTooLargeException e, HttpServletRequest request) {
+		ErrorResponse errorResponse = new ErrorResponse(
+				LocalDateTime.now(),
+				HttpStatus.BAD_REQUEST.value(),
+				HttpStatus.BAD_REQUEST.getReasonPhrase(),
+				e.getMessage(),
+				request.getRequestURI()
+		);
+
+		return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(CoverUnavailableException.class)
+	public ResponseEntity<ErrorResponse> handleCoverUnavailable(CoverUnavailableException e, HttpServletRequest request) {
+		ErrorResponse errorResponse = new ErrorResponse(
+				LocalDateTime.now(),
+				HttpStatus.BAD_GATEWAY.value(),
+				HttpStatus.BAD_GATEWAY.getReasonPhrase(),
+				e.getMessage(),
+				request.getRequestURI()
+		);
+
+		return new ResponseEntity<>(errorResponse, HttpStatus.BAD_GATEWAY);
+	}
+
 	@ExceptionHandler(MethodArgumentTypeMismatchException.class)
 	public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException e, HttpServletRequest request) {
 		String targetType = Optional.ofNullable(e.getRequiredType())
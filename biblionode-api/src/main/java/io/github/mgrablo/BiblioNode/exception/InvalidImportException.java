@@ -0,0 +1,7 @@
+package io.github.mgrablo.BiblioNode.exception;
+
+public class InvalidImportException extends RuntimeException {
+	public InvalidImportException(String message) {
+		super(message);
+	}
+}
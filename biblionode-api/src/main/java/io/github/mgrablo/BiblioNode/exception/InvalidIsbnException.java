@@ -0,0 +1,7 @@
+package io.github.mgrablo.BiblioNode.exception;
+
+public class InvalidIsbnException extends RuntimeException {
+	public InvalidIsbnException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,7 @@
+package io.github.mgrablo.BiblioNode.exception;
+
+public class InvalidWindowException extends RuntimeException {
+	public InvalidWindowException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,167 @@
+package io.github.mgrablo.BiblioNode.index;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import io.github.mgrablo.BiblioNode.event.BookAvailabilityChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookDeletedEvent;
+import io.github.mgrablo.BiblioNode.repository.BookAvailabilityView;
+import io.github.mgrablo.BiblioNode.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bitmaps of known and currently available book ids, one bit per id. Ids come from a sequence
+ * and stay dense, so a plain {@link BitSet} takes about 125 KB per million books.
+ * Bits are flipped only after the loan or book write has committed, from the committed value.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookAvailabilityIndex {
+	private final BookRepository bookRepository;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final BitSet known = new BitSet();
+	private final BitSet available = new BitSet();
+
+	private volatile boolean ready = false;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void rebuild() {
+		lock.writeLock().lock();
+		try {
+			known.clear();
+			available.clear();
+
+			try (Stream<BookAvailabilityView> books = bookRepository.streamAllAvailability()) {
+				books.forEach(book -> put(book.getId(), book.isAvailable()));
+			}
+
+			ready = true;
+			log.info("Book availability index built: {} of {} books available", available.cardinality(), known.cardinality());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	public int availableCount() {
+		lock.readLock().lock();
+		try {
+			return available.cardinality();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns up to {@code limit} available ids in ascending order, skipping the first {@code offset}.
+	 */
+	public List<Long> availableIds(long offset, int limit) {
+		List<Long> ids = new ArrayList<>(Math.min(limit, 1024));
+		lock.readLock().lock();
+		try {
+			int id = available.nextSetBit(0);
+			for (long skipped = 0; id >= 0 && skipped < offset; skipped++) {
+				id = available.nextSetBit(id + 1);
+			}
+			while (id >= 0 && ids.size() < limit) {
+				ids.add((long) id);
+				id = available.nextSetBit(id + 1);
+			}
+			return ids;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Keeps the ids of available books, preserving their order.
+	 */
+	public List<Long> retainAvailable(List<Long> ids) {
+		lock.readLock().lock();
+		try {
+			return ids.stream().filter(this::isSet).toList();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Re-reads the committed value instead of trusting {@code event.available()}: listeners of concurrent
+	 * transactions may run in any order, and the event of an older commit would otherwise overwrite a newer one.
+	 * The read happens under the write lock, so the last listener to run always stores the latest value.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onAvailabilityChanged(BookAvailabilityChangedEvent event) {
+		lock.writeLock().lock();
+		try {
+			bookRepository.findAvailableById(event.bookId()).ifPresentOrElse(
+					isAvailable -> put(event.bookId(), isAvailable),
+					() -> remove(event.bookId()));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * New books are created available; edits to known books never change availability.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookChanged(BookChangedEvent event) {
+		lock.writeLock().lock();
+		try {
+			if (!known.get(bit(event.bookId()))) {
+				put(event.bookId(), true);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookDeleted(BookDeletedEvent event) {
+		lock.writeLock().lock();
+		try {
+			remove(event.bookId());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private boolean isSet(Long bookId) {
+		return bookId <= Integer.MAX_VALUE && available.get(bookId.intValue());
+	}
+
+	private void put(Long bookId, boolean isAvailable) {
+		int bit = bit(bookId);
+		known.set(bit);
+		available.set(bit, isAvailable);
+	}
+
+	private void remove(Long bookId) {
+		int bit = bit(bookId);
+		known.clear(bit);
+		available.clear(bit);
+	}
+
+	private static int bit(Long bookId) {
+		return Math.toIntExact(bookId);
+	}
+}
@@ -0,0 +1,310 @@
+package io.github.mgrablo.BiblioNode.index;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import io.github.mgrablo.BiblioNode.event.AuthorChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookDeletedEvent;
+import io.github.mgrablo.BiblioNode.repository.AuthorNameView;
+import io.github.mgrablo.BiblioNode.repository.AuthorRepository;
+import io.github.mgrablo.BiblioNode.repository.BookRepository;
+import io.github.mgrablo.BiblioNode.repository.BookTitleView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory trigram index over book titles and author names.
+ * Answers the same case-insensitive "contains" questions as
+ * {@link BookRepository#searchByTitleAndAuthor} without scanning the books table.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookSearchIndex {
+	private static final int GRAM_SIZE = 3;
+	private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "title");
+
+	private final BookRepository bookRepository;
+	private final AuthorRepository authorRepository;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<Long, IndexedBook> books = new HashMap<>();
+	private final Map<Long, String> authorNames = new HashMap<>();
+	private final Map<Long, Set<Long>> booksByAuthor = new HashMap<>();
+	private final Map<String, Set<Long>> titleGrams = new HashMap<>();
+	private final Map<String, Set<Long>> authorGrams = new HashMap<>();
+
+	private volatile boolean ready = false;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void rebuild() {
+		lock.writeLock().lock();
+		try {
+			books.clear();
+			authorNames.clear();
+			booksByAuthor.clear();
+			titleGrams.clear();
+			authorGrams.clear();
+
+			try (Stream<AuthorNameView> authors = authorRepository.streamAllNames()) {
+				authors.forEach(author -> putAuthor(author.getId(), author.getName()));
+			}
+			try (Stream<BookTitleView> titles = bookRepository.streamAllTitles()) {
+				titles.forEach(book -> putBook(book.getId(), book.getTitle(), book.getAuthorId()));
+			}
+
+			ready = true;
+			log.info("Book search index built: {} books, {} authors", books.size(), authorNames.size());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	public boolean supports(Sort sort) {
+		return sort.stream().allMatch(order -> SORTABLE_PROPERTIES.contains(order.getProperty()));
+	}
+
+	/**
+	 * Returns ids of all books whose title and author name contain the given fragments,
+	 * ordered by {@code sort}. Blank fragments are ignored, as in the repository query.
+	 */
+	public List<Long> search(String title, String authorName, Sort sort) {
+		String titleQuery = normalize(title);
+		String authorQuery = normalize(authorName);
+
+		lock.readLock().lock();
+		try {
+			Set<Long> authorIds = authorQuery == null ? null : matchAuthors(authorQuery);
+
+			Collection<Long> candidates;
+			if (titleQuery != null) {
+				candidates = candidates(titleGrams, titleQuery, books.keySet());
+			} else if (authorIds != null) {
+				candidates = authorIds.stream()
+						.flatMap(authorId -> booksByAuthor.getOrDefault(authorId, Set.of()).stream())
+						.toList();
+			} else {
+				candidates = books.keySet();
+			}
+
+			List<IndexedBook> matches = new ArrayList<>();
+			for (Long id : candidates) {
+				IndexedBook book = books.get(id);
+				if (titleQuery != null && !book.normalizedTitle().contains(titleQuery)) {
+					continue;
+				}
+				if (authorIds != null && !authorIds.contains(book.authorId())) {
+					continue;
+				}
+				matches.add(book);
+			}
+
+			matches.sort(comparator(sort));
+			return matches.stream().map(IndexedBook::id).toList();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Counts the given books per author id, e.g. the ids returned by {@link #search}.
+	 */
+	public Map<Long, Long> countByAuthor(Collection<Long> bookIds) {
+		lock.readLock().lock();
+		try {
+			Map<Long, Long> counts = new HashMap<>();
+			for (Long id : bookIds) {
+				IndexedBook book = books.get(id);
+				if (book != null) {
+					counts.merge(book.authorId(), 1L, Long::sum);
+				}
+			}
+			return counts;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public void index(Long bookId, String title, Long authorId, String authorName) {
+		lock.writeLock().lock();
+		try {
+			removeBook(bookId);
+			putAuthor(authorId, authorName);
+			putBook(bookId, title, authorId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long bookId) {
+		lock.writeLock().lock();
+		try {
+			removeBook(bookId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void renameAuthor(Long authorId, String name) {
+		lock.writeLock().lock();
+		try {
+			putAuthor(authorId, name);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookChanged(BookChangedEvent event) {
+		index(event.bookId(), event.title(), event.authorId(), event.authorName());
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookDeleted(BookDeletedEvent event) {
+		remove(event.bookId());
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onAuthorChanged(AuthorChangedEvent event) {
+		renameAuthor(event.authorId(), event.name());
+	}
+
+	private void putBook(Long bookId, String title, Long authorId) {
+		String normalizedTitle = normalize(title);
+		books.put(bookId, new IndexedBook(bookId, title, normalizedTitle == null ? "" : normalizedTitle, authorId));
+		booksByAuthor.computeIfAbsent(authorId, id -> new HashSet<>()).add(bookId);
+		addGrams(titleGrams, normalizedTitle, bookId);
+	}
+
+	private void removeBook(Long bookId) {
+		IndexedBook existing = books.remove(bookId);
+		if (existing == null) {
+			return;
+		}
+
+		Set<Long> authorBooks = booksByAuthor.get(existing.authorId());
+		if (authorBooks != null) {
+			authorBooks.remove(bookId);
+			if (authorBooks.isEmpty()) {
+				booksByAuthor.remove(existing.authorId());
+			}
+		}
+		removeGrams(titleGrams, existing.normalizedTitle(), bookId);
+	}
+
+	private void putAuthor(Long authorId, String name) {
+		String normalizedName = normalize(name);
+		String previous = normalizedName == null ? authorNames.remove(authorId) : authorNames.put(authorId, normalizedName);
+		if (Objects.equals(previous, normalizedName)) {
+			return;
+		}
+		removeGrams(authorGrams, previous, authorId);
+		addGrams(authorGrams, normalizedName, authorId);
+	}
+
+	private Set<Long> matchAuthors(String query) {
+		Set<Long> matches = new HashSet<>();
+		for (Long authorId : candidates(authorGrams, query, authorNames.keySet())) {
+			if (authorNames.get(authorId).contains(query)) {
+				matches.add(authorId);
+			}
+		}
+		return matches;
+	}
+
+	private static Collection<Long> candidates(Map<String, Set<Long>> index, String query, Collection<Long> all) {
+		if (query.length() < GRAM_SIZE) {
+			return all;
+		}
+
+		List<Set<Long>> postings = new ArrayList<>();
+		for (String gram : grams(query)) {
+			Set<Long> posting = index.get(gram);
+			if (posting == null) {
+				return List.of();
+			}
+			postings.add(posting);
+		}
+		postings.sort(Comparator.comparingInt(Set::size));
+
+		Set<Long> result = new HashSet<>(postings.getFirst());
+		for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+			result.retainAll(postings.get(i));
+		}
+		return result;
+	}
+
+	private static void addGrams(Map<String, Set<Long>> index, String value, Long id) {
+		for (String gram : grams(value)) {
+			index.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+		}
+	}
+
+	private static void removeGrams(Map<String, Set<Long>> index, String value, Long id) {
+		for (String gram : grams(value)) {
+			Set<Long> posting = index.get(gram);
+			if (posting != null) {
+				posting.remove(id);
+				if (posting.isEmpty()) {
+					index.remove(gram);
+				}
+			}
+		}
+	}
+
+	private static Set<String> grams(String value) {
+		if (value == null || value.length() < GRAM_SIZE) {
+			return Set.of();
+		}
+		Set<String> grams = new HashSet<>();
+		for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+			grams.add(value.substring(i, i + GRAM_SIZE));
+		}
+		return grams;
+	}
+
+	private static String normalize(String value) {
+		if (value == null || value.isEmpty()) {
+			return null;
+		}
+		return value.toLowerCase(Locale.ROOT);
+	}
+
+	private static Comparator<IndexedBook> comparator(Sort sort) {
+		Comparator<IndexedBook> byId = Comparator.comparing(IndexedBook::id);
+		Comparator<IndexedBook> comparator = null;
+
+		for (Sort.Order order : sort) {
+			Comparator<IndexedBook> next;
+			if ("title".equals(order.getProperty())) {
+				Comparator<String> titleOrder = order.isIgnoreCase() ? String.CASE_INSENSITIVE_ORDER : Comparator.naturalOrder();
+				next = Comparator.comparing(IndexedBook::title, titleOrder);
+			} else {
+				next = byId;
+			}
+			if (order.isDescending()) {
+				next = next.reversed();
+			}
+			comparator = comparator == null ? next : comparator.thenComparing(next);
+		}
+
+		return comparator == null ? byId : comparator.thenComparing(byId);
+	}
+
+	private record IndexedBook(Long id, String title, String normalizedTitle, Long authorId) { }
+}
@@ -0,0 +1,261 @@
+package io.github.mgrablo.BiblioNode.index;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import io.github.mgrablo.BiblioNode.dto.Suggestion;
+import io.github.mgrablo.BiblioNode.event.AuthorChangedEvent;
+import io.github.mgrablo.BiblioNode.event.AuthorDeletedEvent;
+import io.github.mgrablo.BiblioNode.event.BookChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookDeletedEvent;
+import io.github.mgrablo.BiblioNode.repository.AuthorNameView;
+import io.github.mgrablo.BiblioNode.repository.AuthorRepository;
+import io.github.mgrablo.BiblioNode.repository.BookRepository;
+import io.github.mgrablo.BiblioNode.repository.BookTitleView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sorted map of normalized title and author-name keys for typeahead.
+ * Every word start of a text is a key, so "kin" completes both "King Lear" and "The Way of Kings";
+ * a prefix query is a single {@link NavigableMap#subMap} range scan. Any run of characters that are
+ * not letters or digits separates words, so "22" also completes "Catch-22".
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookSuggestionIndex {
+	private static final Pattern SEPARATORS = Pattern.compile("\\P{Alnum}+", Pattern.UNICODE_CHARACTER_CLASS);
+	private static final int EXACT = 0;
+	private static final int LEADING = 1;
+	private static final int INNER = 2;
+	private static final int REPEATED = -1;
+	private static final Comparator<Entry> ORDER = Comparator
+			.comparingInt((Entry entry) -> entry.suggestion().text().length())
+			.thenComparing(entry -> entry.suggestion().text())
+			.thenComparing(entry -> entry.suggestion().type());
+
+	private final BookRepository bookRepository;
+	private final AuthorRepository authorRepository;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final NavigableMap<String, Map<Entry, Integer>> keys = new TreeMap<>();
+	private final Map<Long, String> titles = new HashMap<>();
+	private final Map<Long, String> authorNames = new HashMap<>();
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void rebuild() {
+		lock.writeLock().lock();
+		try {
+			keys.clear();
+			titles.clear();
+			authorNames.clear();
+
+			try (Stream<AuthorNameView> authors = authorRepository.streamAllNames()) {
+				authors.forEach(author -> putAuthor(author.getId(), author.getName()));
+			}
+			try (Stream<BookTitleView> books = bookRepository.streamAllTitles()) {
+				books.forEach(book -> putTitle(book.getId(), book.getTitle()));
+			}
+
+			log.info("Book suggestion index built: {} keys", keys.size());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns up to {@code limit} distinct titles and author names having a word that starts with {@code query}.
+	 * Texts equal to the query come first, then texts starting with it, then texts where a later word does;
+	 * within each group shorter texts come first. Each group keeps only its best {@code limit} texts in a heap,
+	 * so a short prefix matching much of the catalog is never sorted as a whole.
+	 */
+	public List<Suggestion> suggest(String query, int limit) {
+		String prefix = normalize(query);
+		if (prefix.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+		String innerPrefix = " " + prefix;
+
+		lock.readLock().lock();
+		try {
+			List<PriorityQueue<Entry>> best = List.of(
+					new PriorityQueue<>(ORDER.reversed()),
+					new PriorityQueue<>(ORDER.reversed()),
+					new PriorityQueue<>(ORDER.reversed()));
+			for (var match : keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet()) {
+				for (Entry entry : match.getValue().keySet()) {
+					int rank = rank(prefix, innerPrefix, match.getKey(), entry.normalized());
+					if (rank != REPEATED) {
+						offer(best.get(rank), entry, limit);
+					}
+				}
+			}
+
+			List<Suggestion> suggestions = new ArrayList<>(limit);
+			for (PriorityQueue<Entry> heap : best) {
+				List<Entry> ranked = new ArrayList<>(heap);
+				ranked.sort(ORDER);
+				for (Entry entry : ranked) {
+					if (suggestions.size() == limit) {
+						return suggestions;
+					}
+					suggestions.add(entry.suggestion());
+				}
+			}
+			return suggestions;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Keys are the suffixes of a normalized text that start at a word, so a text can match under several keys.
+	 * It is ranked once: by its whole text when that starts with the prefix, otherwise at its first word that does.
+	 */
+	private static int rank(String prefix, String innerPrefix, String key, String normalized) {
+		if (key.length() == normalized.length()) {
+			return key.equals(prefix) ? EXACT : LEADING;
+		}
+		if (normalized.startsWith(prefix)) {
+			return REPEATED;
+		}
+		return normalized.indexOf(innerPrefix) + 1 == normalized.length() - key.length() ? INNER : REPEATED;
+	}
+
+	private static void offer(PriorityQueue<Entry> heap, Entry entry, int limit) {
+		if (heap.size() == limit) {
+			if (ORDER.compare(entry, heap.peek()) >= 0) {
+				return;
+			}
+			heap.poll();
+		}
+		heap.add(entry);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookChanged(BookChangedEvent event) {
+		lock.writeLock().lock();
+		try {
+			putTitle(event.bookId(), event.title());
+			putAuthor(event.authorId(), event.authorName());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookDeleted(BookDeletedEvent event) {
+		lock.writeLock().lock();
+		try {
+			String title = titles.remove(event.bookId());
+			if (title != null) {
+				remove(new Suggestion(title, Suggestion.Type.TITLE));
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onAuthorChanged(AuthorChangedEvent event) {
+		lock.writeLock().lock();
+		try {
+			putAuthor(event.authorId(), event.name());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onAuthorDeleted(AuthorDeletedEvent event) {
+		lock.writeLock().lock();
+		try {
+			String name = authorNames.remove(event.authorId());
+			if (name != null) {
+				remove(new Suggestion(name, Suggestion.Type.AUTHOR));
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void putTitle(Long bookId, String title) {
+		replace(titles, bookId, title, Suggestion.Type.TITLE);
+	}
+
+	private void putAuthor(Long authorId, String name) {
+		replace(authorNames, authorId, name, Suggestion.Type.AUTHOR);
+	}
+
+	private void replace(Map<Long, String> texts, Long id, String text, Suggestion.Type type) {
+		String previous = text == null ? texts.remove(id) : texts.put(id, text);
+		if (Objects.equals(previous, text)) {
+			return;
+		}
+		if (previous != null) {
+			remove(new Suggestion(previous, type));
+		}
+		if (text != null) {
+			add(new Suggestion(text, type));
+		}
+	}
+
+	private void add(Suggestion suggestion) {
+		Entry entry = Entry.of(suggestion);
+		for (String key : wordStarts(entry.normalized())) {
+			keys.computeIfAbsent(key, k -> new LinkedHashMap<>()).merge(entry, 1, Integer::sum);
+		}
+	}
+
+	private void remove(Suggestion suggestion) {
+		Entry entry = Entry.of(suggestion);
+		for (String key : wordStarts(entry.normalized())) {
+			Map<Entry, Integer> entries = keys.get(key);
+			if (entries == null) {
+				continue;
+			}
+			entries.computeIfPresent(entry, (e, count) -> count == 1 ? null : count - 1);
+			if (entries.isEmpty()) {
+				keys.remove(key);
+			}
+		}
+	}
+
+	private static Set<String> wordStarts(String normalized) {
+		Set<String> starts = new HashSet<>();
+		for (int i = 0; i < normalized.length(); i++) {
+			if (i == 0 || normalized.charAt(i - 1) == ' ') {
+				starts.add(normalized.substring(i));
+			}
+		}
+		return starts;
+	}
+
+	private static String normalize(String value) {
+		if (value == null) {
+			return "";
+		}
+		return SEPARATORS.matcher(value).replaceAll(" ").strip().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * A suggestion with its normalized text, computed once when it is indexed so that ranking a match
+	 * needs no normalization; the whole-text key is the same string, so it costs no extra memory.
+	 */
+	private record Entry(Suggestion suggestion, String normalized) {
+		static Entry of(Suggestion suggestion) {
+			return new Entry(suggestion, normalize(suggestion.text()));
+		}
+	}
+}
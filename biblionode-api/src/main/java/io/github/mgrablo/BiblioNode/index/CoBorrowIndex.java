@@ -0,0 +1,248 @@
+package io.github.mgrablo.BiblioNode.index;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import io.github.mgrablo.BiblioNode.config.RecommendationProperties;
+import io.github.mgrablo.BiblioNode.event.BookBorrowedEvent;
+import io.github.mgrablo.BiblioNode.event.BookDeletedEvent;
+import io.github.mgrablo.BiblioNode.repository.LoanRepository;
+import io.github.mgrablo.BiblioNode.repository.ReaderBookView;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * "Readers who borrowed this also borrowed" neighbours of every book, indexed by book id.
+ * Each book owns a row of at most {@code 2 * maxRelated} slots, every slot one {@code long}
+ * packing the neighbour id (high half) and the co-borrow count (low half), so memory stays
+ * bounded by the catalog size rather than by the number of loans. A full row is updated with
+ * the Space-Saving scheme: an unseen neighbour takes over the weakest slot and inherits its count,
+ * which keeps the frequent neighbours while the rare ones churn through the spare slots.
+ * <p>
+ * A loan pairs its book with the other books among the reader's previous {@code maxReaderHistory}
+ * loans; borrowing a book already in that window adds nothing. Startup replays all loans grouped by
+ * reader and every committed borrow applies the same rule, so both paths build the same rows.
+ */
+@Component
+@Slf4j
+public class CoBorrowIndex {
+	private static final int INITIAL_ROW_SLOTS = 4;
+	private static final Comparator<Long> STRONGEST_FIRST = Comparator.<Long>comparingLong(slot -> count(slot))
+			.reversed()
+			.thenComparingLong(slot -> neighbour(slot));
+
+	private final LoanRepository loanRepository;
+	private final int maxRelated;
+	private final int rowSlots;
+	private final int maxReaderHistory;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private long[][] rows = new long[0][];
+
+	private volatile boolean ready = false;
+
+	public CoBorrowIndex(LoanRepository loanRepository, RecommendationProperties properties) {
+		this.loanRepository = loanRepository;
+		this.maxRelated = properties.maxRelated();
+		this.rowSlots = 2 * properties.maxRelated();
+		this.maxReaderHistory = properties.maxReaderHistory();
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void rebuild() {
+		lock.writeLock().lock();
+		try {
+			rows = new long[0][];
+
+			Long currentReader = null;
+			Deque<Long> history = new ArrayDeque<>(maxReaderHistory + 1);
+			try (Stream<ReaderBookView> loans = loanRepository.streamReaderBooks()) {
+				for (ReaderBookView loan : (Iterable<ReaderBookView>) loans::iterator) {
+					if (!loan.getReaderId().equals(currentReader)) {
+						currentReader = loan.getReaderId();
+						history.clear();
+					}
+					pairWithHistory(loan.getBookId(), history);
+					history.addFirst(loan.getBookId());
+					if (history.size() > maxReaderHistory) {
+						history.removeLast();
+					}
+				}
+			}
+
+			ready = true;
+			log.info("Co-borrow index built: {} books with related titles", Arrays.stream(rows).filter(Objects::nonNull).count());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * Returns up to {@code limit} ids of the books most often borrowed by readers of the given book,
+	 * strongest first. The limit is capped at the configured {@code maxRelated}.
+	 */
+	public List<Long> related(Long bookId, int limit) {
+		lock.readLock().lock();
+		try {
+			long[] row = rowOrNull(bookId);
+			if (row == null) {
+				return List.of();
+			}
+			return Arrays.stream(row)
+					.filter(slot -> slot != 0)
+					.boxed()
+					.sorted(STRONGEST_FIRST)
+					.limit(Math.min(limit, maxRelated))
+					.map(slot -> (long) neighbour(slot))
+					.toList();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Runs after the loan has committed; the history query reads only loans older than this one.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookBorrowed(BookBorrowedEvent event) {
+		List<Long> history = loanRepository.findBookIdsBorrowedBefore(event.readerId(), event.loanId(), Limit.of(maxReaderHistory));
+
+		lock.writeLock().lock();
+		try {
+			pairWithHistory(event.bookId(), history);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookDeleted(BookDeletedEvent event) {
+		lock.writeLock().lock();
+		try {
+			long[] row = rowOrNull(event.bookId());
+			if (row == null) {
+				return;
+			}
+			int deleted = id(event.bookId());
+			for (long slot : row) {
+				if (slot != 0) {
+					removeSlot(neighbour(slot), deleted);
+				}
+			}
+			rows[deleted] = null;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void pairWithHistory(Long bookId, Collection<Long> history) {
+		if (history.contains(bookId)) {
+			return;
+		}
+		int book = id(bookId);
+		history.stream().distinct().forEach(other -> {
+			increment(book, id(other));
+			increment(id(other), book);
+		});
+	}
+
+	private void increment(int book, int neighbour) {
+		long[] row = row(book);
+		int weakest = 0;
+		for (int i = 0; i < row.length; i++) {
+			long slot = row[i];
+			if (slot == 0) {
+				row[i] = slot(neighbour, 1);
+				return;
+			}
+			if (neighbour(slot) == neighbour) {
+				row[i] = slot(neighbour, saturatedIncrement(count(slot)));
+				return;
+			}
+			if (count(slot) < count(row[weakest])) {
+				weakest = i;
+			}
+		}
+		if (row.length < rowSlots) {
+			long[] grown = Arrays.copyOf(row, Math.min(row.length * 2, rowSlots));
+			grown[row.length] = slot(neighbour, 1);
+			rows[book] = grown;
+			return;
+		}
+		row[weakest] = slot(neighbour, saturatedIncrement(count(row[weakest])));
+	}
+
+	/**
+	 * Drops a neighbour from a row, moving the last used slot into the gap so used slots stay packed.
+	 */
+	private void removeSlot(int book, int neighbour) {
+		if (book >= rows.length || rows[book] == null) {
+			return;
+		}
+		long[] row = rows[book];
+		int last = row.length - 1;
+		while (last >= 0 && row[last] == 0) {
+			last--;
+		}
+		for (int i = 0; i <= last; i++) {
+			if (neighbour(row[i]) == neighbour) {
+				row[i] = row[last];
+				row[last] = 0;
+				return;
+			}
+		}
+	}
+
+	private long[] row(int book) {
+		if (book >= rows.length) {
+			rows = Arrays.copyOf(rows, Math.max(book + 1, rows.length + (rows.length >> 1)));
+		}
+		if (rows[book] == null) {
+			rows[book] = new long[Math.min(INITIAL_ROW_SLOTS, rowSlots)];
+		}
+		return rows[book];
+	}
+
+	private long[] rowOrNull(Long bookId) {
+		return bookId <= Integer.MAX_VALUE && bookId < rows.length ? rows[bookId.intValue()] : null;
+	}
+
+	private static long slot(int neighbour, int count) {
+		return (long) neighbour << 32 | Integer.toUnsignedLong(count);
+	}
+
+	private static int neighbour(long slot) {
+		return (int) (slot >>> 32);
+	}
+
+	private static int count(long slot) {
+		return (int) slot;
+	}
+
+	private static int saturatedIncrement(int count) {
+		return count == Integer.MAX_VALUE ? count : count + 1;
+	}
+
+	private static int id(Long bookId) {
+		return Math.toIntExact(bookId);
+	}
+}
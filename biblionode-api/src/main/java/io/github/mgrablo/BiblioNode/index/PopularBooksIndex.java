@@ -0,0 +1,223 @@
+package io.github.mgrablo.BiblioNode.index;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import io.github.mgrablo.BiblioNode.config.PopularityProperties;
+import io.github.mgrablo.BiblioNode.event.BookBorrowedEvent;
+import io.github.mgrablo.BiblioNode.event.BookDeletedEvent;
+import io.github.mgrablo.BiblioNode.repository.LoanDateView;
+import io.github.mgrablo.BiblioNode.repository.LoanRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Approximate borrow counts per book over the last few days, one bucket per calendar day.
+ * Each bucket holds a count-min sketch of {@code sketchDepth x sketchWidth} counters and a bounded
+ * set of the day's heaviest candidates, so memory is fixed by configuration and not by catalog or
+ * loan volume. A window query sums the sketch estimates of every candidate across the window's days.
+ * Counts never undercount; collisions can only inflate them.
+ */
+@Component
+@Slf4j
+public class PopularBooksIndex {
+	private static final Comparator<Ranking> MOST_LOANS_FIRST = Comparator.comparingLong(Ranking::loans)
+			.reversed()
+			.thenComparing(Ranking::bookId);
+
+	private final LoanRepository loanRepository;
+	private final Clock clock;
+	private final int maxWindowDays;
+	private final int maxResults;
+	private final int sketchWidth;
+	private final int sketchDepth;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final DayBucket[] buckets;
+
+	private volatile boolean ready = false;
+
+	public PopularBooksIndex(LoanRepository loanRepository, Clock clock, PopularityProperties properties) {
+		this.loanRepository = loanRepository;
+		this.clock = clock;
+		this.maxWindowDays = Math.toIntExact(properties.maxWindow().toDays());
+		this.maxResults = properties.maxResults();
+		this.sketchWidth = properties.sketchWidth();
+		this.sketchDepth = properties.sketchDepth();
+		this.buckets = new DayBucket[maxWindowDays];
+	}
+
+	public record Ranking(Long bookId, long loans) { }
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void rebuild() {
+		lock.writeLock().lock();
+		try {
+			Arrays.fill(buckets, null);
+
+			LocalDate firstDay = LocalDate.now(clock).minusDays(maxWindowDays - 1);
+			long loans = 0;
+			try (Stream<LoanDateView> views = loanRepository.streamLoanDatesSince(firstDay.atStartOfDay())) {
+				for (LoanDateView view : (Iterable<LoanDateView>) views::iterator) {
+					record(view.getBookId(), view.getLoanDate().toLocalDate().toEpochDay());
+					loans++;
+				}
+			}
+
+			ready = true;
+			log.info("Popular books index built from {} loans over {} days", loans, maxWindowDays);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	public int maxWindowDays() {
+		return maxWindowDays;
+	}
+
+	/**
+	 * Returns up to {@code limit} books with the most loans over the last {@code days} days, today included.
+	 * The limit is capped at the configured {@code maxResults}.
+	 */
+	public List<Ranking> top(int days, int limit) {
+		long today = LocalDate.now(clock).toEpochDay();
+		lock.readLock().lock();
+		try {
+			List<DayBucket> window = Arrays.stream(buckets)
+					.filter(bucket -> bucket != null && bucket.epochDay > today - days && bucket.epochDay <= today)
+					.toList();
+
+			Set<Long> candidates = new HashSet<>();
+			window.forEach(bucket -> candidates.addAll(bucket.candidates.keySet()));
+
+			return candidates.stream()
+					.map(bookId -> new Ranking(bookId, window.stream().mapToLong(bucket -> bucket.estimate(bookId)).sum()))
+					.sorted(MOST_LOANS_FIRST)
+					.limit(Math.min(limit, maxResults))
+					.toList();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookBorrowed(BookBorrowedEvent event) {
+		long today = LocalDate.now(clock).toEpochDay();
+		lock.writeLock().lock();
+		try {
+			record(event.bookId(), today);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Sketch counters cannot be decremented, so a deleted book is only dropped from the candidates.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookDeleted(BookDeletedEvent event) {
+		lock.writeLock().lock();
+		try {
+			for (DayBucket bucket : buckets) {
+				if (bucket != null) {
+					bucket.candidates.remove(event.bookId());
+				}
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void record(Long bookId, long epochDay) {
+		int slot = Math.floorMod(epochDay, maxWindowDays);
+		DayBucket bucket = buckets[slot];
+		if (bucket == null || bucket.epochDay < epochDay) {
+			bucket = new DayBucket(epochDay);
+			buckets[slot] = bucket;
+		} else if (bucket.epochDay > epochDay) {
+			// The slot already holds a newer day, so this loan is outside the longest window.
+			return;
+		}
+		bucket.add(bookId);
+	}
+
+	private final class DayBucket {
+		private final long epochDay;
+		private final int[] counters = new int[sketchDepth * sketchWidth];
+		private final Map<Long, Integer> candidates = new HashMap<>();
+
+		private DayBucket(long epochDay) {
+			this.epochDay = epochDay;
+		}
+
+		private void add(Long bookId) {
+			int estimate = Integer.MAX_VALUE;
+			for (int row = 0; row < sketchDepth; row++) {
+				int cell = cell(bookId, row);
+				if (counters[cell] < Integer.MAX_VALUE) {
+					counters[cell]++;
+				}
+				estimate = Math.min(estimate, counters[cell]);
+			}
+			offer(bookId, estimate);
+		}
+
+		private int estimate(Long bookId) {
+			int estimate = Integer.MAX_VALUE;
+			for (int row = 0; row < sketchDepth; row++) {
+				estimate = Math.min(estimate, counters[cell(bookId, row)]);
+			}
+			return estimate;
+		}
+
+		/**
+		 * Keeps the {@code 4 * maxResults} heaviest books of the day, evicting the lightest one when full.
+		 */
+		private void offer(Long bookId, int estimate) {
+			if (candidates.containsKey(bookId) || candidates.size() < 4 * maxResults) {
+				candidates.put(bookId, estimate);
+				return;
+			}
+			Map.Entry<Long, Integer> lightest = null;
+			for (Map.Entry<Long, Integer> candidate : candidates.entrySet()) {
+				if (lightest == null || candidate.getValue() < lightest.getValue()) {
+					lightest = candidate;
+				}
+			}
+			if (lightest != null && estimate > lightest.getValue()) {
+				candidates.remove(lightest.getKey());
+				candidates.put(bookId, estimate);
+			}
+		}
+
+		private int cell(Long bookId, int row) {
+			return row * sketchWidth + Math.floorMod(mix(bookId + row * 0x9E3779B97F4A7C15L), sketchWidth);
+		}
+	}
+
+	private static long mix(long value) {
+		value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+		return value ^ (value >>> 31);
+	}
+}
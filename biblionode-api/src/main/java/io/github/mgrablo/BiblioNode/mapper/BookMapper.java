@@ -5,7 +5,10 @@ import org.mapstruct.Mapping;
 
 import io.github.mgrablo.BiblioNode.dto.BookRequest;
 import io.github.mgrablo.BiblioNode.dto.BookResponse;
+import io.github.mgrablo.BiblioNode.dto.BookSummary;
 import io.github.mgrablo.BiblioNode.model.Book;
+import io.github.mgrablo.BiblioNode.repository.BookDetailView;
+import io.github.mgrablo.BiblioNode.repository.BookSummaryView;
 
 @Mapper(componentModel = "spring")
 public interface BookMapper {
@@ -14,9 +17,16 @@ public interface BookMapper {
 	@Mapping(target = "createdAt", ignore = true)
 	@Mapping(target = "modifiedAt", ignore = true)
 	@Mapping(target = "available", ignore = true)
+	@Mapping(target = "totalCopies", ignore = true)
+	@Mapping(target = "availableCopies", ignore = true)
+	@Mapping(target = "isbn13", ignore = true)
 	Book toEntity(BookRequest bookRequest);
 
 	@Mapping(source = "author.id", target = "authorId")
 	@Mapping(source = "author.name", target = "authorName")
 	BookResponse toResponse(Book book);
+
+	BookResponse toResponse(BookDetailView view);
+
+	BookSummary toSummary(BookSummaryView view);
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import org.mapstruct.Mapping;
 
 import io.github.mgrablo.BiblioNode.dto.LoanResponse;
 import io.github.mgrablo.BiblioNode.model.Loan;
+import io.github.mgrablo.BiblioNode.repository.LoanView;
 
 @Mapper(componentModel = "spring")
 public interface LoanMapper {
@@ -14,4 +15,6 @@ public interface LoanMapper {
 	@Mapping(source = "book.author.name", target = "bookAuthorName")
 	@Mapping(source = "reader.id", target = "readerId")
 	LoanResponse toResponse(Loan loan);
+
+	LoanResponse toResponse(LoanView view);
 }
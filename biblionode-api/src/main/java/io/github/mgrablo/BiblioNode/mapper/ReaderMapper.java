@@ -14,6 +14,7 @@ public interface ReaderMapper {
 	@Mapping(target = "modifiedAt", ignore = true)
 	@Mapping(target = "loans", ignore = true)
 	@Mapping(target = "user", ignore = true)
+	@Mapping(target = "activeLoanCount", ignore = true)
 	Reader toEntity(ReaderRequest request);
 
 	@Mapping(source = "user.email", target = "email")
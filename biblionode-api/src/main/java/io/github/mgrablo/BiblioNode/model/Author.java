@@ -13,7 +13,8 @@ import java.util.List;
 @NoArgsConstructor @AllArgsConstructor
 public class Author extends BaseEntity {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "authors_seq")
+	@SequenceGenerator(name = "authors_seq", sequenceName = "authors_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(nullable = false)
@@ -10,7 +10,8 @@ import lombok.*;
 @AllArgsConstructor
 public class Book extends BaseEntity {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "books_seq")
+	@SequenceGenerator(name = "books_seq", sequenceName = "books_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(nullable = false)
@@ -23,20 +24,48 @@ public class Book extends BaseEntity {
 	@JoinColumn(name = "author_id", nullable = false)
 	private Author author;
 
-	@Column(nullable = false)
+	/*
+	 * Copy counters are only changed by the conditional updates in BookRepository, never written back from
+	 * a loaded entity, so a concurrent borrow or return cannot be overwritten by a stale copy of this row.
+	 */
+	@Column(nullable = false, updatable = false)
 	private boolean available = true;
 
+	@Column(nullable = false, updatable = false)
+	private int totalCopies = 1;
+
+	@Column(nullable = false, updatable = false)
+	private int availableCopies = 1;
+
 	@Column(length = 1000)
 	private String coverUrl;
 
+	@Basic(fetch = FetchType.LAZY)
 	@Column(columnDefinition = "clob")
 	private String description;
 
+	@Column(length = 13)
+	private String isbn13;
+
 	public Book(Long id, String title, String isbn, Author author) {
 		this.id = id;
 		this.title = title;
 		this.isbn = isbn;
 		this.author = author;
 		this.available = true;
+		this.totalCopies = 1;
+		this.availableCopies = 1;
+	}
+
+	public void stockCopies(int copies) {
+		this.totalCopies = copies;
+		this.availableCopies = copies;
+		this.available = copies > 0;
+	}
+
+	@PrePersist
+	@PreUpdate
+	void normalizeIsbn() {
+		this.isbn13 = Isbn.toIsbn13(isbn);
 	}
 }
@@ -0,0 +1,58 @@
+package io.github.mgrablo.BiblioNode.model;
+
+/**
+ * Normalizes hyphenated, spaced, ISBN-10 and ISBN-13 inputs to a bare 13-digit form,
+ * so every spelling of the same ISBN hits the same {@code books.isbn13} index entry.
+ */
+public final class Isbn {
+	private Isbn() { }
+
+	/**
+	 * Returns the ISBN-13 for {@code raw}, or {@code null} if it is not shaped like an ISBN-10 or ISBN-13.
+	 * Check digits are not validated, so stored ISBNs with a typo in the check digit stay searchable.
+	 */
+	public static String toIsbn13(String raw) {
+		if (raw == null) {
+			return null;
+		}
+
+		StringBuilder compact = new StringBuilder(13);
+		for (int i = 0; i < raw.length(); i++) {
+			char c = raw.charAt(i);
+			if (c == '-' || c == ' ') {
+				continue;
+			}
+			if ((c < '0' || c > '9') && c != 'X' && c != 'x') {
+				return null;
+			}
+			compact.append(Character.toUpperCase(c));
+		}
+
+		if (compact.length() == 13 && isDigits(compact, 13)) {
+			return compact.toString();
+		}
+		if (compact.length() == 10 && isDigits(compact, 9)) {
+			String isbn12 = "978" + compact.substring(0, 9);
+			return isbn12 + checkDigit13(isbn12);
+		}
+		return null;
+	}
+
+	private static boolean isDigits(CharSequence value, int length) {
+		for (int i = 0; i < length; i++) {
+			if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static char checkDigit13(String isbn12) {
+		int sum = 0;
+		for (int i = 0; i < 12; i++) {
+			int digit = isbn12.charAt(i) - '0';
+			sum += (i % 2 == 0) ? digit : digit * 3;
+		}
+		return (char) ('0' + (10 - sum % 10) % 10);
+	}
+}
@@ -16,7 +16,8 @@ import lombok.Setter;
 @Setter
 public class Loan extends BaseEntity {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loans_seq")
+	@SequenceGenerator(name = "loans_seq", sequenceName = "loans_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -35,4 +36,11 @@ public class Loan extends BaseEntity {
 
 	@Column
 	private LocalDateTime returnDate;
+
+	/**
+	 * Maintained by the return path and the overdue sweep rather than derived from the dates on read.
+	 */
+	@Enumerated(EnumType.STRING)
+	@Column(length = 16, nullable = false)
+	private LoanStatus status = LoanStatus.ACTIVE;
 }
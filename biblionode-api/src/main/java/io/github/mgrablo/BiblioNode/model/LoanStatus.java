@@ -0,0 +1,7 @@
+package io.github.mgrablo.BiblioNode.model;
+
+public enum LoanStatus {
+	ACTIVE,
+	OVERDUE,
+	RETURNED
+}
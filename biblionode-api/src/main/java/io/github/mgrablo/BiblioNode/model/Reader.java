@@ -18,7 +18,8 @@ import lombok.Setter;
 @Setter
 public class Reader extends BaseEntity {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "readers_seq")
+	@SequenceGenerator(name = "readers_seq", sequenceName = "readers_seq", allocationSize = 50)
 	private Long id;
 
 	@NotBlank
@@ -32,6 +33,13 @@ public class Reader extends BaseEntity {
 	@OneToMany(mappedBy = "reader")
 	List<Loan> loans = new ArrayList<>();
 
+	/*
+	 * Only changed by the guarded updates in ReaderRepository, so parallel borrows by one reader
+	 * cannot overwrite each other's increment.
+	 */
+	@Column(nullable = false, updatable = false)
+	private int activeLoanCount = 0;
+
 	public String getEmail() {
 		return user != null ? user.getEmail() : null;
 	}
@@ -12,7 +12,8 @@ import lombok.Setter;
 @NoArgsConstructor @AllArgsConstructor
 public class Role {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roles_seq")
+	@SequenceGenerator(name = "roles_seq", sequenceName = "roles_seq", allocationSize = 50)
 	private Long id;
 
 	@Enumerated(EnumType.STRING)
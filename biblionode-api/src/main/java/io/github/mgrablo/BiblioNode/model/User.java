@@ -18,7 +18,8 @@ import lombok.Setter;
 @AllArgsConstructor
 public class User extends BaseEntity {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+	@SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
 	private Long id;
 
 	@Email
@@ -0,0 +1,7 @@
+package io.github.mgrablo.BiblioNode.repository;
+
+public interface AuthorNameView {
+	Long getId();
+
+	String getName();
+}
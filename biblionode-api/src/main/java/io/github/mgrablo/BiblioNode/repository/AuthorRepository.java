@@ -2,14 +2,55 @@ package io.github.mgrablo.BiblioNode.repository;
 
 import io.github.mgrablo.BiblioNode.model.Author;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface AuthorRepository extends JpaRepository<Author, Long> {
 	Optional<Author> findAuthorByName(String name);
 
-	Page<Author> searchAuthorsByNameContains(String name, Pageable pageable);
+	Slice<Author> findAllBy(Pageable pageable);
+
+	@EntityGraph(attributePaths = {"books"})
+	List<Author> findAllByIdIn(Collection<Long> ids);
+
+	Slice<Author> searchAuthorsByNameContains(String name, Pageable pageable);
+
+	long countByNameContains(String name);
+
+	long countByNameContainingIgnoreCase(String name);
+
+	Window<Author> findAllByOrderByIdAsc(ScrollPosition position, Limit limit);
+
+	@Query(value = "SELECT a.* FROM authors a " +
+			"WHERE lower(a.name) LIKE '%' || lower(:name) || '%' " +
+			"ORDER BY similarity(lower(a.name), lower(:name)) DESC, a.id",
+			nativeQuery = true
+	)
+	Slice<Author> searchRankedByName(@Param("name") String name, Pageable pageable);
+
+	@Query("SELECT COALESCE(a.modifiedAt, a.createdAt) AS authorModifiedAt, " +
+			"MAX(COALESCE(b.modifiedAt, b.createdAt)) AS booksModifiedAt, COUNT(b) AS bookCount " +
+			"FROM Author a LEFT JOIN a.books b WHERE a.id = :id GROUP BY a.id, a.modifiedAt, a.createdAt")
+	Optional<AuthorVersionView> findVersionById(@Param("id") Long id);
+
+	@Query("SELECT a.id AS id, a.name AS name FROM Author a")
+	Stream<AuthorNameView> streamAllNames();
+
+	@Query("SELECT a.id AS id, a.name AS name FROM Author a WHERE a.id IN :ids")
+	List<AuthorNameView> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Query("SELECT count(a) AS total, max(a.createdAt) AS createdAt, max(a.modifiedAt) AS modifiedAt FROM Author a")
+	TableVersionView findTableVersion();
 }
@@ -0,0 +1,14 @@
+package io.github.mgrablo.BiblioNode.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Audit timestamps and book count that an author detail response, including its books, depends on.
+ */
+public interface AuthorVersionView {
+	LocalDateTime getAuthorModifiedAt();
+
+	LocalDateTime getBooksModifiedAt();
+
+	long getBookCount();
+}
@@ -0,0 +1,7 @@
+package io.github.mgrablo.BiblioNode.repository;
+
+public interface BookAvailabilityView {
+	Long getId();
+
+	boolean isAvailable();
+}
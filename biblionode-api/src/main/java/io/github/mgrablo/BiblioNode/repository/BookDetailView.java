@@ -0,0 +1,18 @@
+package io.github.mgrablo.BiblioNode.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Single book with its author name, read in one statement for the detail and description search endpoints.
+ */
+public interface BookDetailView extends BookSummaryView {
+	int getAvailableCopies();
+
+	int getTotalCopies();
+
+	String getDescription();
+
+	LocalDateTime getCreatedAt();
+
+	LocalDateTime getModifiedAt();
+}
@@ -0,0 +1,14 @@
+package io.github.mgrablo.BiblioNode.repository;
+
+/**
+ * Number of matching books for one author and availability state.
+ */
+public interface BookFacetView {
+	Long getAuthorId();
+
+	String getAuthorName();
+
+	boolean isAvailable();
+
+	long getBooks();
+}
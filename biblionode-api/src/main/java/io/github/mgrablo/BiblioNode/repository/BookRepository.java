@@ -1,26 +1,194 @@
 package io.github.mgrablo.BiblioNode.repository;
 
-import org.springframework.data.domain.Page;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import io.github.mgrablo.BiblioNode.model.Book;
+import jakarta.persistence.QueryHint;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
-	Optional<Book> findBookByTitle(String title);
+	/**
+	 * Select list of {@link BookDetailView}, shared by every JPQL query that returns one.
+	 */
+	String DETAIL_SELECT = "SELECT b.id AS id, b.title AS title, b.isbn AS isbn, a.name AS authorName, a.id AS authorId, " +
+			"b.available AS available, b.availableCopies AS availableCopies, b.totalCopies AS totalCopies, " +
+			"b.coverUrl AS coverUrl, b.description AS description, " +
+			"b.createdAt AS createdAt, b.modifiedAt AS modifiedAt FROM Book b JOIN b.author a";
 
+	@Query(DETAIL_SELECT + " WHERE b.id = :id")
+	Optional<BookDetailView> findDetailById(@Param("id") Long id);
+
+	@Query(DETAIL_SELECT + " WHERE b.title = :title")
+	Optional<BookDetailView> findDetailByTitle(@Param("title") String title);
+
+	@Query(DETAIL_SELECT + " WHERE b.isbn13 = :isbn13 ORDER BY b.id")
+	List<BookDetailView> findDetailsByIsbn13(@Param("isbn13") String isbn13, Limit limit);
+
+	@Query(DETAIL_SELECT + " WHERE b.id IN :ids")
+	List<BookDetailView> findDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Query("SELECT b.id AS id, b.title AS title, b.isbn AS isbn, a.name AS authorName, a.id AS authorId, " +
+			"b.available AS available, b.coverUrl AS coverUrl FROM Book b JOIN b.author a")
+	Slice<BookSummaryView> findAllSummaries(Pageable pageable);
+
+
+	@Query("SELECT b.id AS id, b.title AS title, b.isbn AS isbn, a.name AS authorName, a.id AS authorId, " +
+			"b.available AS available, b.coverUrl AS coverUrl FROM Book b JOIN b.author a WHERE b.available = true")
+	Slice<BookSummaryView> findAvailableSummaries(Pageable pageable);
+
+	long countByAvailableTrue();
 
 	boolean existsByAuthorId(Long authorId);
 
-	@Query("SELECT b FROM Book b WHERE " +
+	@Query("SELECT b.id AS id, b.title AS title, b.isbn AS isbn, a.name AS authorName, a.id AS authorId, " +
+			"b.available AS available, b.coverUrl AS coverUrl FROM Book b JOIN b.author a WHERE " +
+			"(:title IS NULL OR :title = '' OR LOWER(b.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
+			"(:authorName IS NULL OR :authorName = '' OR LOWER(a.name) LIKE LOWER(CONCAT('%', :authorName, '%')))"
+	)
+	Slice<BookSummaryView> searchByTitleAndAuthor(@Param("title") String title,
+												 @Param("authorName") String authorName,
+												 Pageable pageable);
+
+	@Query("SELECT count(b) FROM Book b WHERE " +
 			"(:title IS NULL OR :title = '' OR LOWER(b.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
 			"(:authorName IS NULL OR :authorName = '' OR LOWER(b.author.name) LIKE LOWER(CONCAT('%', :authorName, '%')))"
 	)
-	Page<Book> searchByTitleAndAuthor(@Param("title") String title,
-																		@Param("authorName") String authorName,
-																		Pageable pageable);
+	long countByTitleAndAuthor(@Param("title") String title, @Param("authorName") String authorName);
+
+	@Query("SELECT a.id AS authorId, a.name AS authorName, b.available AS available, count(b) AS books " +
+			"FROM Book b JOIN b.author a WHERE " +
+			"(:title IS NULL OR :title = '' OR LOWER(b.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
+			"(:authorName IS NULL OR :authorName = '' OR LOWER(a.name) LIKE LOWER(CONCAT('%', :authorName, '%'))) " +
+			"GROUP BY a.id, a.name, b.available"
+	)
+	List<BookFacetView> countFacetsByTitleAndAuthor(@Param("title") String title, @Param("authorName") String authorName);
+
+	@Query("SELECT b.id AS id, b.title AS title, b.isbn AS isbn, a.name AS authorName, a.id AS authorId, " +
+			"b.available AS available, b.coverUrl AS coverUrl FROM Book b JOIN b.author a WHERE b.available = true AND " +
+			"(:title IS NULL OR :title = '' OR LOWER(b.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
+			"(:authorName IS NULL OR :authorName = '' OR LOWER(a.name) LIKE LOWER(CONCAT('%', :authorName, '%')))"
+	)
+	Slice<BookSummaryView> searchAvailableByTitleAndAuthor(@Param("title") String title,
+														   @Param("authorName") String authorName,
+														   Pageable pageable);
+
+	@Query("SELECT count(b) FROM Book b WHERE b.available = true AND " +
+			"(:title IS NULL OR :title = '' OR LOWER(b.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
+			"(:authorName IS NULL OR :authorName = '' OR LOWER(b.author.name) LIKE LOWER(CONCAT('%', :authorName, '%')))"
+	)
+	long countAvailableByTitleAndAuthor(@Param("title") String title, @Param("authorName") String authorName);
+
+	@Query(value = "SELECT b.id AS id, b.title AS title, b.isbn AS isbn, a.name AS \"authorName\", a.id AS \"authorId\", " +
+			"b.available AS available, b.cover_url AS \"coverUrl\" FROM books b JOIN authors a ON a.id = b.author_id " +
+			"WHERE lower(b.title) LIKE '%' || lower(:title) || '%' " +
+			"AND lower(a.name) LIKE '%' || lower(:authorName) || '%' " +
+			"ORDER BY similarity(lower(b.title), lower(:title)) + similarity(lower(a.name), lower(:authorName)) DESC, b.id",
+			nativeQuery = true
+	)
+	Slice<BookSummaryView> searchRankedByTitleAndAuthor(@Param("title") String title,
+											@Param("authorName") String authorName,
+											Pageable pageable);
+
+	@Query(DETAIL_SELECT + " WHERE LOWER(b.description) LIKE LOWER(CONCAT('%', :query, '%'))")
+	Slice<BookDetailView> searchByDescription(@Param("query") String query, Pageable pageable);
+
+	@Query("SELECT count(b) FROM Book b WHERE LOWER(b.description) LIKE LOWER(CONCAT('%', :query, '%'))")
+	long countByDescription(@Param("query") String query);
+
+	@Query(value = "SELECT b.id AS id, b.title AS title, b.isbn AS isbn, a.name AS \"authorName\", a.id AS \"authorId\", " +
+			"b.available AS available, b.available_copies AS \"availableCopies\", b.total_copies AS \"totalCopies\", " +
+			"b.cover_url AS \"coverUrl\", b.description AS description, " +
+			"b.created_at AS \"createdAt\", b.modified_at AS \"modifiedAt\" FROM books b JOIN authors a ON a.id = b.author_id " +
+			"WHERE to_tsvector('english', coalesce(b.description, '')) @@ plainto_tsquery('english', :query) " +
+			"ORDER BY ts_rank(to_tsvector('english', coalesce(b.description, '')), plainto_tsquery('english', :query)) DESC, b.id",
+			nativeQuery = true
+	)
+	Slice<BookDetailView> searchRankedByDescription(@Param("query") String query, Pageable pageable);
+
+	@Query(value = "SELECT count(*) FROM books b " +
+			"WHERE to_tsvector('english', coalesce(b.description, '')) @@ plainto_tsquery('english', :query)",
+			nativeQuery = true
+	)
+	long countRankedByDescription(@Param("query") String query);
+
+	@Query("SELECT b.id AS id, b.title AS title, b.isbn AS isbn, a.name AS authorName, a.id AS authorId, " +
+			"b.available AS available, b.coverUrl AS coverUrl FROM Book b JOIN b.author a WHERE b.id IN :ids")
+	List<BookSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Query("SELECT b.id AS id, b.title AS title, b.isbn AS isbn, a.name AS authorName, a.id AS authorId, " +
+			"b.available AS available, b.coverUrl AS coverUrl FROM Book b JOIN b.author a WHERE b.id > :afterId ORDER BY b.id")
+	List<BookSummaryView> findSummariesAfter(@Param("afterId") long afterId, Limit limit);
+
+	@Query("SELECT b.id AS id, b.title AS title, b.isbn AS isbn, a.name AS authorName, a.id AS authorId, " +
+			"b.available AS available, b.coverUrl AS coverUrl FROM Book b JOIN b.author a " +
+			"WHERE b.available = true AND b.id > :afterId ORDER BY b.id")
+	List<BookSummaryView> findAvailableSummariesAfter(@Param("afterId") long afterId, Limit limit);
+
+	/**
+	 * Takes one free copy in a single statement; returns 0 if none is left or the book does not exist.
+	 * Every copy of a title is counted on its one row, so concurrent claims for the same title wait on
+	 * each other until the borrowing transaction commits.
+	 */
+	@Modifying
+	@Query("UPDATE Book b SET b.availableCopies = b.availableCopies - 1, " +
+			"b.available = CASE WHEN b.availableCopies > 1 THEN true ELSE false END, b.modifiedAt = :now " +
+			"WHERE b.id = :id AND b.availableCopies > 0")
+	int claimCopy(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+	@Modifying
+	@Query("UPDATE Book b SET b.availableCopies = b.availableCopies + 1, b.available = true, b.modifiedAt = :now " +
+			"WHERE b.id = :id AND b.availableCopies < b.totalCopies")
+	int releaseCopy(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+	/**
+	 * Frees {@code copies} copies of each listed book in one statement, never going above its total.
+	 */
+	@Modifying
+	@Query("UPDATE Book b SET b.availableCopies = CASE WHEN b.availableCopies + :copies > b.totalCopies " +
+			"THEN b.totalCopies ELSE b.availableCopies + :copies END, b.available = true, b.modifiedAt = :now " +
+			"WHERE b.id IN :ids AND b.availableCopies < b.totalCopies")
+	int releaseCopies(@Param("ids") Collection<Long> ids, @Param("copies") int copies, @Param("now") LocalDateTime now);
+
+	/**
+	 * Sets the number of copies owned, adding or removing free copies; returns 0 if more copies than that are on loan.
+	 */
+	@Modifying
+	@Query("UPDATE Book b SET b.availableCopies = b.availableCopies + :totalCopies - b.totalCopies, " +
+			"b.available = CASE WHEN b.availableCopies + :totalCopies - b.totalCopies > 0 THEN true ELSE false END, " +
+			"b.totalCopies = :totalCopies, b.modifiedAt = :now " +
+			"WHERE b.id = :id AND b.availableCopies + :totalCopies - b.totalCopies >= 0")
+	int resizeCopies(@Param("id") Long id, @Param("totalCopies") int totalCopies, @Param("now") LocalDateTime now);
+
+	@Query("SELECT COALESCE(b.modifiedAt, b.createdAt) AS bookModifiedAt, COALESCE(a.modifiedAt, a.createdAt) AS authorModifiedAt " +
+			"FROM Book b JOIN b.author a WHERE b.id = :id")
+	Optional<BookVersionView> findVersionById(@Param("id") Long id);
+
+	@Query("SELECT b.id AS id, b.title AS title, b.author.id AS authorId FROM Book b")
+	Stream<BookTitleView> streamAllTitles();
+
+	@Query("SELECT b.id AS id, b.available AS available FROM Book b")
+	Stream<BookAvailabilityView> streamAllAvailability();
+
+	@Query("SELECT b.available FROM Book b WHERE b.id = :id")
+	Optional<Boolean> findAvailableById(@Param("id") Long id);
+
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query(DETAIL_SELECT + " ORDER BY b.id")
+	Stream<BookDetailView> streamAllDetails();
+
+	@Query("SELECT count(b) AS total, max(b.createdAt) AS createdAt, max(b.modifiedAt) AS modifiedAt FROM Book b")
+	TableVersionView findTableVersion();
 }
@@ -0,0 +1,20 @@
+package io.github.mgrablo.BiblioNode.repository;
+
+/**
+ * Book list row selected column by column, so the description CLOB is never read.
+ */
+public interface BookSummaryView {
+	Long getId();
+
+	String getTitle();
+
+	String getIsbn();
+
+	String getAuthorName();
+
+	Long getAuthorId();
+
+	boolean isAvailable();
+
+	String getCoverUrl();
+}
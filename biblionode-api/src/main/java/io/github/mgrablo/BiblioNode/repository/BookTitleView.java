@@ -0,0 +1,9 @@
+package io.github.mgrablo.BiblioNode.repository;
+
+public interface BookTitleView {
+	Long getId();
+
+	String getTitle();
+
+	Long getAuthorId();
+}
@@ -0,0 +1,12 @@
+package io.github.mgrablo.BiblioNode.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Audit timestamps that a book detail response depends on, read without loading the book.
+ */
+public interface BookVersionView {
+	LocalDateTime getBookModifiedAt();
+
+	LocalDateTime getAuthorModifiedAt();
+}
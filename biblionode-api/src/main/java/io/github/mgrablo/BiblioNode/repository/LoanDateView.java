@@ -0,0 +1,9 @@
+package io.github.mgrablo.BiblioNode.repository;
+
+import java.time.LocalDateTime;
+
+public interface LoanDateView {
+	Long getBookId();
+
+	LocalDateTime getLoanDate();
+}
@@ -1,33 +1,138 @@
 package io.github.mgrablo.BiblioNode.repository;
 
-import org.springframework.data.domain.Page;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 import io.github.mgrablo.BiblioNode.model.Loan;
+import io.github.mgrablo.BiblioNode.model.LoanStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 public interface LoanRepository extends JpaRepository<Loan, Long> {
 	@EntityGraph(attributePaths = {"book", "book.author", "reader"})
-	Page<Loan> findByReaderId(Long readerId, Pageable pageable);
+	Slice<Loan> findAllBy(Pageable pageable);
 
 	@EntityGraph(attributePaths = {"book", "book.author", "reader"})
-	Page<Loan> findByReaderUserEmail(String email, Pageable pageable);
+	Slice<Loan> findByReaderId(Long readerId, Pageable pageable);
 
 	@EntityGraph(attributePaths = {"book", "book.author", "reader"})
-	Page<Loan> findByBookId(Long bookId, Pageable pageable);
+	List<Loan> findAllByIdIn(Collection<Long> ids);
 
 	@EntityGraph(attributePaths = {"book", "book.author", "reader"})
-	Page<Loan> findAllByReturnDateIsNull(Pageable pageable);
+	List<Loan> findAllByIdInAndReaderUserEmail(Collection<Long> ids, String email);
 
 	@EntityGraph(attributePaths = {"book", "book.author", "reader"})
-	Page<Loan> findAllByReturnDateIsNullAndReaderId(Long readerId, Pageable pageable);
+	Slice<Loan> findByReaderUserEmail(String email, Pageable pageable);
 
 	@EntityGraph(attributePaths = {"book", "book.author", "reader"})
-	Page<Loan> findAllByReturnDateIsNullAndDueDateBefore(LocalDateTime now, Pageable pageable);
+	Slice<Loan> findByBookId(Long bookId, Pageable pageable);
+
+	@EntityGraph(attributePaths = {"book", "book.author", "reader"})
+	Slice<Loan> findAllByReturnDateIsNull(Pageable pageable);
+
+	@EntityGraph(attributePaths = {"book", "book.author", "reader"})
+	Slice<Loan> findAllByReturnDateIsNullAndReaderId(Long readerId, Pageable pageable);
+
+	@EntityGraph(attributePaths = {"book", "book.author", "reader"})
+	Slice<Loan> findAllByStatus(LoanStatus status, Pageable pageable);
+
+	/**
+	 * Marks an open loan returned; returns 0 if the loan does not exist or was already returned.
+	 */
+	@Modifying
+	@Query("UPDATE Loan l SET l.returnDate = :now, l.status = io.github.mgrablo.BiblioNode.model.LoanStatus.RETURNED, " +
+			"l.modifiedAt = :now WHERE l.id = :id AND l.returnDate IS NULL")
+	int closeLoan(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+	/**
+	 * Marks the listed open loans returned; loans already returned are left untouched.
+	 */
+	@Modifying
+	@Query("UPDATE Loan l SET l.returnDate = :now, l.status = io.github.mgrablo.BiblioNode.model.LoanStatus.RETURNED, " +
+			"l.modifiedAt = :now WHERE l.id IN :ids AND l.returnDate IS NULL")
+	int closeLoans(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+	/**
+	 * Loads the loans and locks their rows until commit, so a bulk return closes exactly the open loans it read.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT l FROM Loan l WHERE l.id IN :ids ORDER BY l.id")
+	List<Loan> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT l FROM Loan l WHERE l.book.id IN :bookIds AND l.returnDate IS NULL ORDER BY l.id")
+	List<Loan> findOpenByBookIdInForUpdate(@Param("bookIds") Collection<Long> bookIds);
+
+	/**
+	 * Marks active loans due before {@code now} overdue and returns how many changed. Earlier sweeps already
+	 * moved older loans out of {@code ACTIVE}, so the range read on the {@code (status, due_date)} index
+	 * only holds the loans that fell due since the last sweep.
+	 */
+	@Modifying
+	@Query("UPDATE Loan l SET l.status = io.github.mgrablo.BiblioNode.model.LoanStatus.OVERDUE, l.modifiedAt = :now " +
+			"WHERE l.status = io.github.mgrablo.BiblioNode.model.LoanStatus.ACTIVE AND l.dueDate < :now")
+	int markOverdue(@Param("now") LocalDateTime now);
 
 	Long countByReaderIdAndReturnDateIsNull(Long readerId);
 
+	long countByReaderId(Long readerId);
+
+	long countByReaderUserEmail(String email);
+
+	long countByBookId(Long bookId);
+
+	long countByReturnDateIsNull();
+
+	long countByStatus(LoanStatus status);
+
+	@EntityGraph(attributePaths = {"book", "book.author", "reader"})
+	Window<Loan> findAllByOrderByLoanDateDescIdDesc(ScrollPosition position, Limit limit);
+
+	@EntityGraph(attributePaths = {"book", "book.author", "reader"})
+	Window<Loan> findByReaderIdOrderByLoanDateDescIdDesc(Long readerId, ScrollPosition position, Limit limit);
+
+	@EntityGraph(attributePaths = {"book", "book.author", "reader"})
+	Window<Loan> findByReaderUserEmailOrderByLoanDateDescIdDesc(String email, ScrollPosition position, Limit limit);
+
+	@EntityGraph(attributePaths = {"book", "book.author", "reader"})
+	Window<Loan> findByBookIdOrderByLoanDateDescIdDesc(Long bookId, ScrollPosition position, Limit limit);
+
+	@EntityGraph(attributePaths = {"book", "book.author", "reader"})
+	Window<Loan> findAllByReturnDateIsNullOrderByLoanDateDescIdDesc(ScrollPosition position, Limit limit);
+
+	@EntityGraph(attributePaths = {"book", "book.author", "reader"})
+	Window<Loan> findAllByReturnDateIsNullAndReaderIdOrderByLoanDateDescIdDesc(Long readerId, ScrollPosition position, Limit limit);
+
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT l.id AS id, b.id AS bookId, b.title AS bookTitle, a.name AS bookAuthorName, b.isbn AS bookIsbn, " +
+			"l.reader.id AS readerId, l.loanDate AS loanDate, l.dueDate AS dueDate, l.returnDate AS returnDate " +
+			"FROM Loan l JOIN l.book b JOIN b.author a ORDER BY l.id")
+	Stream<LoanView> streamAllViews();
+
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT l.reader.id AS readerId, l.book.id AS bookId FROM Loan l ORDER BY l.reader.id, l.id")
+	Stream<ReaderBookView> streamReaderBooks();
+
+	@QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT l.book.id AS bookId, l.loanDate AS loanDate FROM Loan l WHERE l.loanDate >= :since")
+	Stream<LoanDateView> streamLoanDatesSince(@Param("since") LocalDateTime since);
+
+	@Query("SELECT l.book.id FROM Loan l WHERE l.reader.id = :readerId AND l.id < :loanId ORDER BY l.id DESC")
+	List<Long> findBookIdsBorrowedBefore(@Param("readerId") Long readerId, @Param("loanId") Long loanId, Limit limit);
 }
@@ -0,0 +1,26 @@
+package io.github.mgrablo.BiblioNode.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Loan row with its book and author columns, read without attaching any entity to the persistence context.
+ */
+public interface LoanView {
+	Long getId();
+
+	Long getBookId();
+
+	String getBookTitle();
+
+	String getBookAuthorName();
+
+	String getBookIsbn();
+
+	Long getReaderId();
+
+	LocalDateTime getLoanDate();
+
+	LocalDateTime getDueDate();
+
+	LocalDateTime getReturnDate();
+}
@@ -1,8 +1,17 @@
 package io.github.mgrablo.BiblioNode.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 
 import io.github.mgrablo.BiblioNode.model.Reader;
@@ -12,4 +21,29 @@ public interface ReaderRepository extends JpaRepository<Reader, Long> {
 
 	@EntityGraph(attributePaths = {"user"})
 	Optional<Reader> findByUserEmail(String email);
+
+	@EntityGraph(attributePaths = {"user"})
+	Slice<Reader> findAllBy(Pageable pageable);
+
+	@EntityGraph(attributePaths = {"user"})
+	Window<Reader> findAllByOrderByIdAsc(ScrollPosition position, Limit limit);
+
+	/**
+	 * Takes one of the reader's loan slots; returns 0 if the reader already holds {@code maxActiveLoans}.
+	 */
+	@Modifying
+	@Query("UPDATE Reader r SET r.activeLoanCount = r.activeLoanCount + 1 WHERE r.id = :id AND r.activeLoanCount < :maxActiveLoans")
+	int claimLoanSlot(@Param("id") Long id, @Param("maxActiveLoans") int maxActiveLoans);
+
+	@Modifying
+	@Query("UPDATE Reader r SET r.activeLoanCount = r.activeLoanCount - 1 WHERE r.id = :id AND r.activeLoanCount > 0")
+	int releaseLoanSlot(@Param("id") Long id);
+
+	/**
+	 * Gives {@code loans} slots back to each listed reader in one statement, never going below zero.
+	 */
+	@Modifying
+	@Query("UPDATE Reader r SET r.activeLoanCount = CASE WHEN r.activeLoanCount > :loans " +
+			"THEN r.activeLoanCount - :loans ELSE 0 END WHERE r.id IN :ids")
+	int releaseLoanSlots(@Param("ids") Collection<Long> ids, @Param("loans") int loans);
 }
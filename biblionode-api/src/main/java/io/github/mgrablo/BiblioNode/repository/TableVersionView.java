@@ -0,0 +1,15 @@
+package io.github.mgrablo.BiblioNode.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row count and latest audit timestamps of a whole table. Any insert, update or delete changes at least one
+ * of them, so together they version every list read from the table.
+ */
+public interface TableVersionView {
+	long getTotal();
+
+	LocalDateTime getCreatedAt();
+
+	LocalDateTime getModifiedAt();
+}
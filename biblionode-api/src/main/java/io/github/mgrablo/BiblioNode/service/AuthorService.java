@@ -2,15 +2,34 @@ package io.github.mgrablo.BiblioNode.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 import io.github.mgrablo.BiblioNode.dto.AuthorRequest;
 import io.github.mgrablo.BiblioNode.dto.AuthorResponse;
+import io.github.mgrablo.BiblioNode.dto.BatchResult;
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
+import io.github.mgrablo.BiblioNode.dto.ResourceVersion;
 
 public interface AuthorService {
 	AuthorResponse saveAuthor(AuthorRequest authorRequest);
 
 	AuthorResponse findById(Long id);
 
+	/**
+	 * Returns the authors with the given ids in request order, with their books fetched in the same statement.
+	 */
+	BatchResult<AuthorResponse> findByIds(List<Long> ids);
+
+	/**
+	 * Returns validators for {@link #findById}, covering the author and the books listed with it.
+	 */
+	ResourceVersion findAuthorVersion(Long id);
+
+	ResourceVersion catalogVersion();
+
 	AuthorResponse findByName(String name);
 
 	Page<AuthorResponse> searchByName(String name, Pageable pageable);
@@ -20,4 +39,8 @@ public interface AuthorService {
 	void deleteAuthor(Long id);
 
 	Page<AuthorResponse> getAll(Pageable pageable);
+
+	Slice<AuthorResponse> sliceAll(Pageable pageable);
+
+	CursorPage<AuthorResponse> scrollAll(CursorRequest request);
 }
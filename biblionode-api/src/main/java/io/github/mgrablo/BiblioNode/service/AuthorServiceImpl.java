@@ -1,7 +1,17 @@
 package io.github.mgrablo.BiblioNode.service;
 
+import io.github.mgrablo.BiblioNode.cache.CatalogVersion;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache.CountRegion;
+import io.github.mgrablo.BiblioNode.config.SearchProperties;
 import io.github.mgrablo.BiblioNode.dto.AuthorRequest;
 import io.github.mgrablo.BiblioNode.dto.AuthorResponse;
+import io.github.mgrablo.BiblioNode.dto.BatchResult;
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
+import io.github.mgrablo.BiblioNode.dto.ResourceVersion;
+import io.github.mgrablo.BiblioNode.event.AuthorChangedEvent;
+import io.github.mgrablo.BiblioNode.event.AuthorDeletedEvent;
 import io.github.mgrablo.BiblioNode.exception.DataIntegrityException;
 import io.github.mgrablo.BiblioNode.exception.ResourceNotFoundException;
 import io.github.mgrablo.BiblioNode.mapper.AuthorMapper;
@@ -10,12 +20,18 @@ import io.github.mgrablo.BiblioNode.repository.AuthorRepository;
 import io.github.mgrablo.BiblioNode.repository.BookRepository;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +40,10 @@ public class AuthorServiceImpl implements AuthorService {
 	private final AuthorRepository repository;
 	private final BookRepository bookRepository;
 	private final AuthorMapper mapper;
+	private final ApplicationEventPublisher eventPublisher;
+	private final SearchProperties searchProperties;
+	private final TotalCountCache totalCounts;
+	private final CatalogVersion catalogVersion;
 
 	@Override
 	@Transactional
@@ -35,6 +55,8 @@ public class AuthorServiceImpl implements AuthorService {
 
 		Author author = mapper.toEntity(authorRequest);
 		Author savedAuthor = repository.save(author);
+		totalCounts.invalidate(CountRegion.AUTHORS);
+		eventPublisher.publishEvent(new AuthorChangedEvent(savedAuthor.getId(), savedAuthor.getName()));
 		return mapper.toResponse(savedAuthor);
 	}
 
@@ -46,6 +68,9 @@ public class AuthorServiceImpl implements AuthorService {
 		author.setName(authorRequest.name());
 		author.setBiography(authorRequest.biography());
 
+		totalCounts.invalidate(CountRegion.AUTHORS);
+		totalCounts.invalidate(CountRegion.BOOKS);
+		eventPublisher.publishEvent(new AuthorChangedEvent(author.getId(), author.getName()));
 		return mapper.toResponse(author);
 	}
 
@@ -57,6 +82,32 @@ public class AuthorServiceImpl implements AuthorService {
 				.orElseThrow(() -> new ResourceNotFoundException("Author not found for id: " + id));
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public BatchResult<AuthorResponse> findByIds(List<Long> ids) {
+		List<Long> distinct = BatchLookups.distinctIds(ids);
+		if (distinct.isEmpty()) {
+			return new BatchResult<>(List.of(), List.of());
+		}
+		List<AuthorResponse> authors = repository.findAllByIdIn(distinct).stream()
+				.map(mapper::toResponse)
+				.toList();
+		return BatchLookups.inRequestOrder(distinct, authors, AuthorResponse::id);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public ResourceVersion findAuthorVersion(Long id) {
+		var version = repository.findVersionById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Author not found for id: " + id));
+		return ResourceVersion.of("author", id + "." + version.getBookCount(), version.getAuthorModifiedAt(), version.getBooksModifiedAt());
+	}
+
+	@Override
+	public ResourceVersion catalogVersion() {
+		return catalogVersion.current();
+	}
+
 	@Override
 	@Transactional(readOnly = true)
 	public AuthorResponse findByName(String name) {
@@ -69,17 +120,37 @@ public class AuthorServiceImpl implements AuthorService {
 	@Transactional(readOnly = true)
 	public Page<AuthorResponse> searchByName(String name, Pageable pageable)
 	{
-		return repository.searchAuthorsByNameContains(name, pageable)
-				.map(mapper::toResponse);
+		if (searchProperties.mode() == SearchProperties.SearchMode.POSTGRES) {
+			Pageable unsorted = pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : Pageable.unpaged();
+			return toPage(repository.searchRankedByName(name, unsorted),
+					() -> repository.countByNameContainingIgnoreCase(name), "search-ci", TotalCountCache.ignoreCase(name));
+		}
+
+		return toPage(repository.searchAuthorsByNameContains(name, pageable),
+				() -> repository.countByNameContains(name), "search", name);
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public Page<AuthorResponse> getAll(Pageable pageable) {
-		return repository.findAll(pageable)
+		return toPage(repository.findAllBy(pageable), repository::count, "all");
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<AuthorResponse> sliceAll(Pageable pageable) {
+		return repository.findAllBy(pageable)
 				.map(mapper::toResponse);
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public CursorPage<AuthorResponse> scrollAll(CursorRequest request) {
+		var position = KeysetCursors.position(request.after(), KeysetCursors.BY_ID);
+		var authors = repository.findAllByOrderByIdAsc(position, Limit.of(request.size()));
+		return KeysetCursors.toPage(authors, mapper::toResponse, request.size());
+	}
+
 	@Override
 	@Transactional
 	public void deleteAuthor(Long id) {
@@ -92,5 +163,12 @@ public class AuthorServiceImpl implements AuthorService {
 		}
 
 		repository.deleteById(id);
+		totalCounts.invalidate(CountRegion.AUTHORS);
+		eventPublisher.publishEvent(new AuthorDeletedEvent(id));
+	}
+
+	private Page<AuthorResponse> toPage(Slice<Author> authors, LongSupplier counter, Object... filter) {
+		return SlicePages.toPage(authors, () -> totalCounts.get(CountRegion.AUTHORS, counter, filter))
+				.map(mapper::toResponse);
 	}
 }
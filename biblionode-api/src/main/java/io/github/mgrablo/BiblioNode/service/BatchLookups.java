@@ -0,0 +1,55 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import io.github.mgrablo.BiblioNode.dto.BatchResult;
+import io.github.mgrablo.BiblioNode.exception.BatchTooLargeException;
+
+/**
+ * Shared plumbing for the {@code ?ids=} endpoints: the ids are resolved with one {@code IN} query,
+ * whose rows come back in no particular order, and are then put back in request order.
+ */
+final class BatchLookups {
+	static final int MAX_IDS = 100;
+
+	private BatchLookups() { }
+
+	/**
+	 * Drops duplicates and nulls, keeping the first occurrence of each id.
+	 *
+	 * @throws BatchTooLargeException if more than {@link #MAX_IDS} distinct ids are requested
+	 */
+	static List<Long> distinctIds(List<Long> ids) {
+		Set<Long> distinct = new LinkedHashSet<>(ids);
+		distinct.remove(null);
+		if (distinct.size() > MAX_IDS) {
+			throw new BatchTooLargeException("At most " + MAX_IDS + " ids can be requested at once, got " + distinct.size());
+		}
+		return List.copyOf(distinct);
+	}
+
+	static <T> BatchResult<T> inRequestOrder(List<Long> ids, List<T> found, Function<T, Long> idOf) {
+		Map<Long, T> byId = new HashMap<>();
+		for (T item : found) {
+			byId.put(idOf.apply(item), item);
+		}
+
+		List<T> results = new ArrayList<>(found.size());
+		List<Long> missing = new ArrayList<>();
+		for (Long id : ids) {
+			T item = byId.get(id);
+			if (item != null) {
+				results.add(item);
+			} else {
+				missing.add(id);
+			}
+		}
+		return new BatchResult<>(results, missing);
+	}
+}
@@ -0,0 +1,14 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import java.io.InputStream;
+
+import io.github.mgrablo.BiblioNode.dto.BookImportResult;
+import io.github.mgrablo.BiblioNode.dto.FileFormat;
+
+public interface BookImportService {
+	/**
+	 * Streams books from {@code input}, committing every configured batch in its own transaction.
+	 * Authors are matched by exact name and created on first use; invalid rows are skipped and reported.
+	 */
+	BookImportResult importBooks(InputStream input, FileFormat format);
+}
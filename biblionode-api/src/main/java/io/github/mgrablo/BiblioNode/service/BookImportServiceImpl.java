@@ -0,0 +1,239 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache.CountRegion;
+import io.github.mgrablo.BiblioNode.config.ImportProperties;
+import io.github.mgrablo.BiblioNode.dto.BookImportResult;
+import io.github.mgrablo.BiblioNode.dto.BookImportRow;
+import io.github.mgrablo.BiblioNode.dto.FileFormat;
+import io.github.mgrablo.BiblioNode.event.AuthorChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookChangedEvent;
+import io.github.mgrablo.BiblioNode.model.Author;
+import io.github.mgrablo.BiblioNode.model.Book;
+import io.github.mgrablo.BiblioNode.repository.AuthorNameView;
+import io.github.mgrablo.BiblioNode.repository.AuthorRepository;
+import io.github.mgrablo.BiblioNode.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Imports books without holding the file in memory: rows are parsed one at a time and buffered
+ * only until a batch is full. The only state that grows with the import is the author name-to-id map.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookImportServiceImpl implements BookImportService {
+	private static final int MAX_TITLE_LENGTH = 255;
+	private static final int MAX_ISBN_LENGTH = 20;
+	private static final int MAX_AUTHOR_LENGTH = 255;
+	private static final int MAX_COVER_URL_LENGTH = 1000;
+
+	private final TransactionTemplate transactionTemplate;
+	private final AuthorRepository authorRepository;
+	private final BookRepository bookRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TotalCountCache totalCounts;
+	private final ObjectMapper objectMapper;
+	private final ImportProperties importProperties;
+
+	@Override
+	public BookImportResult importBooks(InputStream input, FileFormat format) {
+		Map<String, Long> authorIds = loadAuthorIds();
+		Progress progress = new Progress(importProperties.maxReportedErrors());
+		List<PendingBook> batch = new ArrayList<>(importProperties.batchSize());
+
+		var source = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+		try (ImportRowReader reader = ImportRowReader.open(format, source, objectMapper)) {
+			ImportRowReader.Line line;
+			while ((line = reader.next()) != null) {
+				if (line.error() != null) {
+					progress.reject(line.number(), line.error());
+					continue;
+				}
+
+				BookImportRow row = clean(line.row());
+				String error = validate(row);
+				if (error != null) {
+					progress.reject(line.number(), error);
+					continue;
+				}
+
+				batch.add(new PendingBook(line.number(), row));
+				if (batch.size() == importProperties.batchSize()) {
+					insertBatch(batch, authorIds, progress);
+					batch.clear();
+				}
+			}
+			if (!batch.isEmpty()) {
+				insertBatch(batch, authorIds, progress);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read the import file", e);
+		}
+
+		BookImportResult result = progress.toResult();
+		log.info("Book import finished: {} imported, {} failed, {} authors created",
+				result.imported(), result.failed(), result.authorsCreated());
+		return result;
+	}
+
+	private Map<String, Long> loadAuthorIds() {
+		Map<String, Long> authorIds = new HashMap<>();
+		transactionTemplate.executeWithoutResult(status -> {
+			try (Stream<AuthorNameView> authors = authorRepository.streamAllNames()) {
+				authors.forEach(author -> authorIds.putIfAbsent(author.getName(), author.getId()));
+			}
+		});
+		return authorIds;
+	}
+
+	/**
+	 * Inserts one batch in its own transaction; Hibernate flushes it as JDBC batches of
+	 * {@code hibernate.jdbc.batch_size} at commit. Authors created here are only added to
+	 * {@code authorIds} after the commit, so a rolled-back batch cannot leave dangling ids behind.
+	 * A batch that violates a constraint is split in half and retried until the offending rows stand alone,
+	 * so the rest still land and each rejected row is reported with its own cause. Any other failure
+	 * is not caused by the data and ends the import; batches committed before it stay imported.
+	 */
+	private void insertBatch(List<PendingBook> batch, Map<String, Long> authorIds, Progress progress) {
+		try {
+			Map<String, Long> createdAuthors = transactionTemplate.execute(status -> {
+				Map<String, Author> created = new HashMap<>();
+				List<Book> books = new ArrayList<>(batch.size());
+				for (PendingBook pending : batch) {
+					String name = pending.row().author();
+					Long authorId = authorIds.get(name);
+					Author author = authorId != null
+							? authorRepository.getReferenceById(authorId)
+							: created.computeIfAbsent(name, this::createAuthor);
+					books.add(toBook(pending.row(), author));
+				}
+
+				List<Book> saved = bookRepository.saveAll(books);
+				for (int i = 0; i < saved.size(); i++) {
+					Book book = saved.get(i);
+					eventPublisher.publishEvent(new BookChangedEvent(book.getId(), book.getTitle(), book.getAuthor().getId(), batch.get(i).row().author()));
+				}
+
+				totalCounts.invalidate(CountRegion.BOOKS);
+				if (!created.isEmpty()) {
+					totalCounts.invalidate(CountRegion.AUTHORS);
+				}
+				Map<String, Long> createdIds = new HashMap<>();
+				created.forEach((name, author) -> createdIds.put(name, author.getId()));
+				return createdIds;
+			});
+
+			authorIds.putAll(createdAuthors);
+			progress.imported(batch.size(), createdAuthors.size());
+		} catch (DataIntegrityViolationException e) {
+			if (batch.size() > 1) {
+				int middle = batch.size() / 2;
+				insertBatch(batch.subList(0, middle), authorIds, progress);
+				insertBatch(batch.subList(middle, batch.size()), authorIds, progress);
+				return;
+			}
+			progress.reject(batch.getFirst().line(), "Row rolled back: " + e.getMostSpecificCause().getMessage());
+		}
+	}
+
+	private Author createAuthor(String name) {
+		Author author = new Author();
+		author.setName(name);
+		Author savedAuthor = authorRepository.save(author);
+		eventPublisher.publishEvent(new AuthorChangedEvent(savedAuthor.getId(), name));
+		return savedAuthor;
+	}
+
+	private static Book toBook(BookImportRow row, Author author) {
+		Book book = new Book();
+		book.setTitle(row.title());
+		book.setIsbn(row.isbn());
+		book.setAuthor(author);
+		book.setCoverUrl(row.coverUrl());
+		book.setDescription(row.description());
+		return book;
+	}
+
+	private static BookImportRow clean(BookImportRow row) {
+		return new BookImportRow(strip(row.title()), strip(row.isbn()), strip(row.author()), strip(row.coverUrl()), row.description());
+	}
+
+	private static String validate(BookImportRow row) {
+		if (row.title() == null) {
+			return "The title cannot be empty";
+		}
+		if (row.title().length() > MAX_TITLE_LENGTH) {
+			return "The title cannot exceed " + MAX_TITLE_LENGTH + " characters";
+		}
+		if (row.isbn() == null) {
+			return "The isbn cannot be empty";
+		}
+		if (row.isbn().length() > MAX_ISBN_LENGTH) {
+			return "The isbn cannot exceed " + MAX_ISBN_LENGTH + " characters";
+		}
+		if (row.author() == null) {
+			return "The author cannot be empty";
+		}
+		if (row.author().length() > MAX_AUTHOR_LENGTH) {
+			return "The author cannot exceed " + MAX_AUTHOR_LENGTH + " characters";
+		}
+		if (row.coverUrl() != null && row.coverUrl().length() > MAX_COVER_URL_LENGTH) {
+			return "The cover URL cannot exceed " + MAX_COVER_URL_LENGTH + " characters";
+		}
+		return null;
+	}
+
+	private static String strip(String value) {
+		return value == null || value.isBlank() ? null : value.strip();
+	}
+
+	private record PendingBook(long line, BookImportRow row) { }
+
+	private static final class Progress {
+		private final int maxErrors;
+		private final List<BookImportResult.RowError> errors = new ArrayList<>();
+		private long imported;
+		private long failed;
+		private int authorsCreated;
+
+		private Progress(int maxErrors) {
+			this.maxErrors = maxErrors;
+		}
+
+		private void imported(int books, int authors) {
+			imported += books;
+			authorsCreated += authors;
+		}
+
+		private void reject(long line, String message) {
+			failed++;
+			if (errors.size() < maxErrors) {
+				errors.add(new BookImportResult.RowError(line, message));
+			}
+		}
+
+		private BookImportResult toResult() {
+			return new BookImportResult(imported, failed, authorsCreated, List.copyOf(errors));
+		}
+	}
+}
@@ -2,9 +2,20 @@ package io.github.mgrablo.BiblioNode.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.List;
+
+import io.github.mgrablo.BiblioNode.dto.BatchResult;
 import io.github.mgrablo.BiblioNode.dto.BookRequest;
 import io.github.mgrablo.BiblioNode.dto.BookResponse;
+import io.github.mgrablo.BiblioNode.dto.BookSearchResult;
+import io.github.mgrablo.BiblioNode.dto.BookSummary;
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
+import io.github.mgrablo.BiblioNode.dto.ResourceVersion;
+import io.github.mgrablo.BiblioNode.dto.PopularBook;
+import io.github.mgrablo.BiblioNode.dto.Suggestion;
 
 public interface BookService {
 	BookResponse addBook(BookRequest bookRequest);
@@ -15,8 +26,57 @@ public interface BookService {
 
 	BookResponse findBookById(Long id);
 
+	/**
+	 * Returns the books with the given ids in request order, read with their authors in one statement.
+	 * Ids that do not exist are reported in {@link BatchResult#missing()}.
+	 */
+	BatchResult<BookResponse> findBooksByIds(List<Long> ids);
+
 	BookResponse findBookByTitle(String title);
 
-	Page<BookResponse> getAllBooks(Pageable pageable);
-	Page<BookResponse> searchBooks(String bookTitle, String authorName, Pageable pageable);
+	BookResponse findBookByIsbn(String isbn);
+
+	/**
+	 * Returns validators for {@link #findBookById} from a single timestamp lookup, without loading the book.
+	 */
+	ResourceVersion findBookVersion(Long id);
+
+	/**
+	 * Returns validators shared by all book lists; they change on every committed book or author write.
+	 */
+	ResourceVersion catalogVersion();
+
+	Page<BookSummary> getAllBooks(Pageable pageable);
+	Slice<BookSummary> sliceAllBooks(Pageable pageable);
+	CursorPage<BookSummary> scrollAllBooks(CursorRequest request);
+	Slice<BookSummary> sliceAvailableBooks(Pageable pageable);
+	CursorPage<BookSummary> scrollAvailableBooks(CursorRequest request);
+	Page<BookSummary> searchBooks(String bookTitle, String authorName, Pageable pageable);
+
+	/**
+	 * Like {@link #getAllBooks} and {@link #searchBooks}, but only books that can be borrowed right now.
+	 */
+	Page<BookSummary> getAvailableBooks(Pageable pageable);
+	Page<BookSummary> searchAvailableBooks(String bookTitle, String authorName, Pageable pageable);
+
+	/**
+	 * Returns a page of {@link #searchBooks} (or {@link #searchAvailableBooks}) together with
+	 * per-author and availability counts over all matches.
+	 */
+	BookSearchResult searchBooksWithFacets(String bookTitle, String authorName, boolean availableOnly, Pageable pageable);
+
+	Page<BookResponse> searchByDescription(String query, Pageable pageable);
+	List<Suggestion> suggest(String query, int limit);
+
+	/**
+	 * Returns the books most often borrowed by readers of the given book, strongest first,
+	 * from the precomputed co-borrow index.
+	 */
+	List<BookResponse> findRelatedBooks(Long bookId, int limit);
+
+	/**
+	 * Returns the most borrowed books over a trailing window written as whole days, e.g. {@code 7d},
+	 * with approximate loan counts served from memory.
+	 */
+	List<PopularBook> findPopularBooks(String window, int limit);
 }
@@ -1,27 +1,89 @@
 package io.github.mgrablo.BiblioNode.service;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import io.github.mgrablo.BiblioNode.cache.BookResponseCache;
+import io.github.mgrablo.BiblioNode.cache.CatalogVersion;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache.CountRegion;
+import io.github.mgrablo.BiblioNode.config.SearchProperties;
+import io.github.mgrablo.BiblioNode.dto.BatchResult;
+import io.github.mgrablo.BiblioNode.dto.BookFacets;
 import io.github.mgrablo.BiblioNode.dto.BookRequest;
 import io.github.mgrablo.BiblioNode.dto.BookResponse;
+import io.github.mgrablo.BiblioNode.dto.BookSearchResult;
+import io.github.mgrablo.BiblioNode.dto.BookSummary;
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
+import io.github.mgrablo.BiblioNode.dto.PopularBook;
+import io.github.mgrablo.BiblioNode.dto.ResourceVersion;
+import io.github.mgrablo.BiblioNode.dto.Suggestion;
+import io.github.mgrablo.BiblioNode.event.BookAvailabilityChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookDeletedEvent;
+import io.github.mgrablo.BiblioNode.exception.DataIntegrityException;
+import io.github.mgrablo.BiblioNode.exception.InvalidIsbnException;
+import io.github.mgrablo.BiblioNode.exception.InvalidWindowException;
 import io.github.mgrablo.BiblioNode.exception.ResourceNotFoundException;
+import io.github.mgrablo.BiblioNode.index.BookAvailabilityIndex;
+import io.github.mgrablo.BiblioNode.index.BookSearchIndex;
+import io.github.mgrablo.BiblioNode.index.BookSuggestionIndex;
+import io.github.mgrablo.BiblioNode.index.CoBorrowIndex;
+import io.github.mgrablo.BiblioNode.index.PopularBooksIndex;
 import io.github.mgrablo.BiblioNode.mapper.BookMapper;
 import io.github.mgrablo.BiblioNode.model.Author;
 import io.github.mgrablo.BiblioNode.model.Book;
+import io.github.mgrablo.BiblioNode.model.Isbn;
 import io.github.mgrablo.BiblioNode.repository.AuthorRepository;
+import io.github.mgrablo.BiblioNode.repository.AuthorNameView;
+import io.github.mgrablo.BiblioNode.repository.BookFacetView;
 import io.github.mgrablo.BiblioNode.repository.BookRepository;
+import io.github.mgrablo.BiblioNode.repository.BookSummaryView;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class BookServiceImpl implements BookService {
+	private static final int MAX_SUGGESTIONS = 25;
+	private static final int MAX_AUTHOR_FACETS = 20;
+	private static final Pattern WINDOW_PATTERN = Pattern.compile("(\\d{1,4})d");
+
 	private final BookRepository bookRepository;
 	private final AuthorRepository authorRepository;
 	private final BookMapper mapper;
-
+	private final BookSearchIndex searchIndex;
+	private final BookSuggestionIndex suggestionIndex;
+	private final ApplicationEventPublisher eventPublisher;
+	private final SearchProperties searchProperties;
+	private final TotalCountCache totalCounts;
+	private final CatalogVersion catalogVersion;
+	private final BookResponseCache bookCache;
+	private final BookAvailabilityIndex availabilityIndex;
+	private final CoBorrowIndex coBorrowIndex;
+	private final PopularBooksIndex popularBooksIndex;
+	private final Clock clock;
 
 	@Override
 	@Transactional
@@ -31,41 +93,263 @@ public class BookServiceImpl implements BookService {
 
 		Book book = mapper.toEntity(bookRequest);
 		book.setAuthor(author);
+		book.stockCopies(bookRequest.totalCopies() != null ? bookRequest.totalCopies() : 1);
 		Book savedBook = bookRepository.save(book);
+		totalCounts.invalidate(CountRegion.BOOKS);
+		eventPublisher.publishEvent(new BookChangedEvent(savedBook.getId(), savedBook.getTitle(), author.getId(), author.getName()));
 		return mapper.toResponse(savedBook);
 	}
 
 	@Override
-	@Transactional
-	public Page<BookResponse> getAllBooks(Pageable pageable) {
-		return bookRepository.findAll(pageable)
-				.map(mapper::toResponse);
+	@Transactional(readOnly = true)
+	public Page<BookSummary> getAllBooks(Pageable pageable) {
+		return toPage(bookRepository.findAllSummaries(pageable), bookRepository::count, "all")
+				.map(mapper::toSummary);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<BookSummary> sliceAllBooks(Pageable pageable) {
+		return bookRepository.findAllSummaries(pageable)
+				.map(mapper::toSummary);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public CursorPage<BookSummary> scrollAllBooks(CursorRequest request) {
+		var position = KeysetCursors.position(request.after(), KeysetCursors.BY_ID);
+		var rows = bookRepository.findSummariesAfter(KeysetCursors.afterId(position), Limit.of(request.size() + 1));
+		var books = KeysetCursors.windowById(rows, request.size(), BookSummaryView::getId);
+		return KeysetCursors.toPage(books, mapper::toSummary, request.size());
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<BookSummary> sliceAvailableBooks(Pageable pageable) {
+		return bookRepository.findAvailableSummaries(pageable)
+				.map(mapper::toSummary);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public CursorPage<BookSummary> scrollAvailableBooks(CursorRequest request) {
+		var position = KeysetCursors.position(request.after(), KeysetCursors.BY_ID);
+		var rows = bookRepository.findAvailableSummariesAfter(KeysetCursors.afterId(position), Limit.of(request.size() + 1));
+		var books = KeysetCursors.windowById(rows, request.size(), BookSummaryView::getId);
+		return KeysetCursors.toPage(books, mapper::toSummary, request.size());
 	}
 
 	@Override
-	@Transactional
 	public BookResponse findBookById(Long id) {
-		var book = bookRepository.findById(id);
-		return book.map(mapper::toResponse).orElseThrow(() -> new ResourceNotFoundException("Book not found for id: " + id));
+		// Not transactional, so a cache hit does not take a connection from the pool.
+		return bookCache.get(id, key -> bookRepository.findDetailById(key)
+				.map(mapper::toResponse)
+				.orElseThrow(() -> new ResourceNotFoundException("Book not found for id: " + key)));
 	}
 
 	@Override
-	@Transactional
+	@Transactional(readOnly = true)
+	public BatchResult<BookResponse> findBooksByIds(List<Long> ids) {
+		List<Long> distinct = BatchLookups.distinctIds(ids);
+		if (distinct.isEmpty()) {
+			return new BatchResult<>(List.of(), List.of());
+		}
+		List<BookResponse> books = bookRepository.findDetailsByIdIn(distinct).stream()
+				.map(mapper::toResponse)
+				.toList();
+		return BatchLookups.inRequestOrder(distinct, books, BookResponse::id);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
 	public BookResponse findBookByTitle(String title) {
-		var book = bookRepository.findBookByTitle(title);
+		var book = bookRepository.findDetailByTitle(title);
 		return book.map(mapper::toResponse).orElseThrow(() -> new ResourceNotFoundException("Book not found with title: " + title));
 	}
 
 	@Override
-	@Transactional
-	public Page<BookResponse> searchBooks(String bookTitle, String authorName, Pageable pageable) {
-		var books = bookRepository.searchByTitleAndAuthor(bookTitle, authorName, pageable);
-		return books.map(mapper::toResponse);
+	@Transactional(readOnly = true)
+	public BookResponse findBookByIsbn(String isbn) {
+		String isbn13 = Isbn.toIsbn13(isbn);
+		if (isbn13 == null) {
+			throw new InvalidIsbnException("Invalid ISBN: " + isbn);
+		}
+		return bookRepository.findDetailsByIsbn13(isbn13, Limit.of(1)).stream()
+				.findFirst()
+				.map(mapper::toResponse)
+				.orElseThrow(() -> new ResourceNotFoundException("Book not found with ISBN: " + isbn));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public ResourceVersion findBookVersion(Long id) {
+		var version = bookRepository.findVersionById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Book not found for id: " + id));
+		return ResourceVersion.of("book", id, version.getBookModifiedAt(), version.getAuthorModifiedAt());
+	}
+
+	@Override
+	public ResourceVersion catalogVersion() {
+		return catalogVersion.current();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Page<BookSummary> searchBooks(String titleFilter, String authorFilter, Pageable pageable) {
+		String bookTitle = blankToNull(titleFilter);
+		String authorName = blankToNull(authorFilter);
+		return switch (searchProperties.mode()) {
+			case POSTGRES -> toPage(
+					bookRepository.searchRankedByTitleAndAuthor(nullToEmpty(bookTitle), nullToEmpty(authorName), withoutSort(pageable)),
+					() -> bookRepository.countByTitleAndAuthor(bookTitle, authorName),
+					"search", TotalCountCache.ignoreCase(bookTitle), TotalCountCache.ignoreCase(authorName)
+			).map(mapper::toSummary);
+			case INDEX -> searchIndex.isReady() && searchIndex.supports(pageable.getSort())
+					? loadPage(searchIndex.search(bookTitle, authorName, pageable.getSort()), pageable)
+					: searchWithLike(bookTitle, authorName, pageable);
+			case LIKE -> searchWithLike(bookTitle, authorName, pageable);
+		};
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Page<BookSummary> getAvailableBooks(Pageable pageable) {
+		if (availabilityIndex.isReady() && pageable.isPaged() && isIdOrder(pageable.getSort())) {
+			// The bitmap is already in id order, so the page is read straight from it.
+			List<Long> pageIds = availabilityIndex.availableIds(pageable.getOffset(), pageable.getPageSize());
+			return loadSummaries(pageIds, pageable, availabilityIndex.availableCount());
+		}
+		if (availabilityIndex.isReady() && searchIndex.isReady() && searchIndex.supports(pageable.getSort())) {
+			return loadPage(availabilityIndex.retainAvailable(searchIndex.search(null, null, pageable.getSort())), pageable);
+		}
+		// Availability changes on every loan, so the total is not worth caching.
+		return SlicePages.toPage(bookRepository.findAvailableSummaries(pageable), bookRepository::countByAvailableTrue)
+				.map(mapper::toSummary);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Page<BookSummary> searchAvailableBooks(String titleFilter, String authorFilter, Pageable pageable) {
+		String bookTitle = blankToNull(titleFilter);
+		String authorName = blankToNull(authorFilter);
+		if (searchProperties.mode() == SearchProperties.SearchMode.INDEX && availabilityIndex.isReady()
+				&& searchIndex.isReady() && searchIndex.supports(pageable.getSort())) {
+			return loadPage(availabilityIndex.retainAvailable(searchIndex.search(bookTitle, authorName, pageable.getSort())), pageable);
+		}
+		return SlicePages.toPage(bookRepository.searchAvailableByTitleAndAuthor(bookTitle, authorName, pageable),
+				() -> bookRepository.countAvailableByTitleAndAuthor(bookTitle, authorName))
+				.map(mapper::toSummary);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public BookSearchResult searchBooksWithFacets(String titleFilter, String authorFilter, boolean availableOnly, Pageable pageable) {
+		String bookTitle = blankToNull(titleFilter);
+		String authorName = blankToNull(authorFilter);
+		if (searchProperties.mode() == SearchProperties.SearchMode.INDEX && availabilityIndex.isReady()
+				&& searchIndex.isReady() && searchIndex.supports(pageable.getSort())) {
+			List<Long> ids = searchIndex.search(bookTitle, authorName, pageable.getSort());
+			List<Long> availableIds = availabilityIndex.retainAvailable(ids);
+			Map<Long, Long> countsByAuthor = searchIndex.countByAuthor(ids);
+			List<Long> topAuthorIds = topAuthorIds(countsByAuthor);
+			Map<Long, String> names = authorRepository.findNamesByIdIn(topAuthorIds).stream()
+					.collect(Collectors.toMap(AuthorNameView::getId, AuthorNameView::getName));
+
+			var facets = new BookFacets(toAuthorFacets(topAuthorIds, countsByAuthor, names),
+					availableIds.size(), ids.size() - availableIds.size());
+			return new BookSearchResult(loadPage(availableOnly ? availableIds : ids, pageable), facets);
+		}
+
+		// One grouped query yields every facet and the total, so no separate count(*) is needed.
+		long available = 0;
+		long onLoan = 0;
+		Map<Long, Long> countsByAuthor = new HashMap<>();
+		Map<Long, String> names = new HashMap<>();
+		for (BookFacetView group : bookRepository.countFacetsByTitleAndAuthor(bookTitle, authorName)) {
+			if (group.isAvailable()) {
+				available += group.getBooks();
+			} else {
+				onLoan += group.getBooks();
+			}
+			countsByAuthor.merge(group.getAuthorId(), group.getBooks(), Long::sum);
+			names.put(group.getAuthorId(), group.getAuthorName());
+		}
+		var facets = new BookFacets(toAuthorFacets(topAuthorIds(countsByAuthor), countsByAuthor, names), available, onLoan);
+
+		Slice<BookSummaryView> books;
+		if (availableOnly) {
+			books = bookRepository.searchAvailableByTitleAndAuthor(bookTitle, authorName, pageable);
+		} else if (searchProperties.mode() == SearchProperties.SearchMode.POSTGRES) {
+			books = bookRepository.searchRankedByTitleAndAuthor(nullToEmpty(bookTitle), nullToEmpty(authorName), withoutSort(pageable));
+		} else {
+			books = bookRepository.searchByTitleAndAuthor(bookTitle, authorName, pageable);
+		}
+		long total = availableOnly ? available : available + onLoan;
+		return new BookSearchResult(new PageImpl<>(books.map(mapper::toSummary).getContent(), pageable, total), facets);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Page<BookResponse> searchByDescription(String query, Pageable pageable) {
+		if (searchProperties.mode() == SearchProperties.SearchMode.POSTGRES) {
+			return toPage(bookRepository.searchRankedByDescription(query, withoutSort(pageable)),
+					() -> bookRepository.countRankedByDescription(query), "description-fts", query)
+					.map(mapper::toResponse);
+		}
+		return toPage(bookRepository.searchByDescription(query, pageable),
+				() -> bookRepository.countByDescription(query), "description", TotalCountCache.ignoreCase(query))
+				.map(mapper::toResponse);
+	}
+
+	@Override
+	public List<Suggestion> suggest(String query, int limit) {
+		return suggestionIndex.suggest(query, Math.clamp(limit, 1, MAX_SUGGESTIONS));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<BookResponse> findRelatedBooks(Long bookId, int limit) {
+		List<Long> relatedIds = coBorrowIndex.related(bookId, Math.max(limit, 1));
+		if (relatedIds.isEmpty()) {
+			if (!bookRepository.existsById(bookId)) {
+				throw new ResourceNotFoundException("Book not found for id: " + bookId);
+			}
+			return List.of();
+		}
+		List<BookResponse> books = bookRepository.findDetailsByIdIn(relatedIds).stream()
+				.map(mapper::toResponse)
+				.toList();
+		return BatchLookups.inRequestOrder(relatedIds, books, BookResponse::id).results();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<PopularBook> findPopularBooks(String window, int limit) {
+		int days = parseWindowDays(window);
+		List<PopularBooksIndex.Ranking> ranking = popularBooksIndex.top(days, Math.max(limit, 1));
+		if (ranking.isEmpty()) {
+			return List.of();
+		}
+		List<Long> ids = ranking.stream().map(PopularBooksIndex.Ranking::bookId).toList();
+		Map<Long, BookResponse> books = bookRepository.findDetailsByIdIn(ids).stream()
+				.map(mapper::toResponse)
+				.collect(Collectors.toMap(BookResponse::id, Function.identity()));
+		return ranking.stream()
+				.filter(entry -> books.containsKey(entry.bookId()))
+				.map(entry -> new PopularBook(books.get(entry.bookId()), entry.loans()))
+				.toList();
 	}
 
 	@Override
 	@Transactional
 	public BookResponse updateBook(Long id, BookRequest bookRequest) {
+		// Resized before loading, so the entity read below already has the new counters.
+		boolean resized = bookRequest.totalCopies() != null
+				&& bookRepository.resizeCopies(id, bookRequest.totalCopies(), LocalDateTime.now(clock)) > 0;
+		if (bookRequest.totalCopies() != null && !resized && bookRepository.existsById(id)) {
+			throw new DataIntegrityException("Cannot reduce book id: " + id + " to " + bookRequest.totalCopies() + " copies while more are on loan");
+		}
+
 		Book book = bookRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Book not found for id: " + id));
 
 		book.setTitle(bookRequest.title());
@@ -79,6 +363,11 @@ public class BookServiceImpl implements BookService {
 			book.setAuthor(newAuthor);
 		}
 
+		totalCounts.invalidate(CountRegion.BOOKS);
+		eventPublisher.publishEvent(new BookChangedEvent(book.getId(), book.getTitle(), book.getAuthor().getId(), book.getAuthor().getName()));
+		if (resized) {
+			eventPublisher.publishEvent(new BookAvailabilityChangedEvent(book.getId(), book.isAvailable()));
+		}
 		return mapper.toResponse(book);
 	}
 
@@ -90,5 +379,93 @@ public class BookServiceImpl implements BookService {
 		}
 
 		bookRepository.deleteById(id);
+		totalCounts.invalidate(CountRegion.BOOKS);
+		eventPublisher.publishEvent(new BookDeletedEvent(id));
+	}
+
+	private Page<BookSummary> searchWithLike(String bookTitle, String authorName, Pageable pageable) {
+		return toPage(bookRepository.searchByTitleAndAuthor(bookTitle, authorName, pageable),
+				() -> bookRepository.countByTitleAndAuthor(bookTitle, authorName),
+				"search", TotalCountCache.ignoreCase(bookTitle), TotalCountCache.ignoreCase(authorName))
+				.map(mapper::toSummary);
+	}
+
+	private <T> Page<T> toPage(Slice<T> books, LongSupplier counter, Object... filter) {
+		return SlicePages.toPage(books, () -> totalCounts.get(CountRegion.BOOKS, counter, filter));
+	}
+
+	private Page<BookSummary> loadPage(List<Long> ids, Pageable pageable) {
+		List<Long> pageIds = ids;
+		if (pageable.isPaged()) {
+			int from = (int) Math.min(pageable.getOffset(), ids.size());
+			int to = Math.min(from + pageable.getPageSize(), ids.size());
+			pageIds = ids.subList(from, to);
+		}
+		return loadSummaries(pageIds, pageable, ids.size());
+	}
+
+	private Page<BookSummary> loadSummaries(List<Long> pageIds, Pageable pageable, long total) {
+		if (pageIds.isEmpty()) {
+			return new PageImpl<>(List.of(), pageable, total);
+		}
+
+		Map<Long, BookSummaryView> booksById = bookRepository.findSummariesByIdIn(pageIds).stream()
+				.collect(Collectors.toMap(BookSummaryView::getId, Function.identity()));
+
+		List<BookSummary> content = pageIds.stream()
+				.map(booksById::get)
+				.filter(Objects::nonNull)
+				.map(mapper::toSummary)
+				.toList();
+
+		return new PageImpl<>(content, pageable, total);
+	}
+
+	private static List<Long> topAuthorIds(Map<Long, Long> countsByAuthor) {
+		return countsByAuthor.entrySet().stream()
+				.sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder())
+						.thenComparing(Map.Entry.comparingByKey()))
+				.limit(MAX_AUTHOR_FACETS)
+				.map(Map.Entry::getKey)
+				.toList();
+	}
+
+	private static List<BookFacets.AuthorFacet> toAuthorFacets(List<Long> authorIds, Map<Long, Long> counts, Map<Long, String> names) {
+		return authorIds.stream()
+				.map(id -> new BookFacets.AuthorFacet(id, names.get(id), counts.get(id)))
+				.toList();
+	}
+
+	private static boolean isIdOrder(Sort sort) {
+		if (sort.isUnsorted()) {
+			return true;
+		}
+		List<Sort.Order> orders = sort.toList();
+		return orders.size() == 1 && "id".equals(orders.getFirst().getProperty()) && orders.getFirst().isAscending();
+	}
+
+	private static Pageable withoutSort(Pageable pageable) {
+		return pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : Pageable.unpaged();
+	}
+
+	private int parseWindowDays(String window) {
+		Matcher matcher = WINDOW_PATTERN.matcher(nullToEmpty(window).trim());
+		int days = matcher.matches() ? Integer.parseInt(matcher.group(1)) : 0;
+		if (days < 1 || days > popularBooksIndex.maxWindowDays()) {
+			throw new InvalidWindowException("Window must be between 1d and " + popularBooksIndex.maxWindowDays() + "d, got: " + window);
+		}
+		return days;
+	}
+
+	private static String nullToEmpty(String value) {
+		return value == null ? "" : value;
+	}
+
+	/**
+	 * A filter of only whitespace means "no filter". Every search mode must agree on that, so it is
+	 * decided here rather than in each of them: the LIKE and full-text queries would match it literally.
+	 */
+	private static String blankToNull(String value) {
+		return value == null || value.isBlank() ? null : value;
 	}
 }
@@ -0,0 +1,11 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import io.github.mgrablo.BiblioNode.dto.CoverFile;
+
+public interface CoverService {
+	/**
+	 * Returns the locally stored cover of a book, or its bounded-size thumbnail, fetching the
+	 * image from the book's {@code coverUrl} the first time it is asked for.
+	 */
+	CoverFile findCover(Long bookId, boolean thumbnail);
+}
@@ -0,0 +1,24 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import org.springframework.stereotype.Service;
+
+import io.github.mgrablo.BiblioNode.cache.CoverStore;
+import io.github.mgrablo.BiblioNode.dto.CoverFile;
+import io.github.mgrablo.BiblioNode.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class CoverServiceImpl implements CoverService {
+	private final BookService bookService;
+	private final CoverStore coverStore;
+
+	@Override
+	public CoverFile findCover(Long bookId, boolean thumbnail) {
+		String coverUrl = bookService.findBookById(bookId).coverUrl();
+		if (coverUrl == null || coverUrl.isBlank()) {
+			throw new ResourceNotFoundException("No cover for book id: " + bookId);
+		}
+		return coverStore.get(coverUrl.trim(), thumbnail);
+	}
+}
@@ -0,0 +1,136 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import io.github.mgrablo.BiblioNode.dto.BookImportRow;
+import io.github.mgrablo.BiblioNode.exception.InvalidImportException;
+
+/**
+ * Reads RFC 4180 CSV with a header row naming the columns {@code title}, {@code isbn}, {@code author}
+ * and optionally {@code coverUrl} and {@code description}, in any order. Quoted fields may span lines.
+ */
+final class CsvImportRowReader implements ImportRowReader {
+	private static final List<String> REQUIRED_COLUMNS = List.of("title", "isbn", "author");
+
+	private final BufferedReader reader;
+	private final Map<String, Integer> columns = new HashMap<>();
+	private final StringBuilder field = new StringBuilder();
+	private long lineNumber = 1;
+
+	CsvImportRowReader(BufferedReader reader) throws IOException {
+		this.reader = reader;
+		skipByteOrderMark();
+
+		List<String> header = readRecord();
+		if (header == null) {
+			throw new InvalidImportException("The CSV file is empty");
+		}
+		for (int i = 0; i < header.size(); i++) {
+			columns.putIfAbsent(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+		}
+		for (String column : REQUIRED_COLUMNS) {
+			if (!columns.containsKey(column)) {
+				throw new InvalidImportException("The CSV header is missing the '" + column + "' column");
+			}
+		}
+	}
+
+	@Override
+	public Line next() throws IOException {
+		List<String> record;
+		long start;
+		do {
+			start = lineNumber;
+			record = readRecord();
+			if (record == null) {
+				return null;
+			}
+		} while (record.size() == 1 && record.getFirst().isBlank());
+
+		if (record.size() > columns.size()) {
+			return Line.rejected(start, "Expected at most " + columns.size() + " fields but found " + record.size());
+		}
+		return Line.parsed(start, new BookImportRow(
+				value(record, "title"),
+				value(record, "isbn"),
+				value(record, "author"),
+				value(record, "coverurl"),
+				value(record, "description")
+		));
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	/**
+	 * Spreadsheet exports often start with a UTF-8 byte order mark, which would otherwise stick to the first column name.
+	 */
+	private void skipByteOrderMark() throws IOException {
+		reader.mark(1);
+		if (reader.read() != '\uFEFF') {
+			reader.reset();
+		}
+	}
+
+	private String value(List<String> record, String column) {
+		Integer index = columns.get(column);
+		if (index == null || index >= record.size()) {
+			return null;
+		}
+		String value = record.get(index);
+		return value.isEmpty() ? null : value;
+	}
+
+	private List<String> readRecord() throws IOException {
+		List<String> record = new ArrayList<>();
+		field.setLength(0);
+		boolean quoted = false;
+		boolean empty = true;
+
+		int c;
+		while ((c = reader.read()) != -1) {
+			empty = false;
+			if (quoted) {
+				if (c == '"') {
+					reader.mark(1);
+					if (reader.read() == '"') {
+						field.append('"');
+					} else {
+						quoted = false;
+						reader.reset();
+					}
+				} else {
+					if (c == '\n') {
+						lineNumber++;
+					}
+					field.append((char) c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				record.add(field.toString());
+				field.setLength(0);
+			} else if (c == '\n') {
+				lineNumber++;
+				record.add(field.toString());
+				return record;
+			} else if (c != '\r') {
+				field.append((char) c);
+			}
+		}
+
+		if (empty) {
+			return null;
+		}
+		record.add(field.toString());
+		return record;
+	}
+}
@@ -0,0 +1,16 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import io.github.mgrablo.BiblioNode.dto.FileFormat;
+
+public interface ExportService {
+	/**
+	 * Writes every book, ordered by id, to {@code output} as rows are read from a forward-only cursor.
+	 * The CSV header is compatible with the bulk import. Returns the number of rows written.
+	 */
+	long exportBooks(OutputStream output, FileFormat format) throws IOException;
+
+	long exportLoans(OutputStream output, FileFormat format) throws IOException;
+}
@@ -0,0 +1,119 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.github.mgrablo.BiblioNode.dto.FileFormat;
+import io.github.mgrablo.BiblioNode.mapper.BookMapper;
+import io.github.mgrablo.BiblioNode.mapper.LoanMapper;
+import io.github.mgrablo.BiblioNode.repository.BookDetailView;
+import io.github.mgrablo.BiblioNode.repository.BookRepository;
+import io.github.mgrablo.BiblioNode.repository.LoanRepository;
+import io.github.mgrablo.BiblioNode.repository.LoanView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Streams whole tables without paging. Rows are read as projections, so the persistence context stays empty,
+ * and each one is written and dropped before the next is fetched; heap use does not depend on table size.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+	private static final int FLUSH_EVERY_ROWS = 1000;
+	private static final String FORMULA_TRIGGERS = "=+-@\t\r";
+	private static final List<String> BOOK_COLUMNS = List.of(
+			"id", "title", "isbn", "author", "authorId", "available", "availableCopies", "totalCopies",
+			"coverUrl", "description", "createdAt", "modifiedAt");
+	private static final List<String> LOAN_COLUMNS = List.of(
+			"id", "bookId", "bookTitle", "bookAuthorName", "bookIsbn", "readerId", "loanDate", "dueDate", "returnDate");
+
+	private final BookRepository bookRepository;
+	private final LoanRepository loanRepository;
+	private final BookMapper bookMapper;
+	private final LoanMapper loanMapper;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	@Transactional(readOnly = true)
+	public long exportBooks(OutputStream output, FileFormat format) throws IOException {
+		try (Stream<BookDetailView> books = bookRepository.streamAllDetails()) {
+			long rows = write(output, format, books.map(bookMapper::toResponse), BOOK_COLUMNS, book -> Arrays.asList(
+					book.id(), book.title(), book.isbn(), book.authorName(), book.authorId(), book.available(),
+					book.availableCopies(), book.totalCopies(), book.coverUrl(), book.description(), book.createdAt(), book.modifiedAt()));
+			log.info("Exported {} books as {}", rows, format);
+			return rows;
+		}
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public long exportLoans(OutputStream output, FileFormat format) throws IOException {
+		try (Stream<LoanView> loans = loanRepository.streamAllViews()) {
+			long rows = write(output, format, loans.map(loanMapper::toResponse), LOAN_COLUMNS, loan -> Arrays.asList(
+					loan.id(), loan.bookId(), loan.bookTitle(), loan.bookAuthorName(), loan.bookIsbn(), loan.readerId(),
+					loan.loanDate(), loan.dueDate(), loan.returnDate()));
+			log.info("Exported {} loans as {}", rows, format);
+			return rows;
+		}
+	}
+
+	private <T> long write(OutputStream output, FileFormat format, Stream<T> rows,
+						   List<String> columns, Function<T, List<Object>> values) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+		if (format == FileFormat.CSV) {
+			writer.write(csvLine(columns));
+		}
+
+		long count = 0;
+		Iterator<T> iterator = rows.iterator();
+		while (iterator.hasNext()) {
+			T row = iterator.next();
+			writer.write(format == FileFormat.CSV ? csvLine(values.apply(row)) : objectMapper.writeValueAsString(row) + "\n");
+			if (++count % FLUSH_EVERY_ROWS == 0) {
+				writer.flush();
+			}
+		}
+		writer.flush();
+		return count;
+	}
+
+	private static String csvLine(List<?> values) {
+		return values.stream()
+				.map(ExportServiceImpl::csvField)
+				.collect(Collectors.joining(",", "", "\n"));
+	}
+
+	/**
+	 * Quotes a field when needed. Text that a spreadsheet would evaluate as a formula gets a leading
+	 * {@code '} so that opening the export cannot run what a user typed into a title or description.
+	 */
+	private static String csvField(Object value) {
+		if (value == null) {
+			return "";
+		}
+		String text = value.toString();
+		if (!text.isEmpty() && FORMULA_TRIGGERS.indexOf(text.charAt(0)) >= 0) {
+			return "\"'" + text.replace("\"", "\"\"") + '"';
+		}
+		if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+			return text;
+		}
+		return '"' + text.replace("\"", "\"\"") + '"';
+	}
+}
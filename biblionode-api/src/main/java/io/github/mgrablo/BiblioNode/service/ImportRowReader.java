@@ -0,0 +1,37 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+
+import io.github.mgrablo.BiblioNode.dto.BookImportRow;
+import io.github.mgrablo.BiblioNode.dto.FileFormat;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Pulls import rows one at a time, so only the current record is held in memory.
+ */
+interface ImportRowReader extends Closeable {
+	/**
+	 * Returns the next non-blank record, or {@code null} at the end of the input.
+	 * A record that cannot be parsed is returned with an {@code error} instead of a {@code row}.
+	 */
+	Line next() throws IOException;
+
+	static ImportRowReader open(FileFormat format, BufferedReader reader, ObjectMapper objectMapper) throws IOException {
+		return switch (format) {
+			case CSV -> new CsvImportRowReader(reader);
+			case NDJSON -> new NdjsonImportRowReader(reader, objectMapper);
+		};
+	}
+
+	record Line(long number, BookImportRow row, String error) {
+		static Line parsed(long number, BookImportRow row) {
+			return new Line(number, row, null);
+		}
+
+		static Line rejected(long number, String error) {
+			return new Line(number, null, error);
+		}
+	}
+}
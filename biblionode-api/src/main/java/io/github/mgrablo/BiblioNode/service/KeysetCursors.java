@@ -0,0 +1,96 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.exception.InvalidCursorException;
+
+/**
+ * Encodes keyset scroll positions as opaque, URL-safe cursors and back.
+ * A cursor carries the sort key values of the last element on a page, e.g. {@code id=42}.
+ */
+final class KeysetCursors {
+	static final Map<String, Function<String, Object>> BY_ID = Map.of("id", Long::valueOf);
+	static final Map<String, Function<String, Object>> BY_LOAN_DATE_AND_ID = orderedKeys(
+			"loanDate", LocalDateTime::parse,
+			"id", Long::valueOf
+	);
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private KeysetCursors() { }
+
+	static KeysetScrollPosition position(String cursor, Map<String, Function<String, Object>> keyTypes) {
+		if (cursor == null || cursor.isBlank()) {
+			return ScrollPosition.keyset();
+		}
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+		try {
+			String decoded = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+			for (String pair : decoded.split(";")) {
+				int separator = pair.indexOf('=');
+				Function<String, Object> parser = separator < 0 ? null : keyTypes.get(pair.substring(0, separator));
+				if (parser == null) {
+					throw new InvalidCursorException("Invalid cursor: " + cursor);
+				}
+				keys.put(pair.substring(0, separator), parser.apply(pair.substring(separator + 1)));
+			}
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new InvalidCursorException("Invalid cursor: " + cursor);
+		}
+
+		if (!keys.keySet().equals(keyTypes.keySet())) {
+			throw new InvalidCursorException("Invalid cursor: " + cursor);
+		}
+		return ScrollPosition.forward(keys);
+	}
+
+	static String encode(KeysetScrollPosition position) {
+		StringJoiner joiner = new StringJoiner(";");
+		position.getKeys().forEach((key, value) -> joiner.add(key + "=" + value));
+		return ENCODER.encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Wraps rows read by a hand-written {@code id > :afterId} query, fetched with a limit of
+	 * {@code size + 1}, so they can be paged like a derived scroll query.
+	 */
+	static <E> Window<E> windowById(List<E> rows, int size, Function<E, Long> id) {
+		List<E> content = rows.size() > size ? rows.subList(0, size) : rows;
+		return Window.from(content, index -> ScrollPosition.forward(Map.of("id", id.apply(content.get(index)))), rows.size() > size);
+	}
+
+	static long afterId(KeysetScrollPosition position) {
+		return position.isInitial() ? 0L : (Long) position.getKeys().get("id");
+	}
+
+	static <E, T> CursorPage<T> toPage(Window<E> window, Function<E, T> mapper, int size) {
+		String nextCursor = null;
+		if (window.hasNext() && !window.isEmpty()) {
+			nextCursor = encode((KeysetScrollPosition) window.positionAt(window.size() - 1));
+		}
+		return new CursorPage<>(window.map(mapper).getContent(), size, nextCursor, nextCursor != null);
+	}
+
+	private static Map<String, Function<String, Object>> orderedKeys(String first, Function<String, Object> firstType,
+																	   String second, Function<String, Object> secondType) {
+		Map<String, Function<String, Object>> keys = new LinkedHashMap<>();
+		keys.put(first, firstType);
+		keys.put(second, secondType);
+		return keys;
+	}
+}
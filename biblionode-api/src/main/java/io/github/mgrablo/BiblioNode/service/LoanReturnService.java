@@ -0,0 +1,14 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import io.github.mgrablo.BiblioNode.dto.ReturnRequest;
+import io.github.mgrablo.BiblioNode.dto.ReturnResult;
+
+public interface LoanReturnService {
+	/**
+	 * Closes the requested loans in chunks, each chunk in its own transaction with set-based updates.
+	 * Items that cannot be returned are reported rather than failing the whole request.
+	 *
+	 * @throws io.github.mgrablo.BiblioNode.exception.BatchTooLargeException if more than 1000 distinct ids are requested
+	 */
+	ReturnResult returnBooks(ReturnRequest request);
+}
@@ -0,0 +1,175 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache.CountRegion;
+import io.github.mgrablo.BiblioNode.dto.ReturnRequest;
+import io.github.mgrablo.BiblioNode.dto.ReturnResult;
+import io.github.mgrablo.BiblioNode.dto.ReturnResult.Item;
+import io.github.mgrablo.BiblioNode.dto.ReturnResult.Status;
+import io.github.mgrablo.BiblioNode.event.BookAvailabilityChangedEvent;
+import io.github.mgrablo.BiblioNode.exception.BatchTooLargeException;
+import io.github.mgrablo.BiblioNode.model.Loan;
+import io.github.mgrablo.BiblioNode.repository.BookRepository;
+import io.github.mgrablo.BiblioNode.repository.LoanRepository;
+import io.github.mgrablo.BiblioNode.repository.ReaderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Processes a book-drop bin as a handful of statements per chunk instead of a transaction per loan:
+ * one locking SELECT resolves the chunk, one UPDATE closes its open loans, and books and readers are
+ * released with one UPDATE per distinct number of loans returned against them, which is nearly always one.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoanReturnServiceImpl implements LoanReturnService {
+	static final int MAX_ITEMS = 1000;
+	static final int CHUNK_SIZE = 100;
+
+	private final TransactionTemplate transactionTemplate;
+	private final LoanRepository loanRepository;
+	private final BookRepository bookRepository;
+	private final ReaderRepository readerRepository;
+	private final Clock clock;
+	private final TotalCountCache totalCounts;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Override
+	public ReturnResult returnBooks(ReturnRequest request) {
+		List<Long> loanIds = distinctIds(request.loanIds());
+		List<Long> bookIds = distinctIds(request.bookIds());
+		int requested = loanIds.size() + bookIds.size();
+		if (requested > MAX_ITEMS) {
+			throw new BatchTooLargeException("At most " + MAX_ITEMS + " returns can be processed at once, got " + requested);
+		}
+
+		List<Item> items = new ArrayList<>(requested);
+		for (int from = 0; from < loanIds.size(); from += CHUNK_SIZE) {
+			List<Long> chunk = loanIds.subList(from, Math.min(from + CHUNK_SIZE, loanIds.size()));
+			items.addAll(inTransaction(chunk, this::returnByLoanIds, id -> new Item(id, null, Status.FAILED)));
+		}
+		for (int from = 0; from < bookIds.size(); from += CHUNK_SIZE) {
+			List<Long> chunk = bookIds.subList(from, Math.min(from + CHUNK_SIZE, bookIds.size()));
+			items.addAll(inTransaction(chunk, this::returnByBookIds, id -> new Item(null, id, Status.FAILED)));
+		}
+
+		int returned = (int) items.stream().filter(item -> item.status() == Status.RETURNED).count();
+		log.info("Bulk return finished: {} returned, {} not returned", returned, items.size() - returned);
+		return new ReturnResult(returned, items.size() - returned, items);
+	}
+
+	/**
+	 * Runs one chunk in its own transaction; if it rolls back, every item of the chunk is reported as failed.
+	 */
+	private List<Item> inTransaction(List<Long> chunk, Function<List<Long>, List<Item>> work, Function<Long, Item> failed) {
+		try {
+			return transactionTemplate.execute(status -> work.apply(chunk));
+		} catch (DataAccessException | TransactionException e) {
+			log.warn("Bulk return chunk rolled back: {}", e.getMostSpecificCause().getMessage());
+			return chunk.stream().map(failed).toList();
+		}
+	}
+
+	private List<Item> returnByLoanIds(List<Long> loanIds) {
+		Map<Long, Loan> loans = loanRepository.findAllByIdInForUpdate(loanIds).stream()
+				.collect(Collectors.toMap(Loan::getId, Function.identity()));
+
+		List<Item> items = new ArrayList<>(loanIds.size());
+		List<Loan> open = new ArrayList<>();
+		for (Long loanId : loanIds) {
+			Loan loan = loans.get(loanId);
+			if (loan == null) {
+				items.add(new Item(loanId, null, Status.NOT_FOUND));
+			} else if (loan.getReturnDate() != null) {
+				items.add(new Item(loanId, loan.getBook().getId(), Status.ALREADY_RETURNED));
+			} else {
+				items.add(new Item(loanId, loan.getBook().getId(), Status.RETURNED));
+				open.add(loan);
+			}
+		}
+		close(open);
+		return items;
+	}
+
+	private List<Item> returnByBookIds(List<Long> bookIds) {
+		Map<Long, List<Loan>> openByBook = loanRepository.findOpenByBookIdInForUpdate(bookIds).stream()
+				.collect(Collectors.groupingBy(loan -> loan.getBook().getId()));
+
+		List<Item> items = new ArrayList<>(bookIds.size());
+		List<Loan> open = new ArrayList<>();
+		for (Long bookId : bookIds) {
+			List<Loan> loans = openByBook.getOrDefault(bookId, List.of());
+			if (loans.isEmpty()) {
+				items.add(new Item(null, bookId, Status.NOT_BORROWED));
+			} else if (loans.size() > 1) {
+				items.add(new Item(null, bookId, Status.AMBIGUOUS));
+			} else {
+				items.add(new Item(loans.getFirst().getId(), bookId, Status.RETURNED));
+				open.add(loans.getFirst());
+			}
+		}
+		close(open);
+		return items;
+	}
+
+	/**
+	 * Closes loans whose rows this transaction has locked while they were still open, so every one of them is closed here.
+	 */
+	private void close(List<Loan> loans) {
+		if (loans.isEmpty()) {
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now(clock);
+		loanRepository.closeLoans(loans.stream().map(Loan::getId).sorted().toList(), now);
+
+		// Readers before books and ascending ids within each, the order borrowBook and returnBook lock rows in.
+		idsByLoanCount(loans, loan -> loan.getReader().getId())
+				.forEach((count, readerIds) -> readerRepository.releaseLoanSlots(readerIds, count));
+		Map<Integer, List<Long>> booksByCopies = idsByLoanCount(loans, loan -> loan.getBook().getId());
+		booksByCopies.forEach((copies, bookIds) -> bookRepository.releaseCopies(bookIds, copies, now));
+
+		totalCounts.invalidate(CountRegion.LOANS);
+		booksByCopies.values().forEach(bookIds -> bookIds.forEach(bookId ->
+				eventPublisher.publishEvent(new BookAvailabilityChangedEvent(bookId, true))));
+	}
+
+	/**
+	 * Groups the ids picked by {@code idOf} by how many of the loans share them, so each group takes one UPDATE.
+	 * Ids within a group are in ascending order.
+	 */
+	private static Map<Integer, List<Long>> idsByLoanCount(List<Loan> loans, Function<Loan, Long> idOf) {
+		Map<Long, Integer> counts = new TreeMap<>();
+		loans.forEach(loan -> counts.merge(idOf.apply(loan), 1, Integer::sum));
+
+		Map<Integer, List<Long>> byCount = new TreeMap<>();
+		counts.forEach((id, count) -> byCount.computeIfAbsent(count, ignored -> new ArrayList<>()).add(id));
+		return byCount;
+	}
+
+	private static List<Long> distinctIds(List<Long> ids) {
+		if (ids == null) {
+			return List.of();
+		}
+		Set<Long> distinct = new LinkedHashSet<>(ids);
+		distinct.remove(null);
+		return List.copyOf(distinct);
+	}
+}
@@ -2,14 +2,30 @@ package io.github.mgrablo.BiblioNode.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.List;
+
+import io.github.mgrablo.BiblioNode.dto.BatchResult;
 import io.github.mgrablo.BiblioNode.dto.BorrowRequest;
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
 import io.github.mgrablo.BiblioNode.dto.LoanResponse;
 
 public interface LoanService {
 	LoanResponse borrowBook(BorrowRequest request, String email);
 	LoanResponse returnBook(Long loanId);
 
+	/**
+	 * Returns the loans with the given ids in request order, with book, author and reader read in one statement.
+	 */
+	BatchResult<LoanResponse> findLoansByIds(List<Long> ids);
+
+	/**
+	 * Same as {@link #findLoansByIds}, but loans of other readers are reported as missing.
+	 */
+	BatchResult<LoanResponse> findLoansByIdsAndReaderEmail(List<Long> ids, String email);
+
 	Page<LoanResponse> getAllLoans(Pageable pageable);
 	Page<LoanResponse> getLoansByReaderId(Long readerId, Pageable pageable);
 	Page<LoanResponse> getLoansByBookId(Long bookId, Pageable pageable);
@@ -20,4 +36,10 @@ public interface LoanService {
 	Page<LoanResponse> getOverdueLoans(Pageable pageable);
 
 	Page<LoanResponse> getLoansByReaderEmail(String email, Pageable pageable);
+
+	Slice<LoanResponse> sliceLoans(Long readerId, Long bookId, boolean activeOnly, Pageable pageable);
+	Slice<LoanResponse> sliceLoansByReaderEmail(String email, Pageable pageable);
+
+	CursorPage<LoanResponse> scrollLoans(Long readerId, Long bookId, boolean activeOnly, CursorRequest request);
+	CursorPage<LoanResponse> scrollLoansByReaderEmail(String email, CursorRequest request);
 }
@@ -1,16 +1,31 @@
 package io.github.mgrablo.BiblioNode.service;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.LongSupplier;
 
+import io.github.mgrablo.BiblioNode.cache.BookResponseCache;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache.CountRegion;
 import io.github.mgrablo.BiblioNode.config.LoanProperties;
+import io.github.mgrablo.BiblioNode.dto.BatchResult;
 import io.github.mgrablo.BiblioNode.dto.BorrowRequest;
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
 import io.github.mgrablo.BiblioNode.dto.LoanResponse;
+import io.github.mgrablo.BiblioNode.event.BookAvailabilityChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookBorrowedEvent;
 import io.github.mgrablo.BiblioNode.exception.BookNotAvailableException;
 import io.github.mgrablo.BiblioNode.exception.LoanAlreadyReturnedException;
 import io.github.mgrablo.BiblioNode.exception.LoanLimitExceededException;
@@ -18,6 +33,7 @@ import io.github.mgrablo.BiblioNode.exception.ResourceNotFoundException;
 import io.github.mgrablo.BiblioNode.mapper.LoanMapper;
 import io.github.mgrablo.BiblioNode.model.Book;
 import io.github.mgrablo.BiblioNode.model.Loan;
+import io.github.mgrablo.BiblioNode.model.LoanStatus;
 import io.github.mgrablo.BiblioNode.model.Reader;
 import io.github.mgrablo.BiblioNode.repository.BookRepository;
 import io.github.mgrablo.BiblioNode.repository.LoanRepository;
@@ -36,94 +52,198 @@ public class LoanServiceImpl implements LoanService {
 	private final LoanProperties loanProperties;
 
 	private final Clock clock;
+	private final TotalCountCache totalCounts;
+	private final ApplicationEventPublisher eventPublisher;
+	private final BookResponseCache bookCache;
 
 	@Override
 	public LoanResponse borrowBook(BorrowRequest request, String email) {
-		Book book = bookRepository.findById(request.bookId())
-				.orElseThrow(() -> new ResourceNotFoundException("Book not found for id: " + request.bookId()));
-
-		if (!book.isAvailable()) {
+		// Turn away requests for a book known to have no free copy without touching the database.
+		if (bookCache.peek(request.bookId()).filter(cached -> !cached.available()).isPresent()) {
 			throw new BookNotAvailableException("Book is currently not available for loan");
 		}
 
 		Reader reader = readerRepository.findByUserEmail(email)
 				.orElseThrow(() -> new ResourceNotFoundException("Reader not found"));
 
-		Long activeLoansCount = loanRepository.countByReaderIdAndReturnDateIsNull(reader.getId());
-		if (activeLoansCount >= loanProperties.maxActiveLoans()) {
+		// Parallel borrows by one reader queue on the reader row here, so the limit holds without a count query.
+		if (readerRepository.claimLoanSlot(reader.getId(), loanProperties.maxActiveLoans()) == 0) {
 			throw new LoanLimitExceededException("Reader has exceeded the maximum number of active loans (" + loanProperties.maxActiveLoans() + ")");
 		}
 
-		book.setAvailable(false);
-
+		// Claimed after the reader checks, so the book row stays locked only for the rest of this transaction.
 		LocalDateTime now = LocalDateTime.now(clock);
+		if (bookRepository.claimCopy(request.bookId(), now) == 0) {
+			if (!bookRepository.existsById(request.bookId())) {
+				throw new ResourceNotFoundException("Book not found for id: " + request.bookId());
+			}
+			throw new BookNotAvailableException("Book is currently not available for loan");
+		}
+		Book book = bookRepository.findById(request.bookId())
+				.orElseThrow(() -> new ResourceNotFoundException("Book not found for id: " + request.bookId()));
+
 		Loan loan = new Loan();
 		loan.setLoanDate(now);
 		loan.setDueDate(now.plusDays(loanProperties.defaultLoanDays()));
 		loan.setBook(book);
 		loan.setReader(reader);
 
-		return mapper.toResponse(loanRepository.save(loan));
+		Loan savedLoan = loanRepository.save(loan);
+		totalCounts.invalidate(CountRegion.LOANS);
+		eventPublisher.publishEvent(new BookAvailabilityChangedEvent(book.getId(), book.isAvailable()));
+		eventPublisher.publishEvent(new BookBorrowedEvent(savedLoan.getId(), book.getId(), reader.getId()));
+		return mapper.toResponse(savedLoan);
 	}
 
 	@Override
 	public LoanResponse returnBook(Long loanId) {
-		 Loan loan = loanRepository.findById(loanId)
+		// Closed with one conditional UPDATE, so concurrent returns of the same loan release its copy only once.
+		LocalDateTime now = LocalDateTime.now(clock);
+		boolean closed = loanRepository.closeLoan(loanId, now) > 0;
+		Loan loan = loanRepository.findById(loanId)
 				.orElseThrow(() -> new ResourceNotFoundException("Loan not found for id: " + loanId));
-
-		if (loan.getReturnDate() != null) {
+		if (!closed) {
 			throw new LoanAlreadyReturnedException("Book has already been returned");
 		}
-		loan.getBook().setAvailable(true);
-		loan.setReturnDate(LocalDateTime.now(clock));
-		return mapper.toResponse(loanRepository.save(loan));
+
+		// Reader before book, the same order borrowBook claims them in, so a borrow and a return cannot deadlock.
+		readerRepository.releaseLoanSlot(loan.getReader().getId());
+		bookRepository.releaseCopy(loan.getBook().getId(), now);
+		totalCounts.invalidate(CountRegion.LOANS);
+		eventPublisher.publishEvent(new BookAvailabilityChangedEvent(loan.getBook().getId(), true));
+		return mapper.toResponse(loan);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public BatchResult<LoanResponse> findLoansByIds(List<Long> ids) {
+		List<Long> distinct = BatchLookups.distinctIds(ids);
+		if (distinct.isEmpty()) {
+			return new BatchResult<>(List.of(), List.of());
+		}
+		List<LoanResponse> loans = loanRepository.findAllByIdIn(distinct).stream()
+				.map(mapper::toResponse)
+				.toList();
+		return BatchLookups.inRequestOrder(distinct, loans, LoanResponse::id);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public BatchResult<LoanResponse> findLoansByIdsAndReaderEmail(List<Long> ids, String email) {
+		List<Long> distinct = BatchLookups.distinctIds(ids);
+		if (distinct.isEmpty()) {
+			return new BatchResult<>(List.of(), List.of());
+		}
+		List<LoanResponse> loans = loanRepository.findAllByIdInAndReaderUserEmail(distinct, email).stream()
+				.map(mapper::toResponse)
+				.toList();
+		return BatchLookups.inRequestOrder(distinct, loans, LoanResponse::id);
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public Page<LoanResponse> getAllLoans(Pageable pageable) {
-		return loanRepository.findAll(pageable).map(mapper::toResponse);
+		return toPage(loanRepository.findAllBy(pageable), loanRepository::count, "all");
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public Page<LoanResponse> getLoansByReaderId(Long readerId, Pageable pageable) {
-		return loanRepository.findByReaderId(readerId, pageable).map(mapper::toResponse);
+		return toPage(loanRepository.findByReaderId(readerId, pageable),
+				() -> loanRepository.countByReaderId(readerId), "reader", readerId);
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public Page<LoanResponse> getLoansByReaderEmail(String email, Pageable pageable) {
-		return loanRepository.findByReaderUserEmail(email, pageable).map(mapper::toResponse);
+		return toPage(loanRepository.findByReaderUserEmail(email, pageable),
+				() -> loanRepository.countByReaderUserEmail(email), "email", email);
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public Page<LoanResponse> getLoansByBookId(Long bookId, Pageable pageable) {
-		return loanRepository.findByBookId(bookId, pageable).map(mapper::toResponse);
+		return toPage(loanRepository.findByBookId(bookId, pageable),
+				() -> loanRepository.countByBookId(bookId), "book", bookId);
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public Page<LoanResponse> getActiveLoans(Pageable pageable) {
-		return loanRepository
-				.findAllByReturnDateIsNull(pageable)
-				.map(mapper::toResponse);
+		return toPage(loanRepository.findAllByReturnDateIsNull(pageable),
+				loanRepository::countByReturnDateIsNull, "active");
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public Page<LoanResponse> getActiveLoansByReaderId(Long readerId, Pageable pageable) {
-		return loanRepository
-				.findAllByReturnDateIsNullAndReaderId(readerId, pageable)
-				.map(mapper::toResponse);
+		return toPage(loanRepository.findAllByReturnDateIsNullAndReaderId(readerId, pageable),
+				() -> loanRepository.countByReaderIdAndReturnDateIsNull(readerId), "active-reader", readerId);
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public Page<LoanResponse> getOverdueLoans(Pageable pageable) {
-		return loanRepository
-				.findAllByReturnDateIsNullAndDueDateBefore(LocalDateTime.now(clock), pageable)
+		// Reads the status written by OverdueLoanSweeper, so a loan shows up here within one sweep interval of its due date.
+		return toPage(loanRepository.findAllByStatus(LoanStatus.OVERDUE, pageable),
+				() -> loanRepository.countByStatus(LoanStatus.OVERDUE), "overdue");
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<LoanResponse> sliceLoans(Long readerId, Long bookId, boolean activeOnly, Pageable pageable) {
+		Slice<Loan> loans;
+		if (readerId != null && activeOnly) {
+			loans = loanRepository.findAllByReturnDateIsNullAndReaderId(readerId, pageable);
+		} else if (readerId != null) {
+			loans = loanRepository.findByReaderId(readerId, pageable);
+		} else if (bookId != null) {
+			loans = loanRepository.findByBookId(bookId, pageable);
+		} else if (activeOnly) {
+			loans = loanRepository.findAllByReturnDateIsNull(pageable);
+		} else {
+			loans = loanRepository.findAllBy(pageable);
+		}
+		return loans.map(mapper::toResponse);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<LoanResponse> sliceLoansByReaderEmail(String email, Pageable pageable) {
+		return loanRepository.findByReaderUserEmail(email, pageable).map(mapper::toResponse);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public CursorPage<LoanResponse> scrollLoans(Long readerId, Long bookId, boolean activeOnly, CursorRequest request) {
+		KeysetScrollPosition position = KeysetCursors.position(request.after(), KeysetCursors.BY_LOAN_DATE_AND_ID);
+		Limit limit = Limit.of(request.size());
+
+		Window<Loan> loans;
+		if (readerId != null && activeOnly) {
+			loans = loanRepository.findAllByReturnDateIsNullAndReaderIdOrderByLoanDateDescIdDesc(readerId, position, limit);
+		} else if (readerId != null) {
+			loans = loanRepository.findByReaderIdOrderByLoanDateDescIdDesc(readerId, position, limit);
+		} else if (bookId != null) {
+			loans = loanRepository.findByBookIdOrderByLoanDateDescIdDesc(bookId, position, limit);
+		} else if (activeOnly) {
+			loans = loanRepository.findAllByReturnDateIsNullOrderByLoanDateDescIdDesc(position, limit);
+		} else {
+			loans = loanRepository.findAllByOrderByLoanDateDescIdDesc(position, limit);
+		}
+		return KeysetCursors.toPage(loans, mapper::toResponse, request.size());
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public CursorPage<LoanResponse> scrollLoansByReaderEmail(String email, CursorRequest request) {
+		KeysetScrollPosition position = KeysetCursors.position(request.after(), KeysetCursors.BY_LOAN_DATE_AND_ID);
+		Window<Loan> loans = loanRepository.findByReaderUserEmailOrderByLoanDateDescIdDesc(email, position, Limit.of(request.size()));
+		return KeysetCursors.toPage(loans, mapper::toResponse, request.size());
+	}
+
+	private Page<LoanResponse> toPage(Slice<Loan> loans, LongSupplier counter, Object... filter) {
+		return SlicePages.toPage(loans, () -> totalCounts.get(CountRegion.LOANS, counter, filter))
 				.map(mapper::toResponse);
 	}
 }
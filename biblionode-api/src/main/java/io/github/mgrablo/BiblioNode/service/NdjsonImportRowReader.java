@@ -0,0 +1,44 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import io.github.mgrablo.BiblioNode.dto.BookImportRow;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Reads one JSON object per line, e.g. {@code {"title":"Dune","isbn":"9780441013593","author":"Frank Herbert"}}.
+ */
+final class NdjsonImportRowReader implements ImportRowReader {
+	private final BufferedReader reader;
+	private final ObjectMapper objectMapper;
+	private long lineNumber;
+
+	NdjsonImportRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+		this.reader = reader;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public Line next() throws IOException {
+		String line;
+		while ((line = reader.readLine()) != null) {
+			lineNumber++;
+			if (line.isBlank()) {
+				continue;
+			}
+			try {
+				return Line.parsed(lineNumber, objectMapper.readValue(line, BookImportRow.class));
+			} catch (JacksonException e) {
+				return Line.rejected(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+}
@@ -0,0 +1,57 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache.CountRegion;
+import io.github.mgrablo.BiblioNode.repository.LoanRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves active loans to {@code OVERDUE} once their due date has passed, so the overdue listing is a
+ * plain status lookup. Each run is one conditional UPDATE over the loans that fell due since the
+ * previous run; the number of loans it changed is recorded in the {@code loans.overdue.sweep} summary.
+ * Setting {@code app.loan.overdue-sweep-enabled} to {@code false} leaves the bean out, e.g. in tests.
+ */
+@Component
+@ConditionalOnProperty(name = "app.loan.overdue-sweep-enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OverdueLoanSweeper {
+	private final LoanRepository loanRepository;
+	private final Clock clock;
+	private final TotalCountCache totalCounts;
+	private final DistributionSummary transitions;
+
+	public OverdueLoanSweeper(LoanRepository loanRepository, Clock clock, TotalCountCache totalCounts, MeterRegistry meterRegistry) {
+		this.loanRepository = loanRepository;
+		this.clock = clock;
+		this.totalCounts = totalCounts;
+		this.transitions = DistributionSummary.builder("loans.overdue.sweep")
+				.description("Loans marked overdue per sweep")
+				.baseUnit("loans")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Returns the number of loans marked overdue by this run.
+	 */
+	@Scheduled(fixedDelayString = "${app.loan.overdue-sweep-interval}")
+	@Transactional
+	public int sweep() {
+		int transitioned = loanRepository.markOverdue(LocalDateTime.now(clock));
+		transitions.record(transitioned);
+		if (transitioned > 0) {
+			totalCounts.invalidate(CountRegion.LOANS);
+			log.info("Marked {} loans overdue", transitioned);
+		}
+		return transitioned;
+	}
+}
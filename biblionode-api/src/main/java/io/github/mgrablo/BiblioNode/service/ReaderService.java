@@ -2,7 +2,10 @@ package io.github.mgrablo.BiblioNode.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
 import io.github.mgrablo.BiblioNode.dto.ReaderRequest;
 import io.github.mgrablo.BiblioNode.dto.ReaderResponse;
 import io.github.mgrablo.BiblioNode.dto.UserProfileResponse;
@@ -14,6 +17,8 @@ public interface ReaderService {
 	ReaderResponse getReaderByEmail(String email);
 	UserProfileResponse getUserProfileByEmail(String email);
 	Page<ReaderResponse> getAll(Pageable pageable);
+	Slice<ReaderResponse> sliceAll(Pageable pageable);
+	CursorPage<ReaderResponse> scrollAll(CursorRequest request);
 	ReaderResponse updateReader(Long id, ReaderRequest request);
 	void deleteReader(Long id);
 }
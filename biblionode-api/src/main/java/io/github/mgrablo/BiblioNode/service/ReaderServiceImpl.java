@@ -1,10 +1,16 @@
 package io.github.mgrablo.BiblioNode.service;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache.CountRegion;
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
 import io.github.mgrablo.BiblioNode.dto.ReaderRequest;
 import io.github.mgrablo.BiblioNode.dto.ReaderResponse;
 import io.github.mgrablo.BiblioNode.dto.UserProfileResponse;
@@ -12,7 +18,6 @@ import io.github.mgrablo.BiblioNode.exception.ResourceNotFoundException;
 import io.github.mgrablo.BiblioNode.mapper.ReaderMapper;
 import io.github.mgrablo.BiblioNode.model.Reader;
 import io.github.mgrablo.BiblioNode.model.User;
-import io.github.mgrablo.BiblioNode.repository.LoanRepository;
 import io.github.mgrablo.BiblioNode.repository.ReaderRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -22,14 +27,16 @@ import lombok.RequiredArgsConstructor;
 public class ReaderServiceImpl implements ReaderService {
 
 	private final ReaderRepository readerRepository;
-	private final LoanRepository loanRepository;
 	private final ReaderMapper mapper;
+	private final TotalCountCache totalCounts;
 
 	@Override
 	public ReaderResponse createProfile(ReaderRequest request, User user) {
 		Reader reader = mapper.toEntity(request);
 		reader.setUser(user);
-		return mapper.toResponse(readerRepository.save(reader));
+		Reader savedReader = readerRepository.save(reader);
+		totalCounts.invalidate(CountRegion.READERS);
+		return mapper.toResponse(savedReader);
 	}
 
 	@Override
@@ -54,23 +61,37 @@ public class ReaderServiceImpl implements ReaderService {
 		Reader reader = readerRepository.findByUserEmail(email)
 				.orElseThrow(() -> new ResourceNotFoundException("Reader not found for email: " + email));
 
-		Long activeLoansCount = loanRepository.countByReaderIdAndReturnDateIsNull(reader.getId());
-
 		return new UserProfileResponse(
 				email,
 				reader.getFullName(),
 				reader.getCreatedAt(),
-				activeLoansCount
+				(long) reader.getActiveLoanCount()
 		);
 	}
 
 	@Override
 	@Transactional(readOnly = true)
 	public Page<ReaderResponse> getAll(Pageable pageable) {
-		return readerRepository.findAll(pageable)
+		var readers = readerRepository.findAllBy(pageable);
+		return SlicePages.toPage(readers, () -> totalCounts.get(CountRegion.READERS, readerRepository::count, "all"))
+				.map(mapper::toResponse);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<ReaderResponse> sliceAll(Pageable pageable) {
+		return readerRepository.findAllBy(pageable)
 				.map(mapper::toResponse);
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public CursorPage<ReaderResponse> scrollAll(CursorRequest request) {
+		var position = KeysetCursors.position(request.after(), KeysetCursors.BY_ID);
+		var readers = readerRepository.findAllByOrderByIdAsc(position, Limit.of(request.size()));
+		return KeysetCursors.toPage(readers, mapper::toResponse, request.size());
+	}
+
 	@Override
 	public ReaderResponse updateReader(Long id, ReaderRequest request) {
 		Reader reader = readerRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Reader not found for id: " + id));
@@ -85,5 +106,6 @@ public class ReaderServiceImpl implements ReaderService {
 		}
 
 		readerRepository.deleteById(id);
+		totalCounts.invalidate(CountRegion.READERS);
 	}
 }
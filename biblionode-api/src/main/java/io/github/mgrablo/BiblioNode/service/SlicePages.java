@@ -0,0 +1,35 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Turns a count-free {@link Slice} into a {@link Page}. The total is derived from the slice
+ * itself whenever it reaches the last element; otherwise it comes from {@code total},
+ * which is expected to be backed by {@link io.github.mgrablo.BiblioNode.cache.TotalCountCache}.
+ */
+final class SlicePages {
+	private SlicePages() { }
+
+	static <T> Page<T> toPage(Slice<T> slice, LongSupplier total) {
+		Pageable pageable = slice.getPageable();
+		List<T> content = slice.getContent();
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(content, pageable, content.size());
+		}
+
+		long offset = pageable.getOffset();
+		if (!slice.hasNext() && (!content.isEmpty() || offset == 0)) {
+			return new PageImpl<>(content, pageable, offset + content.size());
+		}
+
+		// A cached total may be stale; never report fewer elements than the slice has proven to exist.
+		long lowerBound = offset + content.size() + (slice.hasNext() ? 1 : 0);
+		return new PageImpl<>(content, pageable, Math.max(total.getAsLong(), lowerBound));
+	}
+}
@@ -0,0 +1,103 @@
+package io.github.mgrablo.BiblioNode.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.github.mgrablo.BiblioNode.config.BookCacheProperties;
+import io.github.mgrablo.BiblioNode.dto.BookResponse;
+import io.github.mgrablo.BiblioNode.event.AuthorChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookAvailabilityChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookDeletedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BookResponseCacheTest {
+	private SimpleMeterRegistry meterRegistry;
+	private BookResponseCache cache;
+	private AtomicInteger loads;
+
+	@BeforeEach
+	void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new BookResponseCache(new BookCacheProperties(2), meterRegistry);
+		loads = new AtomicInteger();
+	}
+
+	@Test
+	void get_ShouldLoadOnce_AndCountHitsAndMisses() {
+		cache.get(1L, loader(10L));
+		cache.get(1L, loader(10L));
+		cache.get(1L, loader(10L));
+
+		assertEquals(1, loads.get());
+		assertEquals(2, counter("cache.gets", "hit"));
+		assertEquals(1, counter("cache.gets", "miss"));
+	}
+
+	@Test
+	void get_ShouldEvictLeastRecentlyUsed_WhenFull() {
+		cache.get(1L, loader(10L));
+		cache.get(2L, loader(10L));
+		cache.get(1L, loader(10L));
+		cache.get(3L, loader(10L));
+
+		assertTrue(cache.peek(1L).isPresent());
+		assertTrue(cache.peek(2L).isEmpty());
+		assertEquals(2, meterRegistry.get("cache.size").tag("cache", "books").gauge().value());
+		assertEquals(1, meterRegistry.get("cache.evictions").tag("cache", "books").functionCounter().count());
+	}
+
+	@Test
+	void get_ShouldNotCache_WhenChangeCommitsDuringLoad() {
+		cache.get(1L, id -> {
+			cache.onAvailabilityChanged(new BookAvailabilityChangedEvent(id, false));
+			return book(id, 10L);
+		});
+
+		assertTrue(cache.peek(1L).isEmpty());
+	}
+
+	@Test
+	void onBookDeleted_ShouldEvictOnlyThatBook() {
+		cache.get(1L, loader(10L));
+		cache.get(2L, loader(10L));
+
+		cache.onBookDeleted(new BookDeletedEvent(1L));
+
+		assertTrue(cache.peek(1L).isEmpty());
+		assertTrue(cache.peek(2L).isPresent());
+	}
+
+	@Test
+	void onAuthorChanged_ShouldEvictAllBooksOfAuthor() {
+		cache = new BookResponseCache(new BookCacheProperties(10), new SimpleMeterRegistry());
+		cache.get(1L, loader(10L));
+		cache.get(2L, loader(10L));
+		cache.get(3L, loader(20L));
+
+		cache.onAuthorChanged(new AuthorChangedEvent(10L, "Renamed"));
+
+		assertTrue(cache.peek(1L).isEmpty());
+		assertTrue(cache.peek(2L).isEmpty());
+		assertTrue(cache.peek(3L).isPresent());
+	}
+
+	private Function<Long, BookResponse> loader(Long authorId) {
+		return id -> {
+			loads.incrementAndGet();
+			return book(id, authorId);
+		};
+	}
+
+	private BookResponse book(Long id, Long authorId) {
+		return new BookResponse(id, "Title " + id, "111", "Author", authorId, true, 1, 1, null, null, null, null);
+	}
+
+	private double counter(String name, String result) {
+		return meterRegistry.get(name).tags("cache", "books", "result", result).functionCounter().count();
+	}
+}
@@ -0,0 +1,89 @@
+package io.github.mgrablo.BiblioNode.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.github.mgrablo.BiblioNode.dto.ResourceVersion;
+import io.github.mgrablo.BiblioNode.repository.AuthorRepository;
+import io.github.mgrablo.BiblioNode.repository.BookRepository;
+import io.github.mgrablo.BiblioNode.repository.TableVersionView;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogVersionTest {
+	private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 1, 12, 0);
+	private static final LocalDateTime MODIFIED = LocalDateTime.of(2026, 1, 2, 12, 0);
+
+	@Mock
+	private BookRepository bookRepository;
+
+	@Mock
+	private AuthorRepository authorRepository;
+
+	private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+	private CatalogVersion catalogVersion;
+
+	@BeforeEach
+	void setup() {
+		catalogVersion = new CatalogVersion(bookRepository, authorRepository);
+	}
+
+	@Test
+	void current_ShouldBeStable_WhenTablesAreUnchanged() {
+		when(bookRepository.findTableVersion()).thenReturn(table(10, CREATED, MODIFIED));
+		when(authorRepository.findTableVersion()).thenReturn(table(3, CREATED, null));
+
+		assertEquals(catalogVersion.current(), catalogVersion.current());
+	}
+
+	@Test
+	void current_ShouldChange_WhenBookIsModified() {
+		when(bookRepository.findTableVersion()).thenReturn(table(10, CREATED, MODIFIED), table(10, CREATED, MODIFIED.plusNanos(1000)));
+		when(authorRepository.findTableVersion()).thenReturn(table(3, CREATED, null));
+
+		ResourceVersion before = catalogVersion.current();
+
+		assertNotEquals(before.eTag(), catalogVersion.current().eTag());
+	}
+
+	@Test
+	void current_ShouldChange_WhenAuthorIsDeleted() {
+		when(bookRepository.findTableVersion()).thenReturn(table(10, CREATED, MODIFIED));
+		when(authorRepository.findTableVersion()).thenReturn(table(3, CREATED, null), table(2, CREATED, null));
+
+		ResourceVersion before = catalogVersion.current();
+
+		assertNotEquals(before.eTag(), catalogVersion.current().eTag());
+	}
+
+	@Test
+	void current_ShouldUseLatestTimestamp_AsLastModified() {
+		when(bookRepository.findTableVersion()).thenReturn(table(0, null, null));
+		when(authorRepository.findTableVersion()).thenReturn(table(1, CREATED, MODIFIED));
+
+		ResourceVersion version = catalogVersion.current();
+
+		assertEquals(MODIFIED.atZone(ZoneId.systemDefault()).toInstant(), version.lastModified());
+	}
+
+	private TableVersionView table(long total, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+		Map<String, Object> values = new HashMap<>();
+		values.put("total", total);
+		values.put("createdAt", createdAt);
+		values.put("modifiedAt", modifiedAt);
+		return projectionFactory.createProjection(TableVersionView.class, values);
+	}
+}
@@ -0,0 +1,224 @@
+package io.github.mgrablo.BiblioNode.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.mgrablo.BiblioNode.config.CoverProperties;
+import io.github.mgrablo.BiblioNode.dto.CoverFile;
+import io.github.mgrablo.BiblioNode.exception.CoverUnavailableException;
+import javax.imageio.ImageIO;
+
+class CoverStoreTest {
+	@TempDir
+	Path directory;
+
+	private HttpServer origin;
+	private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+	private CoverStore store;
+	private byte[] cover;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		origin = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		origin.setExecutor(Executors.newFixedThreadPool(4));
+		cover = png(1200, 1800);
+		serve("/cover.png", "image/png", cover);
+		serve("/same.png", "image/png", cover);
+		serve("/page.html", "text/html", "<html></html>".getBytes());
+		serve("/huge.png", "image/png", new byte[64 * 1024]);
+		byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\"><script>alert(1)</script></svg>".getBytes();
+		serve("/drawing.svg", "image/svg+xml", svg);
+		serve("/disguised.png", "image/png", svg);
+		redirect("/moved.png", "/cover.png");
+		redirect("/elsewhere.png", "http://localhost:" + origin.getAddress().getPort() + "/cover.png");
+		origin.start();
+		store = store(null, true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		origin.stop(0);
+	}
+
+	@Test
+	void get_ShouldFetchOnce_AndServeFromDiskAfterwards() throws IOException {
+		CoverFile first = store.get(url("/cover.png"), false);
+		CoverFile second = store.get(url("/cover.png"), false);
+
+		assertEquals(1, hits.get("/cover.png").get());
+		assertEquals(first, second);
+		assertEquals("image/png", first.mediaType());
+		assertTrue(first.path().startsWith(directory));
+		assertArrayEquals(cover, Files.readAllBytes(first.path()));
+	}
+
+	@Test
+	void get_ShouldFetchOnce_WhenRequestedConcurrently() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<CoverFile>> results = new ArrayList<>();
+			Callable<CoverFile> task = () -> store.get(url("/cover.png"), true);
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(task));
+			}
+			for (Future<CoverFile> result : results) {
+				assertTrue(Files.exists(result.get().path()));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(1, hits.get("/cover.png").get());
+	}
+
+	@Test
+	void get_ShouldReturnBoundedJpegThumbnail() throws IOException {
+		CoverFile thumbnail = store.get(url("/cover.png"), true);
+
+		BufferedImage image = ImageIO.read(thumbnail.path().toFile());
+		assertEquals("image/jpeg", thumbnail.mediaType());
+		assertEquals(100, Math.max(image.getWidth(), image.getHeight()));
+		assertEquals(67, image.getWidth());
+	}
+
+	@Test
+	void get_ShouldStoreIdenticalImagesOnce() {
+		CoverFile first = store.get(url("/cover.png"), false);
+		CoverFile second = store.get(url("/same.png"), false);
+
+		assertEquals(first.path(), second.path());
+		assertEquals(first.eTag(), second.eTag());
+	}
+
+	@Test
+	void get_ShouldThrowException_WhenOriginDoesNotReturnImage() {
+		assertThrows(CoverUnavailableException.class, () -> store.get(url("/page.html"), false));
+	}
+
+	@Test
+	void get_ShouldThrowException_WhenImageIsTooLarge() throws IOException {
+		assertThrows(CoverUnavailableException.class, () -> store.get(url("/huge.png"), false));
+
+		try (var files = Files.walk(directory)) {
+			assertTrue(files.noneMatch(Files::isRegularFile));
+		}
+	}
+
+	@Test
+	void get_ShouldRefuseSvg_EvenWhenDeclaredAsRaster() throws IOException {
+		assertThrows(CoverUnavailableException.class, () -> store.get(url("/drawing.svg"), false));
+		assertThrows(CoverUnavailableException.class, () -> store.get(url("/disguised.png"), false));
+
+		try (var files = Files.walk(directory)) {
+			assertTrue(files.noneMatch(Files::isRegularFile));
+		}
+	}
+
+	@Test
+	void get_ShouldThrowException_WhenUrlIsNotHttp() {
+		assertThrows(CoverUnavailableException.class, () -> store.get("file:///etc/passwd", false));
+	}
+
+	@Test
+	void get_ShouldRefusePrivateAddresses_ByDefault() {
+		CoverStore publicOnly = store(null, false);
+
+		assertThrows(CoverUnavailableException.class, () -> publicOnly.get(url("/cover.png"), false));
+		assertThrows(CoverUnavailableException.class, () -> publicOnly.get("http://169.254.169.254/latest/meta-data/", false));
+		assertThrows(CoverUnavailableException.class, () -> publicOnly.get("http://[::1]/cover.png", false));
+		assertEquals(0, hits.get("/cover.png").get());
+	}
+
+	@Test
+	void get_ShouldRefuseAllowedHost_WhenItResolvesToPrivateAddress() {
+		CoverStore publicOnly = store(List.of("localhost"), false);
+		String localhostUrl = "http://localhost:" + origin.getAddress().getPort() + "/cover.png";
+
+		assertThrows(CoverUnavailableException.class, () -> publicOnly.get(localhostUrl, false));
+		assertEquals(0, hits.get("/cover.png").get());
+	}
+
+	@Test
+	void get_ShouldFollowRedirect_WithinAllowedHosts() {
+		CoverStore allowed = store(List.of("127.0.0.1"), true);
+
+		CoverFile file = allowed.get(url("/moved.png"), false);
+
+		assertEquals("image/png", file.mediaType());
+		assertEquals(1, hits.get("/cover.png").get());
+	}
+
+	@Test
+	void get_ShouldRefuseRedirect_ToHostOutsideAllowedHosts() {
+		CoverStore allowed = store(List.of("127.0.0.1"), true);
+
+		assertThrows(CoverUnavailableException.class, () -> allowed.get(url("/elsewhere.png"), false));
+		assertEquals(1, hits.get("/elsewhere.png").get());
+		assertEquals(0, hits.get("/cover.png").get());
+	}
+
+	private void serve(String path, String contentType, byte[] body) {
+		hits.put(path, new AtomicInteger());
+		origin.createContext(path, exchange -> {
+			hits.get(path).incrementAndGet();
+			exchange.getResponseHeaders().set("Content-Type", contentType);
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+	}
+
+	private void redirect(String path, String location) {
+		hits.put(path, new AtomicInteger());
+		origin.createContext(path, exchange -> {
+			hits.get(path).incrementAndGet();
+			exchange.getResponseHeaders().set("Location", location);
+			exchange.sendResponseHeaders(302, -1);
+			exchange.close();
+		});
+	}
+
+	private CoverStore store(List<String> allowedHosts, boolean allowPrivateAddresses) {
+		return new CoverStore(new CoverProperties(directory, 100, DataSize.ofKilobytes(32), Duration.ofSeconds(5), null,
+				allowedHosts, allowPrivateAddresses));
+	}
+
+	private String url(String path) {
+		return "http://127.0.0.1:" + origin.getAddress().getPort() + path;
+	}
+
+	private static byte[] png(int width, int height) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+		return out.toByteArray();
+	}
+}
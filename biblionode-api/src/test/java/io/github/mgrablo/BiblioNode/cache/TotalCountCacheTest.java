@@ -0,0 +1,135 @@
+package io.github.mgrablo.BiblioNode.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache.CountRegion;
+import io.github.mgrablo.BiblioNode.config.PaginationProperties;
+
+public class TotalCountCacheTest {
+	private MutableClock clock;
+	private TotalCountCache cache;
+	private AtomicInteger counts;
+
+	@BeforeEach
+	void setup() {
+		clock = new MutableClock(Instant.parse("2026-01-01T12:00:00Z"));
+		cache = new TotalCountCache(clock, new PaginationProperties(20, 100, Duration.ofSeconds(30), 2));
+		counts = new AtomicInteger();
+	}
+
+	@Test
+	void get_ShouldCountOnce_WhenFilterRepeatsWithinTtl() {
+		assertEquals(5, cache.get(CountRegion.BOOKS, counter(5), "search", "abc"));
+		assertEquals(5, cache.get(CountRegion.BOOKS, counter(7), "search", "abc"));
+
+		assertEquals(1, counts.get());
+	}
+
+	@Test
+	void get_ShouldCountAgain_WhenTtlExpired() {
+		cache.get(CountRegion.BOOKS, counter(5), "all");
+		clock.advance(Duration.ofSeconds(31));
+
+		assertEquals(7, cache.get(CountRegion.BOOKS, counter(7), "all"));
+		assertEquals(2, counts.get());
+	}
+
+	@Test
+	void get_ShouldKeepFiltersAndRegionsApart() {
+		cache.get(CountRegion.BOOKS, counter(1), "search", "a", "");
+		cache.get(CountRegion.BOOKS, counter(2), "search", "", "a");
+		cache.get(CountRegion.LOANS, counter(3), "search", "a", "");
+
+		assertEquals(3, counts.get());
+	}
+
+	@Test
+	void invalidate_ShouldEvictOnlyGivenRegion_WhenNoTransactionActive() {
+		cache.get(CountRegion.BOOKS, counter(1), "all");
+		cache.get(CountRegion.LOANS, counter(2), "all");
+
+		cache.invalidate(CountRegion.BOOKS);
+
+		assertEquals(10, cache.get(CountRegion.BOOKS, counter(10), "all"));
+		assertEquals(2, cache.get(CountRegion.LOANS, counter(20), "all"));
+	}
+
+	@Test
+	void invalidate_ShouldWaitForCommit_WhenTransactionActive() {
+		cache.get(CountRegion.BOOKS, counter(1), "all");
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			cache.invalidate(CountRegion.BOOKS);
+			assertEquals(1, cache.get(CountRegion.BOOKS, counter(2), "all"));
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertEquals(3, cache.get(CountRegion.BOOKS, counter(3), "all"));
+	}
+
+	@Test
+	void get_ShouldNotCacheTotal_WhenRegionInvalidatedWhileCounting() {
+		cache.get(CountRegion.BOOKS, () -> {
+			cache.invalidate(CountRegion.BOOKS);
+			return 1;
+		}, "all");
+
+		assertEquals(2, cache.get(CountRegion.BOOKS, counter(2), "all"));
+	}
+
+	@Test
+	void ignoreCase_ShouldTreatNullAsEmpty() {
+		assertEquals("", TotalCountCache.ignoreCase(null));
+		assertEquals("tolkien", TotalCountCache.ignoreCase("Tolkien"));
+	}
+
+	private LongSupplier counter(long total) {
+		return () -> {
+			counts.incrementAndGet();
+			return total;
+		};
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant instant;
+
+		private MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneId.of("UTC");
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
@@ -62,6 +62,34 @@ public class PaginationIntegrationTest {
 	}
 
 
+	@Test
+	void shouldApplyDefaultSizeToCursorRequests() throws Exception {
+		mockMvc.perform(get("/api/books")
+						.param("after", "")
+						.with(readerUser())
+				).andExpect(status().isOk())
+				.andExpect(jsonPath("$.size").value(paginationProperties.defaultPageSize()))
+				.andExpect(jsonPath("$.hasNext").value(false));
+	}
+
+	@Test
+	void shouldNotExceedMaxSizeForCursorRequests() throws Exception {
+		mockMvc.perform(get("/api/books")
+						.param("after", "")
+						.param("size", "10000")
+						.with(readerUser())
+				).andExpect(status().isOk())
+				.andExpect(jsonPath("$.size").value(paginationProperties.maxPageSize()));
+	}
+
+	@Test
+	void shouldRejectMalformedCursor() throws Exception {
+		mockMvc.perform(get("/api/books")
+						.param("after", "not a cursor!")
+						.with(readerUser())
+				).andExpect(status().isBadRequest());
+	}
+
 	private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor readerUser() {
 		return jwt().authorities(new SimpleGrantedAuthority("ROLE_READER"))
 				.jwt(j -> j.subject("test@email.com"));
@@ -5,6 +5,8 @@ import io.github.mgrablo.BiblioNode.config.SecurityConfiguration;
 import io.github.mgrablo.BiblioNode.dto.AuthorRequest;
 import io.github.mgrablo.BiblioNode.dto.AuthorResponse;
 import io.github.mgrablo.BiblioNode.service.AuthorService;
+import io.github.mgrablo.BiblioNode.dto.ResourceVersion;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
@@ -18,9 +20,11 @@ import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -48,6 +52,12 @@ public class AuthorControllerSecurityTest {
     @MockitoBean
     private JwtEncoder jwtEncoder;
 
+    @BeforeEach
+    void stubVersions() {
+        when(authorService.catalogVersion()).thenReturn(new ResourceVersion("\"c-1\"", Instant.EPOCH));
+        when(authorService.findAuthorVersion(anyLong())).thenReturn(new ResourceVersion("\"author-1\"", Instant.EPOCH));
+    }
+
     @Test
     void addAuthor_ShouldAllowAdmin() throws Exception {
         when(authorService.saveAuthor(any(AuthorRequest.class)))
@@ -3,9 +3,11 @@ package io.github.mgrablo.BiblioNode.controller;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,16 +16,20 @@ import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import io.github.mgrablo.BiblioNode.dto.AuthorRequest;
 import io.github.mgrablo.BiblioNode.dto.AuthorResponse;
+import io.github.mgrablo.BiblioNode.dto.ResourceVersion;
 import io.github.mgrablo.BiblioNode.exception.DataIntegrityException;
 import io.github.mgrablo.BiblioNode.exception.ResourceNotFoundException;
 import io.github.mgrablo.BiblioNode.service.AuthorService;
@@ -42,6 +48,15 @@ public class AuthorControllerTest {
 	@Autowired
 	private ObjectMapper objectMapper;
 
+	private static final ResourceVersion CATALOG_VERSION = new ResourceVersion("\"c-1\"", Instant.parse("2026-02-10T12:21:00Z"));
+	private static final ResourceVersion AUTHOR_VERSION = new ResourceVersion("\"author-1.0-a\"", Instant.parse("2026-02-10T12:21:00Z"));
+
+	@BeforeEach
+	void stubVersions() {
+		when(authorService.catalogVersion()).thenReturn(CATALOG_VERSION);
+		when(authorService.findAuthorVersion(anyLong())).thenReturn(AUTHOR_VERSION);
+	}
+
 	@Test
 	void addAuthor_ShouldReturnBadRequest_WhenNameIsEmpty() throws Exception {
 		AuthorRequest invalidRequest = new AuthorRequest("", "Bio");
@@ -106,14 +121,56 @@ public class AuthorControllerTest {
 				.andExpect(jsonPath("$.modifiedAt").value("2026-02-10 12:21:00"));
 	}
 
+	@Test
+	void getAuthor_ShouldReturnETag_WhenExists() throws Exception {
+		when(authorService.findById(1L)).thenReturn(new AuthorResponse(1L, "AAA", "Bio", null, null, null));
+
+		mockMvc.perform(get("/api/authors/1"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, AUTHOR_VERSION.eTag()));
+	}
+
+	@Test
+	void getAuthor_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+		mockMvc.perform(get("/api/authors/1").header(HttpHeaders.IF_NONE_MATCH, AUTHOR_VERSION.eTag()))
+				.andExpect(status().isNotModified());
+
+		verify(authorService, never()).findById(any());
+	}
+
+	@Test
+	void getAll_ShouldReturnNotModified_WhenCatalogUnchanged() throws Exception {
+		mockMvc.perform(get("/api/authors").header(HttpHeaders.IF_NONE_MATCH, CATALOG_VERSION.eTag()))
+				.andExpect(status().isNotModified());
+
+		verify(authorService, never()).getAll(any());
+	}
+
 	@Test
 	void getAuthor_ShouldReturnNotFound_WhenAuthorDoesNotExist() throws Exception {
-		when(authorService.findById(99L)).thenThrow(new ResourceNotFoundException("Not found"));
+		when(authorService.findAuthorVersion(99L)).thenThrow(new ResourceNotFoundException("Not found"));
 
 		mockMvc.perform(get("/api/authors/99"))
 				.andExpect(status().isNotFound());
 	}
 
+	@Test
+	void getAllSlice_ShouldOmitTotals_WhenCountDisabled() throws Exception {
+		AuthorResponse response = new AuthorResponse(1L, "AAA", "Bio", null, null, null);
+		when(authorService.sliceAll(any(Pageable.class)))
+				.thenReturn(new SliceImpl<>(List.of(response), Pageable.ofSize(1), true));
+
+		mockMvc.perform(get("/api/authors")
+						.param("count", "false")
+						.param("size", "1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].id").value(1L))
+				.andExpect(jsonPath("$.last").value(false))
+				.andExpect(jsonPath("$.totalElements").doesNotExist());
+
+		verify(authorService, never()).getAll(any(Pageable.class));
+	}
+
 	@Test
 	void getAll_ShouldReturnList_WhenAuthorsExist() throws Exception {
 		AuthorResponse response = new AuthorResponse(1L, "AAA", "Bio", null, null, null);
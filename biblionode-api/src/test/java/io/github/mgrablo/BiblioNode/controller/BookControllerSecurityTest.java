@@ -4,6 +4,8 @@ import io.github.mgrablo.BiblioNode.config.RsaKeyConfig;
 import io.github.mgrablo.BiblioNode.config.SecurityConfiguration;
 import io.github.mgrablo.BiblioNode.dto.BookResponse;
 import io.github.mgrablo.BiblioNode.service.BookService;
+import io.github.mgrablo.BiblioNode.dto.ResourceVersion;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
@@ -25,7 +27,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 
+import java.time.Instant;
 import java.util.Collections;
 
 @WebMvcTest(BookController.class)
@@ -48,6 +52,12 @@ public class BookControllerSecurityTest {
     @MockitoBean
     private JwtDecoder jwtDecoder;
 
+    @BeforeEach
+    void stubVersions() {
+        when(bookService.catalogVersion()).thenReturn(new ResourceVersion("\"c-1\"", Instant.EPOCH));
+        when(bookService.findBookVersion(anyLong())).thenReturn(new ResourceVersion("\"book-1\"", Instant.EPOCH));
+    }
+
     @Test
     void addBook_ShouldForbidReader() throws Exception {
         mockMvc.perform(post("/api/books")
@@ -120,6 +130,17 @@ public class BookControllerSecurityTest {
         ).andExpect(status().isOk());
     }
 
+    @Test
+    void searchByDescription_ShouldAllowReader() throws Exception {
+        when(bookService.searchByDescription(any(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(Collections.emptyList()));
+
+        mockMvc.perform(get("/api/books/search/description")
+                .param("query", "dragon")
+                .with(user("reader").roles("READER"))
+        ).andExpect(status().isOk());
+    }
+
     @Test
     void updateBook_ShouldAllowAdmin() throws Exception {
         when(bookService.updateBook(any(Long.class), any(io.github.mgrablo.BiblioNode.dto.BookRequest.class)))
@@ -166,6 +187,8 @@ public class BookControllerSecurityTest {
             "Author",
             1L,
             true,
+            1,
+            1,
             null,
             "Lorem Ipsum",
             java.time.LocalDateTime.now(),
@@ -1,11 +1,14 @@
 package io.github.mgrablo.BiblioNode.controller;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,16 +17,32 @@ import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import io.github.mgrablo.BiblioNode.dto.BatchResult;
+import io.github.mgrablo.BiblioNode.dto.BookFacets;
 import io.github.mgrablo.BiblioNode.dto.BookRequest;
 import io.github.mgrablo.BiblioNode.dto.BookResponse;
+import io.github.mgrablo.BiblioNode.dto.BookSearchResult;
+import io.github.mgrablo.BiblioNode.dto.BookSummary;
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
+import io.github.mgrablo.BiblioNode.dto.PopularBook;
+import io.github.mgrablo.BiblioNode.dto.ResourceVersion;
+import io.github.mgrablo.BiblioNode.dto.Suggestion;
+import io.github.mgrablo.BiblioNode.exception.BatchTooLargeException;
+import io.github.mgrablo.BiblioNode.exception.InvalidCursorException;
+import io.github.mgrablo.BiblioNode.exception.InvalidIsbnException;
+import io.github.mgrablo.BiblioNode.exception.InvalidWindowException;
 import io.github.mgrablo.BiblioNode.exception.ResourceNotFoundException;
 import io.github.mgrablo.BiblioNode.service.BookService;
 import tools.jackson.databind.ObjectMapper;
@@ -40,6 +59,15 @@ public class BookControllerTest {
 	@Autowired
 	private ObjectMapper objectMapper;
 
+	private static final ResourceVersion CATALOG_VERSION = new ResourceVersion("\"c-1\"", Instant.parse("2026-02-10T12:21:00Z"));
+	private static final ResourceVersion BOOK_VERSION = new ResourceVersion("\"book-1-a\"", Instant.parse("2026-02-10T12:21:00Z"));
+
+	@BeforeEach
+	void stubVersions() {
+		when(bookService.catalogVersion()).thenReturn(CATALOG_VERSION);
+		when(bookService.findBookVersion(anyLong())).thenReturn(BOOK_VERSION);
+	}
+
 	@Test
 	void addBook_ShouldReturnNotFound_WhenAuthorDoesNotExist() throws Exception {
 		Long authorId = 9L;
@@ -64,6 +92,19 @@ public class BookControllerTest {
 		verify(bookService, never()).addBook(any());
 	}
 
+	@Test
+	void addBook_ShouldReturnBadRequest_WhenTotalCopiesIsZero() throws Exception {
+		BookRequest invalidRequest = new BookRequest("Title", "111", 1L, null, null, 0);
+
+		mockMvc.perform(post("/api/books")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(invalidRequest))
+		).andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.totalCopies").exists());
+
+		verify(bookService, never()).addBook(any());
+	}
+
 	@Test
 	void addBook_ShouldReturnBadRequest_WhenISBNIsEmpty() throws Exception {
 		BookRequest invalidRequest = new BookRequest("Title", "", 1L);
@@ -111,10 +152,67 @@ public class BookControllerTest {
 				.andExpect(jsonPath("$.totalElements").value(0));
 	}
 
+	@Test
+	void getAll_ShouldReturnNotModified_WhenCatalogUnchanged() throws Exception {
+		mockMvc.perform(get("/api/books").header(HttpHeaders.IF_NONE_MATCH, CATALOG_VERSION.eTag()))
+				.andExpect(status().isNotModified());
+
+		verify(bookService, never()).getAllBooks(any());
+	}
+
+	@Test
+	void getAll_ShouldListOnlyAvailableBooks_WhenAvailableOnly() throws Exception {
+		BookSummary response = new BookSummary(1L, "Title", "111", "Name", 2L, true, null);
+		when(bookService.getAvailableBooks(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(response)));
+
+		mockMvc.perform(get("/api/books").param("availableOnly", "true"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].available").value(true));
+
+		verify(bookService, never()).getAllBooks(any());
+	}
+
+	@Test
+	void searchBooks_ShouldReturnFacets_WhenRequested() throws Exception {
+		Pageable pageable = Pageable.ofSize(20);
+		BookSummary summary = new BookSummary(1L, "Title", "111", "Name", 2L, true, null);
+		var facets = new BookFacets(List.of(new BookFacets.AuthorFacet(2L, "Name", 1)), 1, 0);
+		when(bookService.searchBooksWithFacets("Title", null, false, pageable))
+				.thenReturn(new BookSearchResult(new PageImpl<>(List.of(summary), pageable, 1), facets));
+
+		mockMvc.perform(get("/api/books/search")
+						.param("bookTitle", "Title")
+						.param("facets", "true")
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.results.content[0].id").value(1L))
+				.andExpect(jsonPath("$.facets.authors[0].authorName").value("Name"))
+				.andExpect(jsonPath("$.facets.authors[0].count").value(1))
+				.andExpect(jsonPath("$.facets.available").value(1))
+				.andExpect(jsonPath("$.facets.onLoan").value(0));
+
+		verify(bookService, never()).searchBooks(any(), any(), any());
+	}
+
+	@Test
+	void searchBooks_ShouldSearchOnlyAvailableBooks_WhenAvailableOnly() throws Exception {
+		Pageable pageable = Pageable.ofSize(20);
+		when(bookService.searchAvailableBooks("Title", null, pageable)).thenReturn(Page.empty());
+
+		mockMvc.perform(get("/api/books/search")
+						.param("bookTitle", "Title")
+						.param("availableOnly", "true")
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalElements").value(0));
+
+		verify(bookService, never()).searchBooks(any(), any(), any());
+	}
+
 	@Test
 	void getAll_ShouldReturnList_WhenBooksExist() throws Exception {
-		BookResponse response = new BookResponse(1L, "Title", "111", "Name", 2L, true, "http://example.com/cover.jpg", "description", null, null);
-		Page<BookResponse> bookResponsePage = new PageImpl<>(List.of(response));
+		BookSummary response = new BookSummary(1L, "Title", "111", "Name", 2L, true, "http://example.com/cover.jpg");
+		Page<BookSummary> bookResponsePage = new PageImpl<>(List.of(response));
 		when(bookService.getAllBooks(any(Pageable.class))).thenReturn(bookResponsePage);
 
 		mockMvc.perform(get("/api/books"))
@@ -129,7 +227,115 @@ public class BookControllerTest {
 				.andExpect(jsonPath("$.content[0].authorId").value(2L))
 				.andExpect(jsonPath("$.content[0].available").value(true))
 				.andExpect(jsonPath("$.content[0].coverUrl").value("http://example.com/cover.jpg"))
-				.andExpect(jsonPath("$.content[0].description").value("description"));
+				.andExpect(jsonPath("$.content[0].description").doesNotExist());
+	}
+
+	@Test
+	void getAllSlice_ShouldOmitTotals_WhenCountDisabled() throws Exception {
+		BookSummary response = new BookSummary(1L, "Title", "111", "Name", 2L, true, null);
+		when(bookService.sliceAllBooks(any(Pageable.class)))
+				.thenReturn(new SliceImpl<>(List.of(response), Pageable.ofSize(1), true));
+
+		mockMvc.perform(get("/api/books")
+						.param("count", "false")
+						.param("size", "1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].id").value(1L))
+				.andExpect(jsonPath("$.last").value(false))
+				.andExpect(jsonPath("$.totalElements").doesNotExist());
+
+		verify(bookService, never()).getAllBooks(any(Pageable.class));
+	}
+
+	@Test
+	void scrollAll_ShouldReturnNextCursor_WhenAfterParameterPresent() throws Exception {
+		BookSummary response = new BookSummary(1L, "Title", "111", "Name", 2L, true, null);
+		when(bookService.scrollAllBooks(new CursorRequest("abc", 5)))
+				.thenReturn(new CursorPage<>(List.of(response), 5, "def", true));
+
+		mockMvc.perform(get("/api/books")
+						.param("after", "abc")
+						.param("size", "5"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].id").value(1L))
+				.andExpect(jsonPath("$.size").value(5))
+				.andExpect(jsonPath("$.nextCursor").value("def"))
+				.andExpect(jsonPath("$.hasNext").value(true));
+
+		verify(bookService, never()).getAllBooks(any(Pageable.class));
+	}
+
+	@Test
+	void getAllSlice_ShouldListOnlyAvailableBooks_WhenAvailableOnly() throws Exception {
+		BookSummary response = new BookSummary(1L, "Title", "111", "Name", 2L, true, null);
+		when(bookService.sliceAvailableBooks(any(Pageable.class)))
+				.thenReturn(new SliceImpl<>(List.of(response), Pageable.ofSize(1), false));
+
+		mockMvc.perform(get("/api/books")
+						.param("count", "false")
+						.param("availableOnly", "true"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].available").value(true))
+				.andExpect(jsonPath("$.totalElements").doesNotExist());
+
+		verify(bookService, never()).sliceAllBooks(any(Pageable.class));
+	}
+
+	@Test
+	void scrollAll_ShouldListOnlyAvailableBooks_WhenAvailableOnly() throws Exception {
+		BookSummary response = new BookSummary(1L, "Title", "111", "Name", 2L, true, null);
+		when(bookService.scrollAvailableBooks(new CursorRequest("abc", 5)))
+				.thenReturn(new CursorPage<>(List.of(response), 5, null, false));
+
+		mockMvc.perform(get("/api/books")
+						.param("after", "abc")
+						.param("size", "5")
+						.param("availableOnly", "true"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].available").value(true));
+
+		verify(bookService, never()).scrollAllBooks(any(CursorRequest.class));
+	}
+
+	@Test
+	void scrollAll_ShouldTakePrecedence_WhenCountIsAlsoDisabled() throws Exception {
+		when(bookService.scrollAllBooks(new CursorRequest("abc", 5)))
+				.thenReturn(new CursorPage<>(List.of(), 5, null, false));
+
+		mockMvc.perform(get("/api/books")
+						.param("after", "abc")
+						.param("count", "false")
+						.param("size", "5"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.hasNext").value(false));
+
+		verify(bookService, never()).sliceAllBooks(any(Pageable.class));
+	}
+
+	@Test
+	void scrollAll_ShouldStartFromBeginning_WhenAfterParameterIsEmpty() throws Exception {
+		ArgumentCaptor<CursorRequest> cursorCaptor = ArgumentCaptor.forClass(CursorRequest.class);
+		when(bookService.scrollAllBooks(any(CursorRequest.class)))
+				.thenReturn(new CursorPage<>(List.of(), 5, null, false));
+
+		mockMvc.perform(get("/api/books")
+						.param("after", "")
+						.param("size", "5"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.hasNext").value(false));
+
+		verify(bookService).scrollAllBooks(cursorCaptor.capture());
+		assertNull(cursorCaptor.getValue().after());
+	}
+
+	@Test
+	void scrollAll_ShouldReturnBadRequest_WhenCursorIsInvalid() throws Exception {
+		when(bookService.scrollAllBooks(any(CursorRequest.class)))
+				.thenThrow(new InvalidCursorException("Invalid cursor: ???"));
+
+		mockMvc.perform(get("/api/books")
+						.param("after", "???"))
+				.andExpect(status().isBadRequest());
 	}
 
 	@Test
@@ -158,9 +364,65 @@ public class BookControllerTest {
 		assertTrue(order.isDescending());
 	}
 
+	@Test
+	void getByIds_ShouldReturnBooksAndMissingIds() throws Exception {
+		when(bookService.findBooksByIds(List.of(2L, 1L, 9L)))
+				.thenReturn(new BatchResult<>(List.of(getMockBookResponse()), List.of(9L)));
+
+		mockMvc.perform(get("/api/books").param("ids", "2,1,9"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.results.length()").value(1))
+				.andExpect(jsonPath("$.missing[0]").value(9L));
+	}
+
+	@Test
+	void getByIds_ShouldReturnBadRequest_WhenTooManyIds() throws Exception {
+		when(bookService.findBooksByIds(anyList()))
+				.thenThrow(new BatchTooLargeException("At most 100 ids can be requested at once"));
+
+		mockMvc.perform(get("/api/books").param("ids", "1,2"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("At most 100 ids can be requested at once"));
+	}
+
+	@Test
+	void getPopular_ShouldReturnRankedBooks() throws Exception {
+		when(bookService.findPopularBooks("30d", 5)).thenReturn(List.of(new PopularBook(getMockBookResponse(), 12)));
+
+		mockMvc.perform(get("/api/books/popular").param("window", "30d").param("limit", "5"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].book.id").value(1L))
+				.andExpect(jsonPath("$[0].loans").value(12));
+	}
+
+	@Test
+	void getPopular_ShouldReturnBadRequest_WhenWindowIsInvalid() throws Exception {
+		when(bookService.findPopularBooks("week", 10)).thenThrow(new InvalidWindowException("Window must be between 1d and 30d, got: week"));
+
+		mockMvc.perform(get("/api/books/popular").param("window", "week"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void getRelated_ShouldReturnRelatedBooks() throws Exception {
+		when(bookService.findRelatedBooks(1L, 3)).thenReturn(List.of(getMockBookResponse()));
+
+		mockMvc.perform(get("/api/books/1/related").param("limit", "3"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(1));
+	}
+
+	@Test
+	void getRelated_ShouldReturnNotFound_WhenBookDoesNotExist() throws Exception {
+		when(bookService.findRelatedBooks(99L, 10)).thenThrow(new ResourceNotFoundException("Book not found for id: 99"));
+
+		mockMvc.perform(get("/api/books/99/related"))
+				.andExpect(status().isNotFound());
+	}
+
 	@Test
 	void getById_ShouldReturnBook_WhenExists() throws Exception {
-		BookResponse response = new BookResponse(1L, "Title", "111", "Name", 2L, true, "http://example.com/cover.jpg", "desc", null, null);
+		BookResponse response = new BookResponse(1L, "Title", "111", "Name", 2L, true, 1, 1, "http://example.com/cover.jpg", "desc", null, null);
 		when(bookService.findBookById(1L)).thenReturn(response);
 
 		mockMvc.perform(get("/api/books/1"))
@@ -171,13 +433,52 @@ public class BookControllerTest {
 				.andExpect(jsonPath("$.authorName").value("Name"))
 				.andExpect(jsonPath("$.authorId").value(2L))
 				.andExpect(jsonPath("$.available").value(true))
+				.andExpect(jsonPath("$.availableCopies").value(1))
+				.andExpect(jsonPath("$.totalCopies").value(1))
 				.andExpect(jsonPath("$.coverUrl").value("http://example.com/cover.jpg"))
 				.andExpect(jsonPath("$.description").value("desc"));
 	}
 
+	@Test
+	void getById_ShouldReturnValidators_WhenBookExists() throws Exception {
+		when(bookService.findBookById(1L)).thenReturn(getMockBookResponse());
+
+		mockMvc.perform(get("/api/books/1"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, BOOK_VERSION.eTag()))
+				.andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, BOOK_VERSION.lastModified().toEpochMilli()))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+	}
+
+	@Test
+	void getById_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+		mockMvc.perform(get("/api/books/1").header(HttpHeaders.IF_NONE_MATCH, BOOK_VERSION.eTag()))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, BOOK_VERSION.eTag()));
+
+		verify(bookService, never()).findBookById(any());
+	}
+
+	@Test
+	void getById_ShouldReturnNotModified_WhenNotModifiedSince() throws Exception {
+		mockMvc.perform(get("/api/books/1").header(HttpHeaders.IF_MODIFIED_SINCE, "Tue, 10 Feb 2026 12:21:00 GMT"))
+				.andExpect(status().isNotModified());
+
+		verify(bookService, never()).findBookById(any());
+	}
+
+	@Test
+	void getById_ShouldReturnBook_WhenETagIsStale() throws Exception {
+		when(bookService.findBookById(1L)).thenReturn(getMockBookResponse());
+
+		mockMvc.perform(get("/api/books/1").header(HttpHeaders.IF_NONE_MATCH, "\"book-1-0\""))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.id").value(1L));
+	}
+
 	@Test
 	void getById_ShouldReturnNotFound_WhenBookDoesNotExist() throws Exception {
-		when(bookService.findBookById(1L)).thenThrow(new ResourceNotFoundException("Book not found"));
+		when(bookService.findBookVersion(1L)).thenThrow(new ResourceNotFoundException("Book not found"));
 
 		mockMvc.perform(get("/api/books/1"))
 				.andExpect(status().isNotFound());
@@ -186,7 +487,7 @@ public class BookControllerTest {
 	@Test
 	void getById_ShouldReturnDatesInJson() throws Exception {
 		LocalDateTime date = LocalDateTime.of(2026, 2, 10, 12, 21);
-		BookResponse response = new BookResponse(1L, "Title", "111", "Name", 2L, true, null, null, date, date);
+		BookResponse response = new BookResponse(1L, "Title", "111", "Name", 2L, true, 1, 1, null, null, date, date);
 		when(bookService.findBookById(1L)).thenReturn(response);
 
 		mockMvc.perform(get("/api/books/1"))
@@ -195,6 +496,23 @@ public class BookControllerTest {
 				.andExpect(jsonPath("$.modifiedAt").value("2026-02-10 12:21:00"));
 	}
 
+	@Test
+	void findByIsbn_ShouldReturnBook_WhenExists() throws Exception {
+		when(bookService.findBookByIsbn("978-0-306-40615-7")).thenReturn(getMockBookResponse());
+
+		mockMvc.perform(get("/api/books/isbn/978-0-306-40615-7"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.id").value(1L));
+	}
+
+	@Test
+	void findByIsbn_ShouldReturnBadRequest_WhenIsbnIsMalformed() throws Exception {
+		when(bookService.findBookByIsbn("abc")).thenThrow(new InvalidIsbnException("Invalid ISBN: abc"));
+
+		mockMvc.perform(get("/api/books/isbn/abc"))
+				.andExpect(status().isBadRequest());
+	}
+
 	@Test
 	void search_ShouldReturnEmptyList_WhenNoMatchesFound() throws Exception {
 		Pageable pageable = Pageable.ofSize(20);
@@ -212,8 +530,8 @@ public class BookControllerTest {
 
 	@Test
 	void search_ShouldReturnList_WhenMatchesFound() throws Exception {
-		BookResponse response = new BookResponse(1L, "AAA", "111", "BBB", 2L, true, null, null, null, null);
-		Page<BookResponse> bookResponsePage = new PageImpl<>(List.of(response));
+		BookSummary response = new BookSummary(1L, "AAA", "111", "BBB", 2L, true, null);
+		Page<BookSummary> bookResponsePage = new PageImpl<>(List.of(response));
 		Pageable pageable = Pageable.ofSize(20);
 		when(bookService.searchBooks("A", "B", pageable)).thenReturn(bookResponsePage);
 
@@ -232,11 +550,43 @@ public class BookControllerTest {
 				.andExpect(jsonPath("$.content[0].available").value(true));
 	}
 
+	@Test
+	void suggest_ShouldReturnCompletions() throws Exception {
+		when(bookService.suggest("kin", 5)).thenReturn(List.of(
+				new Suggestion("King Lear", Suggestion.Type.TITLE),
+				new Suggestion("Stephen King", Suggestion.Type.AUTHOR)
+		));
+
+		mockMvc.perform(get("/api/books/suggest")
+						.param("q", "kin")
+						.param("limit", "5")
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].text").value("King Lear"))
+				.andExpect(jsonPath("$[0].type").value("TITLE"))
+				.andExpect(jsonPath("$[1].type").value("AUTHOR"));
+	}
+
+	@Test
+	void searchByDescription_ShouldReturnList_WhenMatchesFound() throws Exception {
+		BookResponse response = new BookResponse(1L, "AAA", "111", "BBB", 2L, true, 1, 1, null, "knights and dragons", null, null);
+		Pageable pageable = Pageable.ofSize(20);
+		when(bookService.searchByDescription("dragon", pageable)).thenReturn(new PageImpl<>(List.of(response)));
+
+		mockMvc.perform(get("/api/books/search/description")
+						.param("query", "dragon")
+				)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalElements").value(1))
+				.andExpect(jsonPath("$.content[0].id").value(1L))
+				.andExpect(jsonPath("$.content[0].description").value("knights and dragons"));
+	}
+
 	@Test
 	void updateBook_ShouldReturnUpdatedBook_WhenBookExists() throws Exception {
 		Long id = 1L;
 		BookRequest request = new BookRequest("NewTitle", "111", 2L, "http://example.com/cover.jpg", "description");
-		BookResponse response = new BookResponse(id, "NewTitle", "111", "AuthorName", 2L, true, "http://example.com/cover.jpg", "description", null, null);
+		BookResponse response = new BookResponse(id, "NewTitle", "111", "AuthorName", 2L, true, 1, 1, "http://example.com/cover.jpg", "description", null, null);
 		when(bookService.updateBook(id, request)).thenReturn(response);
 
 		mockMvc.perform(put("/api/books/1")
@@ -301,6 +651,6 @@ public class BookControllerTest {
 	}
 
 	private BookResponse getMockBookResponse() {
-		return new BookResponse(1L, "Title", "111", "Name", 2L, true, null, null, null, null);
+		return new BookResponse(1L, "Title", "111", "Name", 2L, true, 1, 1, null, null, null, null);
 	}
 }
\ No newline at end of file
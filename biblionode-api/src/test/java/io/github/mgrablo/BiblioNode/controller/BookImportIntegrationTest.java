@@ -0,0 +1,152 @@
+package io.github.mgrablo.BiblioNode.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.github.mgrablo.BiblioNode.config.RsaKeyConfig;
+import io.github.mgrablo.BiblioNode.dto.AuthorRequest;
+import io.github.mgrablo.BiblioNode.service.AuthorService;
+import io.github.mgrablo.BiblioNode.service.BookService;
+
+@SpringBootTest(properties = "app.import.batch-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class BookImportIntegrationTest {
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private AuthorService authorService;
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoBean
+	private JwtDecoder jwtDecoder;
+	@MockitoBean
+	private JwtEncoder jwtEncoder;
+	@MockitoBean
+	private RsaKeyConfig rsaKeyConfig;
+
+	@AfterEach
+	void cleanUp() {
+		jdbcTemplate.queryForList("SELECT id FROM books WHERE title LIKE 'Imported %'", Long.class)
+				.forEach(bookService::deleteBook);
+		jdbcTemplate.queryForList("SELECT id FROM authors WHERE name LIKE 'Import Author %'", Long.class)
+				.forEach(authorService::deleteAuthor);
+	}
+
+	@Test
+	void importCsv_ShouldInsertBooksAcrossBatches_AndCreateMissingAuthors() throws Exception {
+		authorService.saveAuthor(new AuthorRequest("Import Author Existing", "Bio"));
+		String csv = """
+				title,isbn,author,description
+				Imported One,0-306-40615-2,Import Author Existing,First
+				"Imported Two, Revised",isbn-2,Import Author New,"Spans
+				two lines"
+				Imported Three,isbn-3,Import Author New,
+				""";
+
+		mockMvc.perform(post("/api/books/import")
+						.contentType("text/csv")
+						.content(csv)
+						.with(adminUser()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.imported").value(3))
+				.andExpect(jsonPath("$.failed").value(0))
+				.andExpect(jsonPath("$.authorsCreated").value(1));
+
+		assertEquals("Import Author New", bookService.findBookByTitle("Imported Two, Revised").authorName());
+		assertEquals("Spans\ntwo lines", bookService.findBookByTitle("Imported Two, Revised").description());
+		assertEquals("Imported One", bookService.findBookByIsbn("9780306406157").title());
+		assertEquals(3, bookService.searchBooks("Imported", null, Pageable.unpaged()).getTotalElements());
+	}
+
+	@Test
+	void importCsv_ShouldSkipAndReportInvalidRows() throws Exception {
+		String csv = """
+				title,isbn,author
+				Imported Valid,isbn-1,Import Author A
+				,isbn-2,Import Author A
+				Imported No Author,isbn-3,
+				""";
+
+		mockMvc.perform(post("/api/books/import")
+						.contentType("text/csv")
+						.content(csv)
+						.with(adminUser()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.imported").value(1))
+				.andExpect(jsonPath("$.failed").value(2))
+				.andExpect(jsonPath("$.errors[0].line").value(3))
+				.andExpect(jsonPath("$.errors[0].message").value("The title cannot be empty"))
+				.andExpect(jsonPath("$.errors[1].line").value(4))
+				.andExpect(jsonPath("$.errors[1].message").value("The author cannot be empty"));
+	}
+
+	@Test
+	void importCsv_ShouldReturnBadRequest_WhenHeaderIsMissingColumn() throws Exception {
+		mockMvc.perform(post("/api/books/import")
+						.contentType("text/csv")
+						.content("title,author\nImported Book,Import Author A\n")
+						.with(adminUser()))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("The CSV header is missing the 'isbn' column"));
+	}
+
+	@Test
+	void importNdjson_ShouldReportMalformedLines() throws Exception {
+		String ndjson = """
+				{"title":"Imported Json","isbn":"isbn-1","author":"Import Author Json"}
+
+				{"title":"Imported Broken",
+				{"title":"Imported Json Two","isbn":"isbn-2","author":"Import Author Json"}
+				""";
+
+		mockMvc.perform(post("/api/books/import")
+						.contentType(MediaType.APPLICATION_NDJSON)
+						.content(ndjson)
+						.with(adminUser()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.imported").value(2))
+				.andExpect(jsonPath("$.failed").value(1))
+				.andExpect(jsonPath("$.authorsCreated").value(1))
+				.andExpect(jsonPath("$.errors[0].line").value(3));
+	}
+
+	@Test
+	void import_ShouldForbidReader() throws Exception {
+		mockMvc.perform(post("/api/books/import")
+						.contentType("text/csv")
+						.content("title,isbn,author\n")
+						.with(jwt().authorities(new SimpleGrantedAuthority("ROLE_READER"))))
+				.andExpect(status().isForbidden());
+	}
+
+	private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor adminUser() {
+		return jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))
+				.jwt(j -> j.subject("admin@email.com"));
+	}
+}
@@ -0,0 +1,194 @@
+package io.github.mgrablo.BiblioNode.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.github.mgrablo.BiblioNode.config.RsaKeyConfig;
+import io.github.mgrablo.BiblioNode.dto.AuthorRequest;
+import io.github.mgrablo.BiblioNode.dto.BookRequest;
+import io.github.mgrablo.BiblioNode.service.AuthorService;
+import io.github.mgrablo.BiblioNode.service.BookService;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards against N+1 selects on book read endpoints by counting the JDBC statements each request prepares.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class BookQueryCountIntegrationTest {
+	private static final int AUTHORS = 3;
+	private static final int BOOKS_PER_AUTHOR = 2;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private AuthorService authorService;
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@MockitoBean
+	private JwtDecoder jwtDecoder;
+	@MockitoBean
+	private JwtEncoder jwtEncoder;
+	@MockitoBean
+	private RsaKeyConfig rsaKeyConfig;
+
+	private final List<Long> authorIds = new ArrayList<>();
+	private final List<Long> bookIds = new ArrayList<>();
+
+	@BeforeEach
+	void seed() {
+		for (int a = 0; a < AUTHORS; a++) {
+			Long authorId = authorService.saveAuthor(new AuthorRequest("Author " + a, "Bio")).id();
+			authorIds.add(authorId);
+			for (int b = 0; b < BOOKS_PER_AUTHOR; b++) {
+				var request = new BookRequest("Book " + a + "-" + b, "isbn-" + a + b, authorId, null, "A tale of dragons " + a + b);
+				bookIds.add(bookService.addBook(request).id());
+			}
+		}
+	}
+
+	@AfterEach
+	void cleanUp() {
+		bookIds.forEach(bookService::deleteBook);
+		authorIds.forEach(authorService::deleteAuthor);
+		bookIds.clear();
+		authorIds.clear();
+	}
+
+	@Test
+	void getAll_ShouldLoadBooksAndAuthorsInOneStatement() throws Exception {
+		long statements = countStatements(get("/api/books").with(readerUser()));
+
+		assertEquals(1, statements);
+	}
+
+	@Test
+	void getAll_ShouldAddOnlyCountStatement_WhenMorePagesExist() throws Exception {
+		long statements = countStatements(get("/api/books").param("size", "2").with(readerUser()));
+
+		assertEquals(2, statements);
+	}
+
+	@Test
+	void scrollAll_ShouldLoadBooksAndAuthorsInOneStatement() throws Exception {
+		long statements = countStatements(get("/api/books").param("after", "").with(readerUser()));
+
+		assertEquals(1, statements);
+	}
+
+	@Test
+	void searchBooks_ShouldLoadBooksAndAuthorsInOneStatement() throws Exception {
+		long statements = countStatements(get("/api/books/search").param("bookTitle", "Book").with(readerUser()));
+
+		assertEquals(1, statements);
+	}
+
+	@Test
+	void searchBooksWithFacets_ShouldAddOnlyOneStatementForAllFacets() throws Exception {
+		long statements = countStatements(get("/api/books/search")
+				.param("bookTitle", "Book")
+				.param("facets", "true")
+				.with(readerUser()));
+
+		assertEquals(2, statements);
+	}
+
+	@Test
+	void searchByDescription_ShouldLoadBooksAndAuthorsInOneStatement() throws Exception {
+		long statements = countStatements(get("/api/books/search/description").param("query", "dragons").with(readerUser()));
+
+		assertEquals(1, statements);
+	}
+
+	@Test
+	void getByIds_ShouldLoadBooksAndAuthorsInOneStatement() throws Exception {
+		String ids = bookIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+
+		long statements = countStatements(get("/api/books").param("ids", ids).with(readerUser()));
+
+		assertEquals(1, statements);
+	}
+
+	@Test
+	void getById_ShouldLoadBookAndAuthorAfterVersionLookup() throws Exception {
+		long statements = countStatements(get("/api/books/" + bookIds.getFirst()).with(readerUser()));
+
+		assertEquals(2, statements);
+	}
+
+	@Test
+	void getById_ShouldOnlyLookUpVersion_WhenNotModified() throws Exception {
+		String eTag = mockMvc.perform(get("/api/books/" + bookIds.getFirst()).with(readerUser()))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		long statements = countStatements(get("/api/books/" + bookIds.getFirst())
+				.header(HttpHeaders.IF_NONE_MATCH, eTag)
+				.with(readerUser()), status().isNotModified());
+
+		assertEquals(1, statements);
+	}
+
+	@Test
+	void getAll_ShouldNotQuery_WhenCatalogNotModified() throws Exception {
+		String eTag = mockMvc.perform(get("/api/books").with(readerUser()))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		long statements = countStatements(get("/api/books")
+				.header(HttpHeaders.IF_NONE_MATCH, eTag)
+				.with(readerUser()), status().isNotModified());
+
+		assertEquals(0, statements);
+	}
+
+	private long countStatements(RequestBuilder request) throws Exception {
+		return countStatements(request, status().isOk(), jsonPath("$").exists());
+	}
+
+	private long countStatements(RequestBuilder request, ResultMatcher... matchers) throws Exception {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		mockMvc.perform(request)
+				.andExpectAll(matchers);
+
+		return statistics.getPrepareStatementCount();
+	}
+
+	private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor readerUser() {
+		return jwt().authorities(new SimpleGrantedAuthority("ROLE_READER"))
+				.jwt(j -> j.subject("test@email.com"));
+	}
+}
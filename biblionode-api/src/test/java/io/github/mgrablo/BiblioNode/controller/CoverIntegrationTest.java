@@ -0,0 +1,197 @@
+package io.github.mgrablo.BiblioNode.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.mgrablo.BiblioNode.config.RsaKeyConfig;
+import io.github.mgrablo.BiblioNode.dto.AuthorRequest;
+import io.github.mgrablo.BiblioNode.dto.BookRequest;
+import io.github.mgrablo.BiblioNode.service.AuthorService;
+import io.github.mgrablo.BiblioNode.service.BookService;
+import javax.imageio.ImageIO;
+
+/**
+ * Serves covers end to end against a stub origin on the loopback interface.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class CoverIntegrationTest {
+	@TempDir
+	static Path coverDirectory;
+
+	private static HttpServer origin;
+	private static byte[] cover;
+	private static final AtomicInteger originHits = new AtomicInteger();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private AuthorService authorService;
+
+	@Autowired
+	private BookService bookService;
+
+	@MockitoBean
+	private JwtDecoder jwtDecoder;
+	@MockitoBean
+	private JwtEncoder jwtEncoder;
+	@MockitoBean
+	private RsaKeyConfig rsaKeyConfig;
+
+	private Long authorId;
+	private Long bookId;
+
+	@DynamicPropertySource
+	static void coverProperties(DynamicPropertyRegistry registry) {
+		registry.add("app.covers.directory", () -> coverDirectory.toString());
+		registry.add("app.covers.thumbnail-size", () -> 50);
+		registry.add("app.covers.allow-private-addresses", () -> true);
+	}
+
+	@BeforeAll
+	static void startOrigin() throws IOException {
+		ByteArrayOutputStream png = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(300, 400, BufferedImage.TYPE_INT_RGB), "png", png);
+		cover = png.toByteArray();
+
+		origin = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		origin.createContext("/cover.png", exchange -> {
+			originHits.incrementAndGet();
+			exchange.getResponseHeaders().set("Content-Type", "image/png");
+			exchange.sendResponseHeaders(200, cover.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(cover);
+			}
+		});
+		origin.start();
+	}
+
+	@AfterAll
+	static void stopOrigin() {
+		origin.stop(0);
+	}
+
+	@BeforeEach
+	void seed() {
+		authorId = authorService.saveAuthor(new AuthorRequest("Cover Author", "Bio")).id();
+		String coverUrl = "http://127.0.0.1:" + origin.getAddress().getPort() + "/cover.png";
+		bookId = bookService.addBook(new BookRequest("Covered Book", "isbn-cover", authorId, coverUrl, null)).id();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		bookService.deleteBook(bookId);
+		authorService.deleteAuthor(authorId);
+	}
+
+	@Test
+	void getCover_ShouldServeImageWithoutAuthentication_AndFetchOriginOnce() throws Exception {
+		int hitsBefore = originHits.get();
+
+		mockMvc.perform(get("/api/books/" + bookId + "/cover"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType("image/png"))
+				.andExpect(content().bytes(cover))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=86400, public"))
+				.andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+				.andExpect(header().string("X-Content-Type-Options", "nosniff"))
+				.andExpect(header().string("Content-Security-Policy", "sandbox"))
+				.andExpect(header().exists(HttpHeaders.ETAG));
+		mockMvc.perform(get("/api/books/" + bookId + "/cover"))
+				.andExpect(status().isOk());
+
+		assertEquals(1, originHits.get() - hitsBefore);
+	}
+
+	@Test
+	void getCover_ShouldReturnPartialContent_WhenRangeRequested() throws Exception {
+		mockMvc.perform(get("/api/books/" + bookId + "/cover").header(HttpHeaders.RANGE, "bytes=0-9"))
+				.andExpect(status().isPartialContent())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-9/" + cover.length))
+				.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+				.andExpect(content().bytes(Arrays.copyOf(cover, 10)));
+	}
+
+	@Test
+	void getCover_ShouldReturnWholeImage_WhenIfRangeDoesNotMatch() throws Exception {
+		mockMvc.perform(get("/api/books/" + bookId + "/cover")
+						.header(HttpHeaders.RANGE, "bytes=0-9")
+						.header(HttpHeaders.IF_RANGE, "\"stale\""))
+				.andExpect(status().isOk())
+				.andExpect(content().bytes(cover));
+	}
+
+	@Test
+	void getCover_ShouldReturnRangeNotSatisfiable_WhenRangeIsOutsideImage() throws Exception {
+		mockMvc.perform(get("/api/books/" + bookId + "/cover").header(HttpHeaders.RANGE, "bytes=" + cover.length + "-"))
+				.andExpect(status().isRequestedRangeNotSatisfiable())
+				.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + cover.length));
+	}
+
+	@Test
+	void getCover_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+		String eTag = mockMvc.perform(get("/api/books/" + bookId + "/cover"))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/api/books/" + bookId + "/cover").header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified())
+				.andExpect(content().bytes(new byte[0]));
+	}
+
+	@Test
+	void getCover_ShouldReturnThumbnail_WhenRequested() throws Exception {
+		byte[] thumbnail = mockMvc.perform(get("/api/books/" + bookId + "/cover").param("thumbnail", "true"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType("image/jpeg"))
+				.andReturn().getResponse().getContentAsByteArray();
+
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(thumbnail));
+		assertEquals(50, image.getHeight());
+	}
+
+	@Test
+	void getCover_ShouldReturnNotFound_WhenBookHasNoCover() throws Exception {
+		Long plainBookId = bookService.addBook(new BookRequest("Plain Book", "isbn-plain", authorId)).id();
+		try {
+			mockMvc.perform(get("/api/books/" + plainBookId + "/cover"))
+					.andExpect(status().isNotFound());
+		} finally {
+			bookService.deleteBook(plainBookId);
+		}
+	}
+}
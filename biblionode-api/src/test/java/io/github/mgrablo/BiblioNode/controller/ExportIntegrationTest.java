@@ -0,0 +1,141 @@
+package io.github.mgrablo.BiblioNode.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.List;
+
+import io.github.mgrablo.BiblioNode.config.RsaKeyConfig;
+import io.github.mgrablo.BiblioNode.dto.AuthorRequest;
+import io.github.mgrablo.BiblioNode.dto.BookRequest;
+import io.github.mgrablo.BiblioNode.dto.BookResponse;
+import io.github.mgrablo.BiblioNode.service.AuthorService;
+import io.github.mgrablo.BiblioNode.service.BookService;
+import tools.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ExportIntegrationTest {
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private AuthorService authorService;
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@MockitoBean
+	private JwtDecoder jwtDecoder;
+	@MockitoBean
+	private JwtEncoder jwtEncoder;
+	@MockitoBean
+	private RsaKeyConfig rsaKeyConfig;
+
+	private Long authorId;
+	private Long bookId;
+
+	@BeforeEach
+	void seed() {
+		authorId = authorService.saveAuthor(new AuthorRequest("Export Author", "Bio")).id();
+		bookId = bookService.addBook(new BookRequest("Export, the \"Book\"", "isbn-export", authorId, null, "Line one\nline two")).id();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		bookService.deleteBook(bookId);
+		authorService.deleteAuthor(authorId);
+	}
+
+	@Test
+	void exportBooks_ShouldStreamNdjsonByDefault() throws Exception {
+		MvcResult result = stream(get("/api/export/books").with(adminUser()));
+
+		assertEquals("application/x-ndjson", result.getResponse().getContentType());
+		List<BookResponse> books = result.getResponse().getContentAsString().lines()
+				.map(line -> objectMapper.readValue(line, BookResponse.class))
+				.toList();
+		BookResponse exported = books.stream().filter(book -> book.id().equals(bookId)).findFirst().orElseThrow();
+		assertEquals("Export, the \"Book\"", exported.title());
+		assertEquals("Export Author", exported.authorName());
+		assertEquals("Line one\nline two", exported.description());
+	}
+
+	@Test
+	void exportBooks_ShouldStreamCsvWithImportCompatibleHeader() throws Exception {
+		MvcResult result = stream(get("/api/export/books").param("format", "CSV").with(adminUser()));
+
+		String csv = result.getResponse().getContentAsString();
+		assertTrue(csv.startsWith("id,title,isbn,author,authorId,available,availableCopies,totalCopies,coverUrl,description,createdAt,modifiedAt\n"));
+		assertTrue(csv.contains(bookId + ",\"Export, the \"\"Book\"\"\",isbn-export,Export Author," + authorId + ",true,1,1,,\"Line one\nline two\","));
+	}
+
+	@Test
+	void exportBooks_ShouldNeutralizeFormulas_WhenStreamingCsv() throws Exception {
+		Long formulaId = bookService.addBook(new BookRequest("=HYPERLINK(\"http://evil\")", "isbn-formula", authorId,
+				null, "@SUM(A1)")).id();
+		try {
+			MvcResult result = stream(get("/api/export/books").param("format", "CSV").with(adminUser()));
+
+			assertTrue(result.getResponse().getContentAsString().contains(
+					formulaId + ",\"'=HYPERLINK(\"\"http://evil\"\")\",isbn-formula,Export Author," + authorId
+							+ ",true,1,1,,\"'@SUM(A1)\","));
+		} finally {
+			bookService.deleteBook(formulaId);
+		}
+	}
+
+	@Test
+	void exportLoans_ShouldStreamCsvHeader() throws Exception {
+		MvcResult result = stream(get("/api/export/loans").param("format", "CSV").with(adminUser()));
+
+		assertTrue(result.getResponse().getContentAsString()
+				.startsWith("id,bookId,bookTitle,bookAuthorName,bookIsbn,readerId,loanDate,dueDate,returnDate\n"));
+	}
+
+	@Test
+	void exportBooks_ShouldForbidReader() throws Exception {
+		mockMvc.perform(get("/api/export/books")
+						.with(jwt().authorities(new SimpleGrantedAuthority("ROLE_READER"))))
+				.andExpect(status().isForbidden());
+	}
+
+	private MvcResult stream(RequestBuilder builder) throws Exception {
+		MvcResult result = mockMvc.perform(builder)
+				.andExpect(request().asyncStarted())
+				.andExpect(header().exists("Content-Disposition"))
+				.andReturn();
+		result.getAsyncResult();
+		return result;
+	}
+
+	private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor adminUser() {
+		return jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))
+				.jwt(j -> j.subject("admin@email.com"));
+	}
+}
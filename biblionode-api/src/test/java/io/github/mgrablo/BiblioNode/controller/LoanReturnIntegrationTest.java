@@ -0,0 +1,240 @@
+package io.github.mgrablo.BiblioNode.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import io.github.mgrablo.BiblioNode.config.RsaKeyConfig;
+import io.github.mgrablo.BiblioNode.dto.AuthorRequest;
+import io.github.mgrablo.BiblioNode.dto.BookRequest;
+import io.github.mgrablo.BiblioNode.dto.BorrowRequest;
+import io.github.mgrablo.BiblioNode.dto.ReturnRequest;
+import io.github.mgrablo.BiblioNode.model.LoanStatus;
+import io.github.mgrablo.BiblioNode.model.Reader;
+import io.github.mgrablo.BiblioNode.model.User;
+import io.github.mgrablo.BiblioNode.repository.LoanRepository;
+import io.github.mgrablo.BiblioNode.repository.ReaderRepository;
+import io.github.mgrablo.BiblioNode.repository.UserRepository;
+import io.github.mgrablo.BiblioNode.service.AuthorService;
+import io.github.mgrablo.BiblioNode.service.BookService;
+import io.github.mgrablo.BiblioNode.service.LoanService;
+import tools.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class LoanReturnIntegrationTest {
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private LoanService loanService;
+
+	@Autowired
+	private AuthorService authorService;
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private LoanRepository loanRepository;
+
+	@Autowired
+	private ReaderRepository readerRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private JwtDecoder jwtDecoder;
+	@MockitoBean
+	private JwtEncoder jwtEncoder;
+	@MockitoBean
+	private RsaKeyConfig rsaKeyConfig;
+
+	private Long authorId;
+	private final List<Long> bookIds = new ArrayList<>();
+	private final List<Reader> readers = new ArrayList<>();
+	private final List<Long> loanIds = new ArrayList<>();
+
+	@BeforeEach
+	void seed() {
+		authorId = authorService.saveAuthor(new AuthorRequest("Return Author", "Bio")).id();
+		for (int i = 0; i < 3; i++) {
+			User user = new User();
+			user.setEmail("dropper" + i + "@email.com");
+			user.setPassword("password");
+			user = userRepository.save(user);
+
+			Reader reader = new Reader();
+			reader.setFullName("Dropper " + i);
+			reader.setUser(user);
+			readers.add(readerRepository.save(reader));
+		}
+	}
+
+	@AfterEach
+	void cleanUp() {
+		loanRepository.deleteAllById(loanIds);
+		readers.forEach(reader -> {
+			readerRepository.deleteById(reader.getId());
+			userRepository.deleteById(reader.getUser().getId());
+		});
+		bookIds.forEach(bookService::deleteBook);
+		authorService.deleteAuthor(authorId);
+		loanIds.clear();
+		readers.clear();
+		bookIds.clear();
+	}
+
+	@Test
+	void returnBooks_ShouldReportEachItem_AndReleaseCopiesAndLoanSlots() throws Exception {
+		Long bookA = addBook("A", 1);
+		Long bookB = addBook("B", 1);
+		Long bookC = addBook("C", 2);
+		Long bookD = addBook("D", 1);
+		Long loanA = borrow(bookA, 0);
+		Long loanB = borrow(bookB, 1);
+		borrow(bookC, 0);
+		borrow(bookC, 1);
+		Long loanD = borrow(bookD, 2);
+		loanService.returnBook(loanD);
+
+		ReturnRequest request = new ReturnRequest(List.of(loanA, loanD, -1L, loanA), List.of(bookB, bookC, bookD));
+
+		mockMvc.perform(post("/api/loans/returns")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(request))
+						.with(adminUser()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.returned").value(2))
+				.andExpect(jsonPath("$.notReturned").value(4))
+				.andExpect(jsonPath("$.items.length()").value(6))
+				.andExpect(jsonPath("$.items[0].loanId").value(loanA))
+				.andExpect(jsonPath("$.items[0].bookId").value(bookA))
+				.andExpect(jsonPath("$.items[0].status").value("RETURNED"))
+				.andExpect(jsonPath("$.items[1].status").value("ALREADY_RETURNED"))
+				.andExpect(jsonPath("$.items[2].loanId").value(-1))
+				.andExpect(jsonPath("$.items[2].status").value("NOT_FOUND"))
+				.andExpect(jsonPath("$.items[3].loanId").value(loanB))
+				.andExpect(jsonPath("$.items[3].bookId").value(bookB))
+				.andExpect(jsonPath("$.items[3].status").value("RETURNED"))
+				.andExpect(jsonPath("$.items[4].status").value("AMBIGUOUS"))
+				.andExpect(jsonPath("$.items[5].status").value("NOT_BORROWED"));
+
+		assertEquals(1, bookService.findBookById(bookA).availableCopies());
+		assertEquals(1, bookService.findBookById(bookB).availableCopies());
+		assertEquals(0, bookService.findBookById(bookC).availableCopies());
+		assertEquals(LoanStatus.RETURNED, loanRepository.findById(loanA).orElseThrow().getStatus());
+		assertEquals(1, activeLoanCount(0));
+		assertEquals(1, activeLoanCount(1));
+		assertEquals(0, activeLoanCount(2));
+	}
+
+	@Test
+	void returnBooks_ShouldReleaseEveryCopyAndSlot_WhenLoansShareBooksAndReaders() throws Exception {
+		Long bookC = addBook("C", 2);
+		Long bookE = addBook("E", 1);
+		Long first = borrow(bookC, 0);
+		Long second = borrow(bookC, 1);
+		Long other = borrow(bookE, 0);
+
+		mockMvc.perform(post("/api/loans/returns")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(new ReturnRequest(List.of(first, second, other), null)))
+						.with(adminUser()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.returned").value(3))
+				.andExpect(jsonPath("$.notReturned").value(0));
+
+		assertEquals(2, bookService.findBookById(bookC).availableCopies());
+		assertEquals(1, bookService.findBookById(bookE).availableCopies());
+		assertEquals(0, activeLoanCount(0));
+		assertEquals(0, activeLoanCount(1));
+	}
+
+	@Test
+	void returnBooks_ShouldProcessLoansAcrossChunks() throws Exception {
+		Long loan = borrow(addBook("Chunked", 1), 0);
+		List<Long> ids = new ArrayList<>(LongStream.rangeClosed(-149, -1).boxed().toList());
+		ids.add(loan);
+
+		mockMvc.perform(post("/api/loans/returns")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(new ReturnRequest(ids, null)))
+						.with(adminUser()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.returned").value(1))
+				.andExpect(jsonPath("$.notReturned").value(149))
+				.andExpect(jsonPath("$.items[149].loanId").value(loan))
+				.andExpect(jsonPath("$.items[149].status").value("RETURNED"));
+
+		assertEquals(0, activeLoanCount(0));
+	}
+
+	@Test
+	void returnBooks_ShouldReturnBadRequest_WhenTooManyIds() throws Exception {
+		List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+		mockMvc.perform(post("/api/loans/returns")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(new ReturnRequest(ids, null)))
+						.with(adminUser()))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("At most 1000 returns can be processed at once, got 1001"));
+	}
+
+	@Test
+	void returnBooks_ShouldForbidReader() throws Exception {
+		mockMvc.perform(post("/api/loans/returns")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"loanIds\":[1]}")
+						.with(jwt().authorities(new SimpleGrantedAuthority("ROLE_READER"))))
+				.andExpect(status().isForbidden());
+	}
+
+	private Long addBook(String title, int copies) {
+		Long bookId = bookService.addBook(new BookRequest("Returned " + title, "return-" + title, authorId, null, null, copies)).id();
+		bookIds.add(bookId);
+		return bookId;
+	}
+
+	private Long borrow(Long bookId, int reader) {
+		Long loanId = loanService.borrowBook(new BorrowRequest(bookId), readers.get(reader).getUser().getEmail()).id();
+		loanIds.add(loanId);
+		return loanId;
+	}
+
+	private int activeLoanCount(int reader) {
+		return readerRepository.findById(readers.get(reader).getId()).orElseThrow().getActiveLoanCount();
+	}
+
+	private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor adminUser() {
+		return jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))
+				.jwt(j -> j.subject("admin@email.com"));
+	}
+}
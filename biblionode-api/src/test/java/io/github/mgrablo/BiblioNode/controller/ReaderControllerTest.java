@@ -12,6 +12,7 @@ import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -106,6 +107,23 @@ public class ReaderControllerTest {
 				.andExpect(jsonPath("$.content[1].loans.length()").value(0));
 	}
 
+	@Test
+	public void getAllSlice_ShouldOmitTotals_WhenCountDisabled() throws Exception {
+		ReaderResponse response = new ReaderResponse(1L, "Test Name1", "1test@email.com", List.of());
+		when(readerService.sliceAll(any(Pageable.class)))
+				.thenReturn(new SliceImpl<>(List.of(response), Pageable.ofSize(1), true));
+
+		mockMvc.perform(get("/api/readers")
+						.param("count", "false")
+						.param("size", "1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].id").value(1L))
+				.andExpect(jsonPath("$.last").value(false))
+				.andExpect(jsonPath("$.totalElements").doesNotExist());
+
+		verify(readerService, never()).getAll(any(Pageable.class));
+	}
+
 	@Test
 	public void getAll_ShouldReturnEmptyPage_WhenReadersDoNotExist() throws Exception {
 		when(readerService.getAll(any(Pageable.class))).thenReturn(Page.empty());
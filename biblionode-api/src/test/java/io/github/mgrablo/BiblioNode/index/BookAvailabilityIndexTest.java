@@ -0,0 +1,111 @@
+package io.github.mgrablo.BiblioNode.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import io.github.mgrablo.BiblioNode.event.BookAvailabilityChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookDeletedEvent;
+import io.github.mgrablo.BiblioNode.repository.BookAvailabilityView;
+import io.github.mgrablo.BiblioNode.repository.BookRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class BookAvailabilityIndexTest {
+	@Mock
+	private BookRepository bookRepository;
+
+	private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+	private BookAvailabilityIndex index;
+
+	@BeforeEach
+	void setup() {
+		when(bookRepository.streamAllAvailability()).thenReturn(Stream.of(
+				view(1L, true), view(2L, false), view(3L, true), view(5L, true)));
+
+		index = new BookAvailabilityIndex(bookRepository);
+		index.rebuild();
+	}
+
+	@Test
+	void rebuild_ShouldLoadAvailableBooks() {
+		assertTrue(index.isReady());
+		assertEquals(3, index.availableCount());
+		assertEquals(List.of(1L, 3L, 5L), index.availableIds(0, 10));
+	}
+
+	@Test
+	void availableIds_ShouldSkipOffsetAndStopAtLimit() {
+		assertEquals(List.of(3L), index.availableIds(1, 1));
+		assertTrue(index.availableIds(3, 10).isEmpty());
+	}
+
+	@Test
+	void retainAvailable_ShouldKeepCallerOrder() {
+		assertEquals(List.of(5L, 1L), index.retainAvailable(List.of(5L, 2L, 1L, 99L)));
+	}
+
+	@Test
+	void onAvailabilityChanged_ShouldFlipBit() {
+		when(bookRepository.findAvailableById(1L)).thenReturn(Optional.of(false));
+		when(bookRepository.findAvailableById(2L)).thenReturn(Optional.of(true));
+
+		index.onAvailabilityChanged(new BookAvailabilityChangedEvent(1L, false));
+		index.onAvailabilityChanged(new BookAvailabilityChangedEvent(2L, true));
+
+		assertEquals(List.of(2L, 3L, 5L), index.availableIds(0, 10));
+	}
+
+	@Test
+	void onAvailabilityChanged_ShouldKeepCommittedValue_WhenOlderEventArrivesLast() {
+		// Copy 1 is borrowed and returned by two transactions whose listeners run in reverse order.
+		when(bookRepository.findAvailableById(1L)).thenReturn(Optional.of(true));
+
+		index.onAvailabilityChanged(new BookAvailabilityChangedEvent(1L, true));
+		index.onAvailabilityChanged(new BookAvailabilityChangedEvent(1L, false));
+
+		assertEquals(List.of(1L, 3L, 5L), index.availableIds(0, 10));
+	}
+
+	@Test
+	void onAvailabilityChanged_ShouldClearBit_WhenBookWasDeleted() {
+		when(bookRepository.findAvailableById(3L)).thenReturn(Optional.empty());
+
+		index.onAvailabilityChanged(new BookAvailabilityChangedEvent(3L, true));
+
+		assertEquals(List.of(1L, 5L), index.availableIds(0, 10));
+	}
+
+	@Test
+	void onBookChanged_ShouldMarkNewBookAvailable_ButKeepExistingBookOnLoan() {
+		index.onBookChanged(new BookChangedEvent(7L, "New", 1L, "Author"));
+		index.onBookChanged(new BookChangedEvent(2L, "Renamed", 1L, "Author"));
+
+		assertEquals(List.of(1L, 3L, 5L, 7L), index.availableIds(0, 10));
+	}
+
+	@Test
+	void onBookDeleted_ShouldClearBit() {
+		index.onBookDeleted(new BookDeletedEvent(3L));
+
+		assertEquals(2, index.availableCount());
+		assertEquals(List.of(1L, 5L), index.availableIds(0, 10));
+	}
+
+	private BookAvailabilityView view(Long id, boolean available) {
+		return projectionFactory.createProjection(BookAvailabilityView.class, Map.of("id", id, "available", available));
+	}
+}
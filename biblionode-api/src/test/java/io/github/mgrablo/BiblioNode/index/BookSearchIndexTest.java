@@ -0,0 +1,109 @@
+package io.github.mgrablo.BiblioNode.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import io.github.mgrablo.BiblioNode.repository.AuthorRepository;
+import io.github.mgrablo.BiblioNode.repository.BookRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class BookSearchIndexTest {
+	@Mock
+	private BookRepository bookRepository;
+
+	@Mock
+	private AuthorRepository authorRepository;
+
+	private BookSearchIndex index;
+
+	@BeforeEach
+	void setup() {
+		when(bookRepository.streamAllTitles()).thenReturn(Stream.empty());
+		when(authorRepository.streamAllNames()).thenReturn(Stream.empty());
+
+		index = new BookSearchIndex(bookRepository, authorRepository);
+		index.rebuild();
+
+		index.index(1L, "The Way of Kings", 10L, "Brandon Sanderson");
+		index.index(2L, "Words of Radiance", 10L, "Brandon Sanderson");
+		index.index(3L, "Unsouled", 20L, "Will Wight");
+	}
+
+	@Test
+	void rebuild_ShouldMarkIndexReady() {
+		assertTrue(index.isReady());
+	}
+
+	@Test
+	void search_ShouldMatchTitleFragment_CaseInsensitive() {
+		assertEquals(List.of(1L), index.search("WAY OF", null, Sort.unsorted()));
+	}
+
+	@Test
+	void search_ShouldMatchShortFragments() {
+		assertEquals(List.of(1L, 2L), index.search("of", null, Sort.unsorted()));
+	}
+
+	@Test
+	void search_ShouldFilterByAuthorName() {
+		assertEquals(List.of(1L, 2L), index.search(null, "sanders", Sort.unsorted()));
+		assertEquals(List.of(2L), index.search("radi", "brandon", Sort.unsorted()));
+		assertTrue(index.search("unsouled", "sanderson", Sort.unsorted()).isEmpty());
+	}
+
+	@Test
+	void search_ShouldReturnAll_WhenFiltersAreBlank() {
+		assertEquals(List.of(1L, 2L, 3L), index.search("", null, Sort.unsorted()));
+	}
+
+	@Test
+	void search_ShouldApplyTitleSort() {
+		assertEquals(List.of(2L, 3L, 1L), index.search(null, null, Sort.by(Sort.Direction.DESC, "title")));
+	}
+
+	@Test
+	void countByAuthor_ShouldGroupGivenBooks() {
+		assertEquals(Map.of(10L, 2L, 20L, 1L), index.countByAuthor(List.of(1L, 2L, 3L, 99L)));
+		assertEquals(Map.of(10L, 1L), index.countByAuthor(index.search("radi", null, Sort.unsorted())));
+	}
+
+	@Test
+	void index_ShouldReplacePreviousTitle() {
+		index.index(1L, "The Final Empire", 10L, "Brandon Sanderson");
+
+		assertTrue(index.search("kings", null, Sort.unsorted()).isEmpty());
+		assertEquals(List.of(1L), index.search("empire", null, Sort.unsorted()));
+	}
+
+	@Test
+	void renameAuthor_ShouldUpdateAuthorMatches() {
+		index.renameAuthor(20L, "Wight, Will");
+
+		assertEquals(List.of(3L), index.search(null, "wight, w", Sort.unsorted()));
+		assertTrue(index.search(null, "will wight", Sort.unsorted()).isEmpty());
+	}
+
+	@Test
+	void remove_ShouldDropBookFromResults() {
+		index.remove(3L);
+
+		assertTrue(index.search(null, "wight", Sort.unsorted()).isEmpty());
+	}
+
+	@Test
+	void supports_ShouldRejectUnknownSortProperties() {
+		assertTrue(index.supports(Sort.by("title", "id")));
+		assertFalse(index.supports(Sort.by("createdAt")));
+	}
+}
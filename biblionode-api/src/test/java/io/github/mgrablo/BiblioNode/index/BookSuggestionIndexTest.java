@@ -0,0 +1,149 @@
+package io.github.mgrablo.BiblioNode.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import io.github.mgrablo.BiblioNode.dto.Suggestion;
+import io.github.mgrablo.BiblioNode.dto.Suggestion.Type;
+import io.github.mgrablo.BiblioNode.event.AuthorChangedEvent;
+import io.github.mgrablo.BiblioNode.event.AuthorDeletedEvent;
+import io.github.mgrablo.BiblioNode.event.BookChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookDeletedEvent;
+import io.github.mgrablo.BiblioNode.repository.AuthorRepository;
+import io.github.mgrablo.BiblioNode.repository.BookRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class BookSuggestionIndexTest {
+	@Mock
+	private BookRepository bookRepository;
+
+	@Mock
+	private AuthorRepository authorRepository;
+
+	private BookSuggestionIndex index;
+
+	@BeforeEach
+	void setup() {
+		when(bookRepository.streamAllTitles()).thenReturn(Stream.empty());
+		when(authorRepository.streamAllNames()).thenReturn(Stream.empty());
+
+		index = new BookSuggestionIndex(bookRepository, authorRepository);
+		index.rebuild();
+
+		index.onBookChanged(new BookChangedEvent(1L, "The Way of Kings", 10L, "Brandon Sanderson"));
+		index.onBookChanged(new BookChangedEvent(2L, "King Lear", 20L, "William Shakespeare"));
+		index.onBookChanged(new BookChangedEvent(3L, "Kingdom   Come", 30L, "Mark Waid"));
+	}
+
+	@Test
+	void suggest_ShouldCompleteAnyWordStart_CaseInsensitive() {
+		assertEquals(List.of(
+				new Suggestion("King Lear", Type.TITLE),
+				new Suggestion("Kingdom   Come", Type.TITLE),
+				new Suggestion("The Way of Kings", Type.TITLE)
+		), index.suggest("KING", 10));
+	}
+
+	@Test
+	void suggest_ShouldIncludeAuthorNames() {
+		assertEquals(List.of(new Suggestion("Brandon Sanderson", Type.AUTHOR)), index.suggest("sand", 10));
+		assertEquals(List.of(new Suggestion("William Shakespeare", Type.AUTHOR)), index.suggest("will", 10));
+	}
+
+	@Test
+	void suggest_ShouldStopAtLimit() {
+		assertEquals(2, index.suggest("k", 2).size());
+	}
+
+	@Test
+	void suggest_ShouldRankExactAndLeadingMatchesFirst_BeforeApplyingLimit() {
+		index.onBookChanged(new BookChangedEvent(4L, "A King", 20L, "William Shakespeare"));
+		index.onBookChanged(new BookChangedEvent(5L, "Kings", 20L, "William Shakespeare"));
+
+		assertEquals(List.of(
+				new Suggestion("Kings", Type.TITLE),
+				new Suggestion("King Lear", Type.TITLE),
+				new Suggestion("Kingdom   Come", Type.TITLE)
+		), index.suggest("king", 3));
+		assertEquals(List.of(
+				new Suggestion("Kings", Type.TITLE),
+				new Suggestion("The Way of Kings", Type.TITLE)
+		), index.suggest("kings", 10));
+	}
+
+	@Test
+	void suggest_ShouldListTextOnce_WhenSeveralOfItsWordsMatch() {
+		index.onBookChanged(new BookChangedEvent(4L, "Of Kings and Kingdoms", 20L, "William Shakespeare"));
+
+		assertEquals(List.of(
+				new Suggestion("King Lear", Type.TITLE),
+				new Suggestion("Kingdom   Come", Type.TITLE),
+				new Suggestion("The Way of Kings", Type.TITLE),
+				new Suggestion("Of Kings and Kingdoms", Type.TITLE)
+		), index.suggest("king", 10));
+		assertEquals(List.of(
+				new Suggestion("Of Kings and Kingdoms", Type.TITLE),
+				new Suggestion("The Way of Kings", Type.TITLE)
+		), index.suggest("of", 10));
+	}
+
+	@Test
+	void suggest_ShouldSplitWordsOnPunctuation() {
+		index.onBookChanged(new BookChangedEvent(4L, "Catch-22", 40L, "Joseph Heller"));
+		index.onAuthorChanged(new AuthorChangedEvent(50L, "Flannery O'Connor"));
+
+		assertEquals(List.of(new Suggestion("Catch-22", Type.TITLE)), index.suggest("22", 10));
+		assertEquals(List.of(new Suggestion("Flannery O'Connor", Type.AUTHOR)), index.suggest("connor", 10));
+	}
+
+	@Test
+	void suggest_ShouldReturnEmpty_WhenQueryIsBlank() {
+		assertTrue(index.suggest("  ", 10).isEmpty());
+		assertTrue(index.suggest(null, 10).isEmpty());
+	}
+
+	@Test
+	void onBookChanged_ShouldReplacePreviousTitle() {
+		index.onBookChanged(new BookChangedEvent(1L, "The Final Empire", 10L, "Brandon Sanderson"));
+
+		assertFalse(index.suggest("way", 10).contains(new Suggestion("The Way of Kings", Type.TITLE)));
+		assertEquals(List.of(new Suggestion("The Final Empire", Type.TITLE)), index.suggest("empire", 10));
+	}
+
+	@Test
+	void onBookDeleted_ShouldKeepTitleWhileAnotherBookSharesIt() {
+		index.onBookChanged(new BookChangedEvent(4L, "King Lear", 20L, "William Shakespeare"));
+
+		index.onBookDeleted(new BookDeletedEvent(2L));
+		assertEquals(List.of(new Suggestion("King Lear", Type.TITLE)), index.suggest("lear", 10));
+
+		index.onBookDeleted(new BookDeletedEvent(4L));
+		assertTrue(index.suggest("lear", 10).isEmpty());
+	}
+
+	@Test
+	void onAuthorChanged_ShouldRenameAndAddAuthors() {
+		index.onAuthorChanged(new AuthorChangedEvent(30L, "Alex Ross"));
+		index.onAuthorChanged(new AuthorChangedEvent(40L, "Ursula K. Le Guin"));
+
+		assertTrue(index.suggest("waid", 10).isEmpty());
+		assertEquals(List.of(new Suggestion("Alex Ross", Type.AUTHOR)), index.suggest("ross", 10));
+		assertEquals(List.of(new Suggestion("Ursula K. Le Guin", Type.AUTHOR)), index.suggest("le g", 10));
+	}
+
+	@Test
+	void onAuthorDeleted_ShouldRemoveAuthor() {
+		index.onAuthorDeleted(new AuthorDeletedEvent(10L));
+
+		assertTrue(index.suggest("brandon", 10).isEmpty());
+	}
+}
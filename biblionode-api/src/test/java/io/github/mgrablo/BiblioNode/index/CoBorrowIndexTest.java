@@ -0,0 +1,109 @@
+package io.github.mgrablo.BiblioNode.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import io.github.mgrablo.BiblioNode.config.RecommendationProperties;
+import io.github.mgrablo.BiblioNode.event.BookBorrowedEvent;
+import io.github.mgrablo.BiblioNode.event.BookDeletedEvent;
+import io.github.mgrablo.BiblioNode.repository.LoanRepository;
+import io.github.mgrablo.BiblioNode.repository.ReaderBookView;
+
+@ExtendWith(MockitoExtension.class)
+public class CoBorrowIndexTest {
+	@Mock
+	private LoanRepository loanRepository;
+
+	private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+	private CoBorrowIndex index;
+
+	@BeforeEach
+	void setup() {
+		// Books 1 and 2 are borrowed together by three readers, 1 and 3 by one.
+		when(loanRepository.streamReaderBooks()).thenReturn(Stream.of(
+				view(10L, 1L), view(10L, 2L), view(10L, 3L),
+				view(11L, 2L), view(11L, 1L),
+				view(12L, 1L), view(12L, 1L), view(12L, 2L),
+				view(13L, 4L)));
+
+		index = new CoBorrowIndex(loanRepository, new RecommendationProperties(2, 5));
+		index.rebuild();
+	}
+
+	@Test
+	void rebuild_ShouldRankNeighboursByCoBorrowCount() {
+		assertTrue(index.isReady());
+		assertEquals(List.of(2L, 3L), index.related(1L, 10));
+		assertEquals(List.of(1L, 3L), index.related(2L, 10));
+		assertEquals(List.of(1L, 2L), index.related(3L, 10));
+	}
+
+	@Test
+	void related_ShouldBeEmpty_ForBooksNeverBorrowedTogether() {
+		assertTrue(index.related(4L, 10).isEmpty());
+		assertTrue(index.related(99L, 10).isEmpty());
+	}
+
+	@Test
+	void related_ShouldStopAtLimit() {
+		assertEquals(List.of(2L), index.related(1L, 1));
+	}
+
+	@Test
+	void onBookBorrowed_ShouldPairBookWithReaderHistory() {
+		when(loanRepository.findBookIdsBorrowedBefore(13L, 50L, Limit.of(5))).thenReturn(List.of(4L));
+
+		index.onBookBorrowed(new BookBorrowedEvent(50L, 3L, 13L));
+
+		assertEquals(List.of(3L), index.related(4L, 10));
+		assertEquals(List.of(1L, 2L), index.related(3L, 10));
+	}
+
+	@Test
+	void onBookBorrowed_ShouldIgnoreRepeatBorrow() {
+		when(loanRepository.findBookIdsBorrowedBefore(10L, 50L, Limit.of(5))).thenReturn(List.of(3L, 2L, 1L));
+
+		index.onBookBorrowed(new BookBorrowedEvent(50L, 1L, 10L));
+
+		assertEquals(List.of(2L, 3L), index.related(1L, 10));
+		assertEquals(List.of(1L, 2L), index.related(3L, 10));
+	}
+
+	@Test
+	void onBookBorrowed_ShouldKeepFrequentNeighbours_WhenRowIsFull() {
+		// Rows hold four slots with maxRelated 2; book 1 already has neighbours 2 and 3.
+		for (long book = 20; book < 25; book++) {
+			when(loanRepository.findBookIdsBorrowedBefore(20L, book, Limit.of(5))).thenReturn(List.of(1L));
+			index.onBookBorrowed(new BookBorrowedEvent(book, book, 20L));
+		}
+
+		assertEquals(2L, index.related(1L, 1).getFirst());
+	}
+
+	@Test
+	void onBookDeleted_ShouldRemoveBookFromNeighbours() {
+		index.onBookDeleted(new BookDeletedEvent(2L));
+
+		assertTrue(index.related(2L, 10).isEmpty());
+		assertEquals(List.of(3L), index.related(1L, 10));
+		assertEquals(List.of(1L), index.related(3L, 10));
+	}
+
+	private ReaderBookView view(Long readerId, Long bookId) {
+		return projectionFactory.createProjection(ReaderBookView.class, Map.of("readerId", readerId, "bookId", bookId));
+	}
+}
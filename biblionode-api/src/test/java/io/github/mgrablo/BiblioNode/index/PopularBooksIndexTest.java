@@ -0,0 +1,97 @@
+package io.github.mgrablo.BiblioNode.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import io.github.mgrablo.BiblioNode.config.PopularityProperties;
+import io.github.mgrablo.BiblioNode.event.BookBorrowedEvent;
+import io.github.mgrablo.BiblioNode.event.BookDeletedEvent;
+import io.github.mgrablo.BiblioNode.index.PopularBooksIndex.Ranking;
+import io.github.mgrablo.BiblioNode.repository.LoanDateView;
+import io.github.mgrablo.BiblioNode.repository.LoanRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class PopularBooksIndexTest {
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 10, 12, 0);
+
+	@Mock
+	private LoanRepository loanRepository;
+
+	private final Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+	private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+	private PopularBooksIndex index;
+
+	@BeforeEach
+	void setup() {
+		when(loanRepository.streamLoanDatesSince(NOW.toLocalDate().minusDays(29).atStartOfDay())).thenReturn(Stream.of(
+				view(1L, NOW), view(1L, NOW.minusDays(1)), view(2L, NOW.minusDays(2)),
+				view(2L, NOW.minusDays(10)), view(2L, NOW.minusDays(12)), view(2L, NOW.minusDays(20)),
+				view(3L, NOW.minusDays(6))));
+
+		index = new PopularBooksIndex(loanRepository, clock, new PopularityProperties(Duration.ofDays(30), 2, 256, 4));
+		index.rebuild();
+	}
+
+	@Test
+	void rebuild_ShouldCountLoansPerWindow() {
+		assertTrue(index.isReady());
+		assertEquals(List.of(new Ranking(1L, 2), new Ranking(2L, 1)), index.top(7, 10));
+		assertEquals(List.of(new Ranking(2L, 4), new Ranking(1L, 2)), index.top(30, 10));
+	}
+
+	@Test
+	void top_ShouldOnlyIncludeToday_ForOneDayWindow() {
+		assertEquals(List.of(new Ranking(1L, 1)), index.top(1, 10));
+	}
+
+	@Test
+	void top_ShouldStopAtLimit() {
+		assertEquals(List.of(new Ranking(1L, 2)), index.top(7, 1));
+	}
+
+	@Test
+	void onBookBorrowed_ShouldCountLoanToday() {
+		index.onBookBorrowed(new BookBorrowedEvent(100L, 3L, 1L));
+		index.onBookBorrowed(new BookBorrowedEvent(101L, 3L, 2L));
+
+		assertEquals(List.of(new Ranking(3L, 3), new Ranking(1L, 2)), index.top(7, 10));
+	}
+
+	@Test
+	void onBookDeleted_ShouldDropBookFromRanking() {
+		index.onBookDeleted(new BookDeletedEvent(1L));
+
+		assertEquals(List.of(new Ranking(2L, 1), new Ranking(3L, 1)), index.top(7, 10));
+	}
+
+	@Test
+	void rebuild_ShouldIgnoreLoansOlderThanMaxWindow() {
+		when(loanRepository.streamLoanDatesSince(NOW.toLocalDate().minusDays(29).atStartOfDay())).thenReturn(Stream.of(
+				view(5L, NOW.minusDays(30)), view(6L, NOW)));
+
+		index.rebuild();
+
+		assertEquals(List.of(new Ranking(6L, 1)), index.top(30, 10));
+	}
+
+	private LoanDateView view(Long bookId, LocalDateTime loanDate) {
+		return projectionFactory.createProjection(LoanDateView.class, Map.of("bookId", bookId, "loanDate", loanDate));
+	}
+}
@@ -4,10 +4,15 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.util.Map;
 
 import io.github.mgrablo.BiblioNode.dto.BookResponse;
+import io.github.mgrablo.BiblioNode.dto.BookSummary;
 import io.github.mgrablo.BiblioNode.model.Author;
 import io.github.mgrablo.BiblioNode.model.Book;
+import io.github.mgrablo.BiblioNode.repository.BookSummaryView;
 
 public class BookMapperTest {
 	private final BookMapper mapper = Mappers.getMapper(BookMapper.class);
@@ -15,13 +20,15 @@ public class BookMapperTest {
 	@Test
 	void shouldMapBookToBookResponse() {
 		Author author = new Author(10L, "AAA", "Bio", null);
-		Book book = new Book(1L, "BBB", "111", author, true, "url", "desc");
+		Book book = new Book(1L, "BBB", "111", author, true, 1, 1, "url", "desc", null);
 
 		BookResponse response = mapper.toResponse(book);
 
 		assertEquals(10L, response.authorId());
 		assertEquals("AAA", response.authorName());
 		assertTrue(response.available());
+		assertEquals(1, response.availableCopies());
+		assertEquals(1, response.totalCopies());
 		assertEquals(1L, response.id());
 		assertEquals("BBB", response.title());
 		assertEquals("111", response.isbn());
@@ -32,7 +39,7 @@ public class BookMapperTest {
 	@Test
 	void shouldMapBookToBookResponseCoverAndDescIsNull() {
 		Author author = new Author(10L, "AAA", "Bio", null);
-		Book book = new Book(1L, "BBB", "111", author, true, null, null);
+		Book book = new Book(1L, "BBB", "111", author, true, 1, 1, null, null, null);
 
 		BookResponse response = mapper.toResponse(book);
 
@@ -45,4 +52,21 @@ public class BookMapperTest {
 		assertNull(response.coverUrl());
 		assertNull(response.description());
 	}
+
+	@Test
+	void shouldMapSummaryViewToBookSummary() {
+		BookSummaryView view = new SpelAwareProxyProjectionFactory().createProjection(BookSummaryView.class, Map.of(
+				"id", 1L,
+				"title", "BBB",
+				"isbn", "111",
+				"authorName", "AAA",
+				"authorId", 10L,
+				"available", false,
+				"coverUrl", "url"
+		));
+
+		BookSummary summary = mapper.toSummary(view);
+
+		assertEquals(new BookSummary(1L, "BBB", "111", "AAA", 10L, false, "url"), summary);
+	}
 }
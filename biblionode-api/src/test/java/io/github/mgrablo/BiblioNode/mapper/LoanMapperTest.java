@@ -16,12 +16,12 @@ public class LoanMapperTest {
 	public void shouldMapLoanToLoanResponse() {
 		LocalDateTime testDate = LocalDateTime.of(2024, 1, 1, 12, 0);
 		Author author = new Author(1L, "Test Author", "Bio", null);
-		Book book = new Book(1L, "Test Book", "111", author, true, null, null);
+		Book book = new Book(1L, "Test Book", "111", author, true, 1, 1, null, null, null);
 		User user = new User();
 		user.setId(1L);
 		user.setEmail("test@email.com");
-		Reader reader = new Reader(1L, "Test Reader", user, null);
-		Loan loan = new Loan(1L, book, reader, testDate, null, null);
+		Reader reader = new Reader(1L, "Test Reader", user, null, 0);
+		Loan loan = new Loan(1L, book, reader, testDate, null, null, LoanStatus.ACTIVE);
 
 		var response = mapper.toResponse(loan);
 
@@ -0,0 +1,27 @@
+package io.github.mgrablo.BiblioNode.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class IsbnTest {
+	@Test
+	void toIsbn13_ShouldStripHyphensAndSpaces() {
+		assertEquals("9780306406157", Isbn.toIsbn13("978-0-306-40615-7"));
+		assertEquals("9780306406157", Isbn.toIsbn13(" 978 0306 40615 7 "));
+	}
+
+	@Test
+	void toIsbn13_ShouldConvertIsbn10AndRecomputeCheckDigit() {
+		assertEquals("9780306406157", Isbn.toIsbn13("0-306-40615-2"));
+		assertEquals("9780803974029", Isbn.toIsbn13("080397402x"));
+	}
+
+	@Test
+	void toIsbn13_ShouldReturnNull_WhenNotShapedLikeIsbn() {
+		assertNull(Isbn.toIsbn13(null));
+		assertNull(Isbn.toIsbn13("111"));
+		assertNull(Isbn.toIsbn13("978-0-306-4061X-7"));
+		assertNull(Isbn.toIsbn13("ISBN 0306406152"));
+	}
+}
@@ -0,0 +1,115 @@
+package io.github.mgrablo.BiblioNode.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.mgrablo.BiblioNode.config.JpaConfig;
+import io.github.mgrablo.BiblioNode.model.Author;
+import io.github.mgrablo.BiblioNode.model.Book;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Insert benchmark for sequence ids: with pooled-lo allocation and {@code hibernate.jdbc.batch_size}
+ * a bulk save costs one statement per batch plus one sequence call per 50 ids,
+ * where identity ids forced one round-trip per row.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(JpaConfig.class)
+@Slf4j
+public class BookInsertBatchingTest {
+	private static final int BOOKS = 500;
+	private static final int BATCH_SIZE = 50;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void saveAll_ShouldInsertInJdbcBatches() {
+		// GIVEN
+		Author author = entityManager.persistFlushFind(newAuthor());
+		List<Book> books = newBooks(author, "batched");
+		Statistics statistics = statistics();
+
+		// WHEN
+		long started = System.nanoTime();
+		bookRepository.saveAll(books);
+		bookRepository.flush();
+		long elapsed = System.nanoTime() - started;
+
+		// THEN
+		long statements = statistics.getPrepareStatementCount();
+		log.info("Batched insert of {} books: {} statements, {} books/s", BOOKS, statements, throughput(elapsed));
+		assertEquals(BOOKS, statistics.getEntityInsertCount());
+		assertTrue(statements <= 3L * BOOKS / BATCH_SIZE, "Expected batched inserts but prepared " + statements + " statements");
+	}
+
+	@Test
+	void saveAll_ShouldOutperformRowByRowFlushes() {
+		// GIVEN
+		Author author = entityManager.persistFlushFind(newAuthor());
+		List<Book> rowByRow = newBooks(author, "row");
+		List<Book> batched = newBooks(author, "batch");
+		Statistics statistics = statistics();
+
+		// WHEN
+		long started = System.nanoTime();
+		for (Book book : rowByRow) {
+			bookRepository.saveAndFlush(book);
+		}
+		long rowByRowElapsed = System.nanoTime() - started;
+		long rowByRowStatements = statistics.getPrepareStatementCount();
+
+		statistics.clear();
+		started = System.nanoTime();
+		bookRepository.saveAll(batched);
+		bookRepository.flush();
+		long batchedElapsed = System.nanoTime() - started;
+		long batchedStatements = statistics.getPrepareStatementCount();
+
+		// THEN
+		log.info("Row-by-row: {} statements, {} books/s; batched: {} statements, {} books/s",
+				rowByRowStatements, throughput(rowByRowElapsed), batchedStatements, throughput(batchedElapsed));
+		assertTrue(rowByRowStatements >= BOOKS);
+		assertTrue(batchedStatements * 10 < rowByRowStatements);
+	}
+
+	private Statistics statistics() {
+		Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+				.unwrap(SessionFactory.class)
+				.getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+
+	private static Author newAuthor() {
+		Author author = new Author();
+		author.setName("Benchmark Author");
+		return author;
+	}
+
+	private static List<Book> newBooks(Author author, String prefix) {
+		List<Book> books = new ArrayList<>(BOOKS);
+		for (int i = 0; i < BOOKS; i++) {
+			books.add(new Book(null, prefix + " " + i, "isbn-" + i, author));
+		}
+		return books;
+	}
+
+	private static long throughput(long elapsedNanos) {
+		return BOOKS * 1_000_000_000L / Math.max(elapsedNanos, 1);
+	}
+}
@@ -2,14 +2,19 @@ package io.github.mgrablo.BiblioNode.repository;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 import io.github.mgrablo.BiblioNode.config.JpaConfig;
 import io.github.mgrablo.BiblioNode.model.Author;
@@ -34,10 +39,11 @@ public class BookRepositoryTest {
 		Pageable pageable = Pageable.ofSize(10);
 
 		// WHEN
-		Page<Book> result = bookRepository.searchByTitleAndAuthor("ok 1", "thor", pageable);
+		Slice<BookSummaryView> result = bookRepository.searchByTitleAndAuthor("ok 1", "thor", pageable);
 
 		// THEN
-		assertEquals(1, result.getTotalElements());
+		assertEquals(1, result.getNumberOfElements());
+		assertFalse(result.hasNext());
 		assertEquals("Book 1", result.getContent().getFirst().getTitle());
 	}
 
@@ -51,13 +57,110 @@ public class BookRepositoryTest {
 		Pageable pageable = Pageable.ofSize(10);
 
 		// WHEN
-		Page<Book> result = bookRepository.searchByTitleAndAuthor(null, null, pageable);
+		Slice<BookSummaryView> result = bookRepository.searchByTitleAndAuthor(null, null, pageable);
 
 		// THEN
-		assertEquals(2, result.getTotalElements());
+		assertEquals(2, result.getNumberOfElements());
 		assertEquals("Book 1", result.getContent().getFirst().getTitle());
 	}
 
+	@Test
+	void countByTitleAndAuthor_ShouldMatchSearchFilters() {
+		// GIVEN
+		Author author = persistAuthor("Author1");
+		persistBook("Book 1", "1", author, true);
+		persistBook("Book 2", "2", author, true);
+
+		// WHEN & THEN
+		assertEquals(1, bookRepository.countByTitleAndAuthor("ok 1", "thor"));
+		assertEquals(2, bookRepository.countByTitleAndAuthor(null, ""));
+	}
+
+	@Test
+	void searchByTitleAndAuthor_ShouldReportNextSlice_WhenMoreResultsExist() {
+		// GIVEN
+		Author author = persistAuthor("Author1");
+		persistBook("Book 1", "1", author, true);
+		persistBook("Book 2", "2", author, true);
+
+		// WHEN
+		Slice<BookSummaryView> result = bookRepository.searchByTitleAndAuthor("Book", null, Pageable.ofSize(1));
+
+		// THEN
+		assertEquals(1, result.getNumberOfElements());
+		assertTrue(result.hasNext());
+	}
+
+	@Test
+	void findAllSummaries_ShouldSelectAuthorWithoutLoadingBooks() {
+		// GIVEN
+		Author author = persistAuthor("Author1");
+		Book book = persistBook("Book 1", "1", author, false);
+		book.setCoverUrl("url");
+		entityManager.flush();
+		entityManager.clear();
+
+		// WHEN
+		Slice<BookSummaryView> result = bookRepository.findAllSummaries(Pageable.ofSize(10));
+
+		// THEN
+		BookSummaryView summary = result.getContent().getFirst();
+		assertEquals(book.getId(), summary.getId());
+		assertEquals("Book 1", summary.getTitle());
+		assertEquals("1", summary.getIsbn());
+		assertEquals("Author1", summary.getAuthorName());
+		assertEquals(author.getId(), summary.getAuthorId());
+		assertFalse(summary.isAvailable());
+		assertEquals("url", summary.getCoverUrl());
+	}
+
+	@Test
+	void findSummariesAfter_ShouldReturnBooksWithGreaterIdsInOrder() {
+		// GIVEN
+		Author author = persistAuthor("Author1");
+		Book first = persistBook("Book 1", "1", author, true);
+		Book second = persistBook("Book 2", "2", author, true);
+		Book third = persistBook("Book 3", "3", author, true);
+
+		// WHEN
+		List<BookSummaryView> result = bookRepository.findSummariesAfter(first.getId(), Limit.of(5));
+
+		// THEN
+		assertEquals(List.of(second.getId(), third.getId()), result.stream().map(BookSummaryView::getId).toList());
+	}
+
+	@Test
+	void findAvailableSummariesAfter_ShouldSkipUnavailableBooks() {
+		// GIVEN
+		Author author = persistAuthor("Author1");
+		Book first = persistBook("Book 1", "1", author, true);
+		persistBook("Book 2", "2", author, false);
+		Book third = persistBook("Book 3", "3", author, true);
+
+		// WHEN
+		List<BookSummaryView> result = bookRepository.findAvailableSummariesAfter(0L, Limit.of(5));
+
+		// THEN
+		assertEquals(List.of(first.getId(), third.getId()), result.stream().map(BookSummaryView::getId).toList());
+	}
+
+	@Test
+	void findDetailsByIsbn13_ShouldMatchNormalizedIsbn_WhenStoredWithHyphens() {
+		// GIVEN
+		Author author = persistAuthor("Author1");
+		Book book = persistBook("Book 1", "0-306-40615-2", author, true);
+		persistBook("Book 2", "111", author, true);
+		entityManager.flush();
+
+		// WHEN
+		List<BookDetailView> result = bookRepository.findDetailsByIsbn13("9780306406157", Limit.of(1));
+
+		// THEN
+		assertEquals(1, result.size());
+		assertEquals(book.getId(), result.getFirst().getId());
+		assertEquals("Author1", result.getFirst().getAuthorName());
+	}
+
 	@Test
 	void shouldSaveBookWithAvailabilityStatus() {
 		// GIVEN
@@ -72,6 +175,86 @@ public class BookRepositoryTest {
 		assertFalse(savedBook.isAvailable());
 	}
 
+	@Test
+	void claimCopy_ShouldTakeFreeCopiesUntilNoneLeft() {
+		// GIVEN
+		Book book = persistBookWithCopies("Book 1", persistAuthor("Author1"), 2);
+		LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+		// WHEN
+		int first = bookRepository.claimCopy(book.getId(), now);
+		int second = bookRepository.claimCopy(book.getId(), now);
+		int third = bookRepository.claimCopy(book.getId(), now);
+		entityManager.clear();
+
+		// THEN
+		assertEquals(List.of(1, 1, 0), List.of(first, second, third));
+		BookDetailView detail = bookRepository.findDetailById(book.getId()).orElseThrow();
+		assertEquals(0, detail.getAvailableCopies());
+		assertEquals(2, detail.getTotalCopies());
+		assertFalse(detail.isAvailable());
+		assertEquals(now, detail.getModifiedAt());
+	}
+
+	@Test
+	void releaseCopy_ShouldNotExceedTotalCopies() {
+		// GIVEN
+		Book book = persistBookWithCopies("Book 1", persistAuthor("Author1"), 1);
+		LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+		bookRepository.claimCopy(book.getId(), now);
+
+		// WHEN
+		int released = bookRepository.releaseCopy(book.getId(), now);
+		int releasedAgain = bookRepository.releaseCopy(book.getId(), now);
+		entityManager.clear();
+
+		// THEN
+		assertEquals(1, released);
+		assertEquals(0, releasedAgain);
+		BookDetailView detail = bookRepository.findDetailById(book.getId()).orElseThrow();
+		assertEquals(1, detail.getAvailableCopies());
+		assertTrue(detail.isAvailable());
+	}
+
+	@Test
+	void resizeCopies_ShouldKeepCopiesOnLoan() {
+		// GIVEN
+		Book book = persistBookWithCopies("Book 1", persistAuthor("Author1"), 3);
+		LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+		bookRepository.claimCopy(book.getId(), now);
+		bookRepository.claimCopy(book.getId(), now);
+
+		// WHEN
+		int refused = bookRepository.resizeCopies(book.getId(), 1, now);
+		int shrunk = bookRepository.resizeCopies(book.getId(), 2, now);
+		entityManager.clear();
+
+		// THEN
+		assertEquals(0, refused);
+		assertEquals(1, shrunk);
+		BookDetailView detail = bookRepository.findDetailById(book.getId()).orElseThrow();
+		assertEquals(0, detail.getAvailableCopies());
+		assertEquals(2, detail.getTotalCopies());
+		assertFalse(detail.isAvailable());
+	}
+
+	@Test
+	void save_ShouldNotOverwriteCopyCounters_WhenEntityIsStale() {
+		// GIVEN
+		Book book = persistBookWithCopies("Book 1", persistAuthor("Author1"), 2);
+		bookRepository.claimCopy(book.getId(), LocalDateTime.of(2026, 1, 1, 12, 0));
+
+		// WHEN
+		book.setTitle("Renamed");
+		entityManager.flush();
+		entityManager.clear();
+
+		// THEN
+		BookDetailView detail = bookRepository.findDetailById(book.getId()).orElseThrow();
+		assertEquals("Renamed", detail.getTitle());
+		assertEquals(1, detail.getAvailableCopies());
+	}
+
 	private Author persistAuthor(String name) {
 		Author author = new Author();
 		author.setName(name);
@@ -85,6 +268,13 @@ public class BookRepositoryTest {
 		book.setIsbn(isbn);
 		book.setAuthor(author);
 		book.setAvailable(available);
+		book.setAvailableCopies(available ? 1 : 0);
 		return entityManager.persist(book);
 	}
+
+	private Book persistBookWithCopies(String title, Author author, int copies) {
+		Book book = new Book(null, title, title, author);
+		book.stockCopies(copies);
+		return entityManager.persistAndFlush(book);
+	}
 }
@@ -8,8 +8,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -38,7 +38,7 @@ public class LoanRepositoryTest {
 	}
 
 	@Test
-	public void shouldFindOverdueLoans() {
+	public void markOverdue_ShouldOnlyTransitionActiveLoansPastDueDate() {
 		// GIVEN
 		Author author = persistAuthor("Author1");
 		Book book = persistBook("Book 1", "1", author);
@@ -55,11 +55,40 @@ public class LoanRepositoryTest {
 		entityManager.flush();
 
 		// WHEN
-		Page<Loan> overdueLoans = loanRepository.findAllByReturnDateIsNullAndDueDateBefore(now, Pageable.ofSize(10));
+		int first = loanRepository.markOverdue(now);
+		int second = loanRepository.markOverdue(now.plusHours(1));
+		entityManager.clear();
+		Slice<Loan> overdueLoans = loanRepository.findAllByStatus(LoanStatus.OVERDUE, Pageable.ofSize(10));
 
 		// THEN
-		assertEquals(1, overdueLoans.getTotalElements());
+		assertEquals(1, first);
+		assertEquals(0, second);
+		assertEquals(1, overdueLoans.getNumberOfElements());
+		assertEquals(1, loanRepository.countByStatus(LoanStatus.OVERDUE));
 		assertEquals(overdueLoan.getId(), overdueLoans.getContent().getFirst().getId());
+		assertEquals(LoanStatus.ACTIVE, loanRepository.findById(activeLoan.getId()).orElseThrow().getStatus());
+		assertEquals(LoanStatus.RETURNED, loanRepository.findById(returnedLoan.getId()).orElseThrow().getStatus());
+	}
+
+	@Test
+	public void markOverdue_ShouldPickUpLoansFallingDueAfterPreviousSweep() {
+		// GIVEN
+		Author author = persistAuthor("Author1");
+		Book book = persistBook("Book 1", "1", author);
+		Reader reader = persistReader("Reader1", "reader@email.com");
+		LocalDateTime now = LocalDateTime.now(fixedClock);
+		persistLoan(book, reader, now.minusDays(14), now.minusMinutes(5), null);
+		persistLoan(book, reader, now.minusDays(14), now.plusMinutes(5), null);
+		entityManager.flush();
+
+		// WHEN
+		int first = loanRepository.markOverdue(now);
+		int second = loanRepository.markOverdue(now.plusMinutes(10));
+
+		// THEN
+		assertEquals(1, first);
+		assertEquals(1, second);
+		assertEquals(2, loanRepository.countByStatus(LoanStatus.OVERDUE));
 	}
 
 	@Test
@@ -81,24 +110,47 @@ public class LoanRepositoryTest {
 		entityManager.flush();
 
 		// WHEN
-		Page<Loan> activeLoansReader1 = loanRepository.findAllByReturnDateIsNullAndReaderId(reader1.getId(), Pageable.ofSize(10));
-		Page<Loan> activeLoansReader2 = loanRepository.findAllByReturnDateIsNullAndReaderId(reader2.getId(), Pageable.ofSize(10));
+		Slice<Loan> activeLoansReader1 = loanRepository.findAllByReturnDateIsNullAndReaderId(reader1.getId(), Pageable.ofSize(10));
+		Slice<Loan> activeLoansReader2 = loanRepository.findAllByReturnDateIsNullAndReaderId(reader2.getId(), Pageable.ofSize(10));
 
 		// THEN
-		assertEquals(1, activeLoansReader1.getTotalElements());
+		assertEquals(1, activeLoansReader1.getNumberOfElements());
 		assertEquals(activeLoan1.getId(), activeLoansReader1.getContent().getFirst().getId());
 
-		assertEquals(1, activeLoansReader2.getTotalElements());
+		assertEquals(1, activeLoansReader2.getNumberOfElements());
 		assertEquals(activeLoan2.getId(), activeLoansReader2.getContent().getFirst().getId());
 	}
 
+	@Test
+	public void closeLoan_ShouldCloseOpenLoanOnlyOnce() {
+		// GIVEN
+		Author author = persistAuthor("Author1");
+		Book book = persistBook("Book 1", "1", author);
+		Reader reader = persistReader("Reader1", "reader@email.com");
+		LocalDateTime now = LocalDateTime.now(fixedClock);
+		Loan loan = persistLoan(book, reader, now.minusDays(3), now.plusDays(11), null);
+		entityManager.flush();
+
+		// WHEN
+		int first = loanRepository.closeLoan(loan.getId(), now);
+		int second = loanRepository.closeLoan(loan.getId(), now.plusHours(1));
+		entityManager.clear();
+
+		// THEN
+		assertEquals(1, first);
+		assertEquals(0, second);
+		assertEquals(now, loanRepository.findById(loan.getId()).orElseThrow().getReturnDate());
+		assertEquals(LoanStatus.RETURNED, loanRepository.findById(loan.getId()).orElseThrow().getStatus());
+		assertEquals(0, loanRepository.closeLoan(-1L, now));
+	}
+
 	private Author persistAuthor(String name) {
 		Author author = new Author(null, name, "Bio", null);
 		return entityManager.persist(author);
 	}
 
 	private Book persistBook(String title, String isbn, Author author) {
-		Book book = new Book(null, title, isbn, author, true, null, null);
+		Book book = new Book(null, title, isbn, author, true, 1, 1, null, null, null);
 		return entityManager.persist(book);
 	}
 
@@ -121,6 +173,7 @@ public class LoanRepositoryTest {
 		loan.setLoanDate(loanDate);
 		loan.setDueDate(dueDate);
 		loan.setReturnDate(returnDate);
+		loan.setStatus(returnDate == null ? LoanStatus.ACTIVE : LoanStatus.RETURNED);
 		return entityManager.persist(loan);
 	}
 }
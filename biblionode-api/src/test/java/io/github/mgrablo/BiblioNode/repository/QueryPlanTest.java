@@ -0,0 +1,131 @@
+package io.github.mgrablo.BiblioNode.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.github.mgrablo.BiblioNode.config.JpaConfig;
+import io.github.mgrablo.BiblioNode.model.LoanStatus;
+
+/**
+ * Runs {@code EXPLAIN} on the SQL behind the hot loan and book lookups and fails when the plan
+ * reads a whole table instead of going through one of the indexes from the changelog.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "io.github.mgrablo.BiblioNode.repository.QueryPlanTest$SqlRecorder")
+@Import(JpaConfig.class)
+public class QueryPlanTest {
+	@Autowired
+	private LoanRepository loanRepository;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	void findAllByReturnDateIsNull_ShouldUseIndex() {
+		assertNoTableScan(() -> loanRepository.findAllByReturnDateIsNull(Pageable.ofSize(10)), "loans");
+	}
+
+	@Test
+	void findAllByStatus_ShouldUseIndex() {
+		assertNoTableScan(() -> loanRepository.findAllByStatus(LoanStatus.OVERDUE, Pageable.ofSize(10)), "loans");
+	}
+
+	@Test
+	void countByStatus_ShouldUseIndex() {
+		assertNoTableScan(() -> loanRepository.countByStatus(LoanStatus.OVERDUE), "loans");
+	}
+
+	@Test
+	void markOverdue_ShouldUseIndex() {
+		assertNoTableScan(() -> loanRepository.markOverdue(LocalDateTime.now()), "loans");
+	}
+
+	@Test
+	void countByReaderIdAndReturnDateIsNull_ShouldUseIndex() {
+		assertNoTableScan(() -> loanRepository.countByReaderIdAndReturnDateIsNull(1L), "loans");
+	}
+
+	@Test
+	void findByReaderId_ShouldUseIndex() {
+		assertNoTableScan(() -> loanRepository.findByReaderId(1L, Pageable.ofSize(10)), "loans");
+	}
+
+	@Test
+	void findByBookId_ShouldUseIndex() {
+		assertNoTableScan(() -> loanRepository.findByBookId(1L, Pageable.ofSize(10)), "loans");
+	}
+
+	@Test
+	void countByBookId_ShouldUseIndex() {
+		assertNoTableScan(() -> loanRepository.countByBookId(1L), "loans");
+	}
+
+	@Test
+	void existsByAuthorId_ShouldUseIndex() {
+		assertNoTableScan(() -> bookRepository.existsByAuthorId(1L), "books");
+	}
+
+	private void assertNoTableScan(Runnable query, String... tables) {
+		SqlRecorder.STATEMENTS.clear();
+		query.run();
+		List<String> statements = List.copyOf(SqlRecorder.STATEMENTS);
+		assertFalse(statements.isEmpty(), "Expected the query to reach the database");
+
+		for (String sql : statements) {
+			String plan = explain(sql);
+			for (String table : tables) {
+				String scan = "PUBLIC." + table.toUpperCase(Locale.ROOT) + ".tableScan";
+				assertFalse(plan.contains(scan), () -> "Unexpected scan of " + table + " in plan:\n" + plan);
+			}
+		}
+	}
+
+	private String explain(String sql) {
+		return entityManager.getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+				int parameters = statement.getParameterMetaData().getParameterCount();
+				for (int i = 1; i <= parameters; i++) {
+					statement.setObject(i, null);
+				}
+				try (ResultSet plan = statement.executeQuery()) {
+					assertTrue(plan.next());
+					return plan.getString(1);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Captures the queries and updates Hibernate prepares, so the test can explain exactly what a repository method runs.
+	 */
+	public static class SqlRecorder implements StatementInspector {
+		static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			if (sql.regionMatches(true, 0, "select", 0, 6) || sql.regionMatches(true, 0, "update", 0, 6)) {
+				STATEMENTS.add(sql);
+			}
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package io.github.mgrablo.BiblioNode.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import io.github.mgrablo.BiblioNode.config.JpaConfig;
+import io.github.mgrablo.BiblioNode.model.Reader;
+import io.github.mgrablo.BiblioNode.model.User;
+
+@DataJpaTest
+@Import(JpaConfig.class)
+public class ReaderRepositoryTest {
+	@Autowired
+	private ReaderRepository readerRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Test
+	public void claimLoanSlot_ShouldStopAtLimit() {
+		// GIVEN
+		Reader reader = persistReader("Reader1", "reader@email.com");
+
+		// WHEN
+		int first = readerRepository.claimLoanSlot(reader.getId(), 2);
+		int second = readerRepository.claimLoanSlot(reader.getId(), 2);
+		int third = readerRepository.claimLoanSlot(reader.getId(), 2);
+		entityManager.clear();
+
+		// THEN
+		assertEquals(1, first);
+		assertEquals(1, second);
+		assertEquals(0, third);
+		assertEquals(2, readerRepository.findById(reader.getId()).orElseThrow().getActiveLoanCount());
+	}
+
+	@Test
+	public void releaseLoanSlot_ShouldNotGoBelowZero() {
+		// GIVEN
+		Reader reader = persistReader("Reader1", "reader@email.com");
+		readerRepository.claimLoanSlot(reader.getId(), 2);
+
+		// WHEN
+		int first = readerRepository.releaseLoanSlot(reader.getId());
+		int second = readerRepository.releaseLoanSlot(reader.getId());
+		entityManager.clear();
+
+		// THEN
+		assertEquals(1, first);
+		assertEquals(0, second);
+		assertEquals(0, readerRepository.findById(reader.getId()).orElseThrow().getActiveLoanCount());
+	}
+
+	private Reader persistReader(String name, String email) {
+		User user = new User();
+		user.setEmail(email);
+		user.setPassword("password");
+		entityManager.persist(user);
+
+		Reader reader = new Reader();
+		reader.setFullName(name);
+		reader.setUser(user);
+		Reader persisted = entityManager.persist(reader);
+		entityManager.flush();
+		return persisted;
+	}
+}
@@ -5,25 +5,44 @@ import static org.mockito.Mockito.*;
 
 import static java.util.Collections.emptyList;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import io.github.mgrablo.BiblioNode.cache.CatalogVersion;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache.CountRegion;
+import io.github.mgrablo.BiblioNode.config.SearchProperties;
+import io.github.mgrablo.BiblioNode.config.SearchProperties.SearchMode;
 import io.github.mgrablo.BiblioNode.dto.AuthorRequest;
 import io.github.mgrablo.BiblioNode.dto.AuthorResponse;
+import io.github.mgrablo.BiblioNode.dto.BatchResult;
+import io.github.mgrablo.BiblioNode.dto.ResourceVersion;
+import io.github.mgrablo.BiblioNode.event.AuthorChangedEvent;
+import io.github.mgrablo.BiblioNode.event.AuthorDeletedEvent;
 import io.github.mgrablo.BiblioNode.exception.DataIntegrityException;
 import io.github.mgrablo.BiblioNode.exception.ResourceNotFoundException;
 import io.github.mgrablo.BiblioNode.mapper.AuthorMapper;
 import io.github.mgrablo.BiblioNode.model.Author;
 import io.github.mgrablo.BiblioNode.repository.AuthorRepository;
+import io.github.mgrablo.BiblioNode.repository.AuthorVersionView;
 import io.github.mgrablo.BiblioNode.repository.BookRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,9 +56,23 @@ public class AuthorServiceImplTest {
 	@Mock
 	private AuthorMapper mapper;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private TotalCountCache totalCounts;
+
+	@Mock
+	private CatalogVersion catalogVersion;
+
 	@InjectMocks
 	private AuthorServiceImpl authorService;
 
+	@BeforeEach
+	void setup() {
+		authorService = createService(SearchMode.INDEX);
+	}
+
 	@Test
 	void saveAuthor_ShouldReturnSuccess() {
 		AuthorRequest authorRequest = new AuthorRequest("AAA", "Bio");
@@ -58,6 +91,7 @@ public class AuthorServiceImplTest {
 		assertEquals("AAA", result.name());
 		assertNull(result.books());
 		verify(authorRepository, times(1)).save(any());
+		verify(eventPublisher).publishEvent(new AuthorChangedEvent(1L, "AAA"));
 	}
 
 	@Test
@@ -100,6 +134,53 @@ public class AuthorServiceImplTest {
 		});
 	}
 
+	@Test
+	void findByIds_ShouldReturnAuthorsInRequestOrder_AndReportMissing() {
+		Author first = createTestAuthor(1L, "First", "Bio");
+		Author second = createTestAuthor(2L, "Second", "Bio");
+		AuthorResponse firstResponse = createTestAuthorResponse(1L, "First", "Bio");
+		AuthorResponse secondResponse = createTestAuthorResponse(2L, "Second", "Bio");
+
+		when(authorRepository.findAllByIdIn(List.of(2L, 1L, 3L))).thenReturn(List.of(first, second));
+		when(mapper.toResponse(first)).thenReturn(firstResponse);
+		when(mapper.toResponse(second)).thenReturn(secondResponse);
+
+		BatchResult<AuthorResponse> result = authorService.findByIds(List.of(2L, 1L, 3L));
+
+		assertEquals(List.of(secondResponse, firstResponse), result.results());
+		assertEquals(List.of(3L), result.missing());
+	}
+
+	@Test
+	void findAuthorVersion_ShouldChange_WhenBookIsRemoved() {
+		LocalDateTime modifiedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+		Map<String, Object> before = new HashMap<>();
+		before.put("authorModifiedAt", modifiedAt);
+		before.put("booksModifiedAt", modifiedAt);
+		before.put("bookCount", 2L);
+		Map<String, Object> after = new HashMap<>(before);
+		after.put("bookCount", 1L);
+
+		var projections = new SpelAwareProxyProjectionFactory();
+		when(authorRepository.findVersionById(1L)).thenReturn(
+				Optional.of(projections.createProjection(AuthorVersionView.class, before)),
+				Optional.of(projections.createProjection(AuthorVersionView.class, after)));
+
+		ResourceVersion first = authorService.findAuthorVersion(1L);
+		ResourceVersion second = authorService.findAuthorVersion(1L);
+
+		assertNotEquals(first.eTag(), second.eTag());
+		assertEquals(first.lastModified(), second.lastModified());
+		verify(authorRepository, never()).findById(any());
+	}
+
+	@Test
+	void findAuthorVersion_ShouldThrowException_WhenAuthorNotFound() {
+		when(authorRepository.findVersionById(9L)).thenReturn(Optional.empty());
+
+		assertThrows(ResourceNotFoundException.class, () -> authorService.findAuthorVersion(9L));
+	}
+
 	@Test
 	void findByName_ShouldReturnAuthor_WhenExists() {
 		String name = "AAA";
@@ -130,7 +211,7 @@ public class AuthorServiceImplTest {
 		Page<Author> authorPage = new PageImpl<>(List.of(author));
 		AuthorResponse expectedResponse = createTestAuthorResponse(1L, "AAA", "Bio");
 
-		when(authorRepository.findAll(pageable)).thenReturn(authorPage);
+		when(authorRepository.findAllBy(pageable)).thenReturn(authorPage);
 		when(mapper.toResponse(author)).thenReturn(expectedResponse);
 
 		Page<AuthorResponse> result = authorService.getAll(pageable);
@@ -138,18 +219,59 @@ public class AuthorServiceImplTest {
 		assertFalse(result.isEmpty());
 		assertEquals(1, result.getTotalElements());
 		assertEquals(expectedResponse, result.getContent().getFirst());
-		verify(authorRepository).findAll(pageable);
+		verify(authorRepository).findAllBy(pageable);
 	}
 
 	@Test
 	void getAll_ShouldReturnEmptyList_WhenNoAuthorExist() {
 		Pageable pageable = Pageable.ofSize(10);
-		when(authorRepository.findAll(pageable)).thenReturn(Page.empty());
+		when(authorRepository.findAllBy(pageable)).thenReturn(Page.empty());
 
 		Page<AuthorResponse> result = authorService.getAll(pageable);
 
 		assertTrue(result.isEmpty());
-		verify(authorRepository).findAll(pageable);
+		verify(authorRepository).findAllBy(pageable);
+	}
+
+	@Test
+	void sliceAll_ShouldReturnSliceWithoutTotal() {
+		Pageable pageable = PageRequest.of(0, 1);
+		Author author = createTestAuthor(1L, "AAA", "Bio");
+		AuthorResponse expectedResponse = createTestAuthorResponse(1L, "AAA", "Bio");
+
+		when(authorRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(author), pageable, true));
+		when(mapper.toResponse(author)).thenReturn(expectedResponse);
+
+		var result = authorService.sliceAll(pageable);
+
+		assertEquals(List.of(expectedResponse), result.getContent());
+		assertTrue(result.hasNext());
+		verifyNoInteractions(totalCounts);
+	}
+
+	@Test
+	void searchByName_ShouldUseDerivedQuery_WhenNotPostgresMode() {
+		Pageable pageable = Pageable.ofSize(10);
+		when(authorRepository.searchAuthorsByNameContains("AA", pageable)).thenReturn(Page.empty());
+
+		Page<AuthorResponse> result = authorService.searchByName("AA", pageable);
+
+		assertTrue(result.isEmpty());
+		verify(authorRepository, never()).searchRankedByName(any(), any());
+	}
+
+	@Test
+	void searchByName_ShouldUseRankedQuery_WhenPostgresMode() {
+		authorService = createService(SearchMode.POSTGRES);
+		Author author = createTestAuthor(1L, "AAA", "Bio");
+		AuthorResponse response = createTestAuthorResponse(1L, "AAA", "Bio");
+		when(authorRepository.searchRankedByName("AA", PageRequest.of(0, 10))).thenReturn(new PageImpl<>(List.of(author)));
+		when(mapper.toResponse(author)).thenReturn(response);
+
+		Page<AuthorResponse> result = authorService.searchByName("AA", PageRequest.of(0, 10, Sort.by("name")));
+
+		assertEquals(List.of(response), result.getContent());
+		verify(authorRepository, never()).searchAuthorsByNameContains(any(), any());
 	}
 
 	@Test
@@ -166,7 +288,9 @@ public class AuthorServiceImplTest {
 
 		assertEquals(expectedResponse, result);
 		verify(mapper, times(1)).toResponse(any());
-
+		verify(eventPublisher).publishEvent(new AuthorChangedEvent(1L, "BBB"));
+		verify(totalCounts).invalidate(CountRegion.AUTHORS);
+		verify(totalCounts).invalidate(CountRegion.BOOKS);
 	}
 
 	@Test
@@ -186,6 +310,7 @@ public class AuthorServiceImplTest {
 		when(bookRepository.existsByAuthorId(id)).thenReturn(false);
 		authorService.deleteAuthor(id);
 		verify(authorRepository, times(1)).deleteById(id);
+		verify(eventPublisher).publishEvent(new AuthorDeletedEvent(id));
 	}
 
 	@Test
@@ -221,6 +346,17 @@ public class AuthorServiceImplTest {
 		return author;
 	}
 
+	private AuthorServiceImpl createService(SearchMode mode) {
+		return new AuthorServiceImpl(authorRepository,
+				bookRepository,
+				mapper,
+				eventPublisher,
+				new SearchProperties(mode),
+				totalCounts,
+				catalogVersion
+		);
+	}
+
 	private AuthorResponse createTestAuthorResponse(Long id, String name, String bio) {
 		return new AuthorResponse(id, name, bio, null, null, null);
 	}
@@ -0,0 +1,46 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import io.github.mgrablo.BiblioNode.dto.BatchResult;
+import io.github.mgrablo.BiblioNode.exception.BatchTooLargeException;
+
+public class BatchLookupsTest {
+	@Test
+	void distinctIds_ShouldDropDuplicatesAndNulls_KeepingFirstOccurrence() {
+		List<Long> ids = BatchLookups.distinctIds(Arrays.asList(3L, 1L, null, 3L, 2L, 1L));
+
+		assertEquals(List.of(3L, 1L, 2L), ids);
+	}
+
+	@Test
+	void distinctIds_ShouldThrowException_WhenTooManyIdsRequested() {
+		List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1, BatchLookups.MAX_IDS + 1).boxed().toList());
+
+		assertThrows(BatchTooLargeException.class, () -> BatchLookups.distinctIds(ids));
+	}
+
+	@Test
+	void distinctIds_ShouldCountDistinctIdsAgainstLimit() {
+		List<Long> ids = new ArrayList<>(LongStream.rangeClosed(1, BatchLookups.MAX_IDS).boxed().toList());
+		ids.addAll(ids);
+
+		assertEquals(BatchLookups.MAX_IDS, BatchLookups.distinctIds(ids).size());
+	}
+
+	@Test
+	void inRequestOrder_ShouldRestoreRequestOrder_AndReportMissing() {
+		BatchResult<String> result = BatchLookups.inRequestOrder(List.of(30L, 10L, 20L, 40L),
+				List.of("10", "20", "30"), Long::valueOf);
+
+		assertEquals(List.of("30", "10", "20"), result.results());
+		assertEquals(List.of(40L), result.missing());
+	}
+}
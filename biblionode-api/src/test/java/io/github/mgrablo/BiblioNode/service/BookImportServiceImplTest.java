@@ -0,0 +1,112 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache;
+import io.github.mgrablo.BiblioNode.config.ImportProperties;
+import io.github.mgrablo.BiblioNode.dto.BookImportResult;
+import io.github.mgrablo.BiblioNode.dto.FileFormat;
+import io.github.mgrablo.BiblioNode.model.Author;
+import io.github.mgrablo.BiblioNode.model.Book;
+import io.github.mgrablo.BiblioNode.repository.AuthorNameView;
+import io.github.mgrablo.BiblioNode.repository.AuthorRepository;
+import io.github.mgrablo.BiblioNode.repository.BookRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class BookImportServiceImplTest {
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private AuthorRepository authorRepository;
+
+	@Mock
+	private BookRepository bookRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private TotalCountCache totalCounts;
+
+	private BookImportServiceImpl importService;
+
+	@BeforeEach
+	void setup() {
+		importService = new BookImportServiceImpl(new TransactionTemplate(transactionManager), authorRepository,
+				bookRepository, eventPublisher, totalCounts, null, new ImportProperties(4, 10));
+	}
+
+	@Test
+	void importBooks_ShouldRejectOnlyTheRowsThatFail_WhenBatchRollsBack() {
+		Author author = new Author();
+		author.setId(1L);
+		author.setName("Herbert");
+		AtomicLong bookIds = new AtomicLong();
+
+		when(authorRepository.streamAllNames()).thenReturn(Stream.empty());
+		when(authorRepository.save(any(Author.class))).thenReturn(author);
+		when(authorRepository.getReferenceById(1L)).thenReturn(author);
+		when(bookRepository.saveAll(anyList())).thenAnswer(invocation -> {
+			List<Book> books = invocation.getArgument(0);
+			if (books.stream().anyMatch(book -> book.getIsbn().equals("bad"))) {
+				throw new DataIntegrityViolationException("value too long for column isbn");
+			}
+			books.forEach(book -> book.setId(bookIds.incrementAndGet()));
+			return books;
+		});
+
+		String csv = "title,isbn,author\nOne,1,Herbert\nTwo,2,Herbert\nThree,bad,Herbert\nFour,4,Herbert\n";
+		BookImportResult result = importService.importBooks(
+				new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), FileFormat.CSV);
+
+		assertEquals(3, result.imported());
+		assertEquals(1, result.failed());
+		assertEquals(1, result.authorsCreated());
+		assertEquals(List.of(new BookImportResult.RowError(4, "Row rolled back: value too long for column isbn")),
+				result.errors());
+	}
+
+	@Test
+	void importBooks_ShouldFailWholeImport_WhenBatchFailsForTransientReason() {
+		Author author = new Author();
+		author.setId(1L);
+		author.setName("Herbert");
+
+		when(authorRepository.streamAllNames()).thenReturn(Stream.of(authorName(author)));
+		when(authorRepository.getReferenceById(1L)).thenReturn(author);
+		when(bookRepository.saveAll(anyList())).thenThrow(new QueryTimeoutException("canceling statement due to lock timeout"));
+
+		String csv = "title,isbn,author\nOne,1,Herbert\nTwo,2,Herbert\n";
+
+		assertThrows(QueryTimeoutException.class, () -> importService.importBooks(
+				new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), FileFormat.CSV));
+		verify(bookRepository, times(1)).saveAll(anyList());
+	}
+
+	private AuthorNameView authorName(Author author) {
+		return new SpelAwareProxyProjectionFactory().createProjection(AuthorNameView.class,
+				Map.of("id", author.getId(), "name", author.getName()));
+	}
+}
@@ -5,30 +5,82 @@ import static org.mockito.Mockito.*;
 
 import static java.util.Collections.emptyList;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
-
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.function.LongSupplier;
+
+import io.github.mgrablo.BiblioNode.cache.BookResponseCache;
+import io.github.mgrablo.BiblioNode.cache.CatalogVersion;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache.CountRegion;
+import io.github.mgrablo.BiblioNode.config.BookCacheProperties;
+import io.github.mgrablo.BiblioNode.config.SearchProperties;
+import io.github.mgrablo.BiblioNode.config.SearchProperties.SearchMode;
+import io.github.mgrablo.BiblioNode.dto.BatchResult;
+import io.github.mgrablo.BiblioNode.dto.BookFacets;
 import io.github.mgrablo.BiblioNode.dto.BookRequest;
 import io.github.mgrablo.BiblioNode.dto.BookResponse;
+import io.github.mgrablo.BiblioNode.dto.BookSearchResult;
+import io.github.mgrablo.BiblioNode.dto.BookSummary;
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
+import io.github.mgrablo.BiblioNode.dto.PopularBook;
+import io.github.mgrablo.BiblioNode.dto.ResourceVersion;
+import io.github.mgrablo.BiblioNode.dto.Suggestion;
+import io.github.mgrablo.BiblioNode.event.BookAvailabilityChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookDeletedEvent;
+import io.github.mgrablo.BiblioNode.exception.DataIntegrityException;
+import io.github.mgrablo.BiblioNode.exception.InvalidIsbnException;
+import io.github.mgrablo.BiblioNode.exception.InvalidWindowException;
 import io.github.mgrablo.BiblioNode.exception.ResourceNotFoundException;
+import io.github.mgrablo.BiblioNode.index.BookAvailabilityIndex;
+import io.github.mgrablo.BiblioNode.index.BookSearchIndex;
+import io.github.mgrablo.BiblioNode.index.BookSuggestionIndex;
+import io.github.mgrablo.BiblioNode.index.CoBorrowIndex;
+import io.github.mgrablo.BiblioNode.index.PopularBooksIndex;
 import io.github.mgrablo.BiblioNode.mapper.BookMapper;
 import io.github.mgrablo.BiblioNode.model.Author;
 import io.github.mgrablo.BiblioNode.model.Book;
 import io.github.mgrablo.BiblioNode.repository.AuthorRepository;
+import io.github.mgrablo.BiblioNode.repository.AuthorNameView;
+import io.github.mgrablo.BiblioNode.repository.BookDetailView;
+import io.github.mgrablo.BiblioNode.repository.BookFacetView;
 import io.github.mgrablo.BiblioNode.repository.BookRepository;
+import io.github.mgrablo.BiblioNode.repository.BookSummaryView;
+import io.github.mgrablo.BiblioNode.repository.BookVersionView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 public class BookServiceImplTest {
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 10, 12, 0);
+
 	@Mock
 	private BookRepository bookRepository;
 
@@ -38,9 +90,44 @@ public class BookServiceImplTest {
 	@Mock
 	private BookMapper mapper;
 
+	@Mock
+	private BookSearchIndex searchIndex;
+
+	@Mock
+	private BookSuggestionIndex suggestionIndex;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private TotalCountCache totalCounts;
+
+	@Mock
+	private CatalogVersion catalogVersion;
+
+	@Mock
+	private BookAvailabilityIndex availabilityIndex;
+
+	@Mock
+	private CoBorrowIndex coBorrowIndex;
+
+	@Mock
+	private PopularBooksIndex popularBooksIndex;
+
 	@InjectMocks
 	private BookServiceImpl bookService;
 
+	private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+	private final Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+	private BookResponseCache bookCache;
+
+	@BeforeEach
+	void setup() {
+		bookCache = new BookResponseCache(new BookCacheProperties(100), new SimpleMeterRegistry());
+		bookService = createService(SearchMode.INDEX);
+	}
+
 	@Test
 	void addBook_ShouldReturnSuccess_WhenAuthorExists() {
 		BookRequest request = new BookRequest("TestTitle", "111", 1L, "http://example.com/cover.jpg", "description");
@@ -59,6 +146,8 @@ public class BookServiceImplTest {
 		assertNotNull(result);
 		assertEquals("TestTitle", result.title());
 		verify(bookRepository, times(1)).save(any());
+		verify(eventPublisher).publishEvent(new BookChangedEvent(100L, "TestTitle", 1L, "TestAuthor"));
+		verify(totalCounts).invalidate(CountRegion.BOOKS);
 	}
 
 	@Test
@@ -96,25 +185,163 @@ public class BookServiceImplTest {
 		assertEquals(author, savedBookInternal.getAuthor());
 	}
 
+	@Test
+	void findBooksByIds_ShouldReturnBooksInRequestOrder_AndReportMissing() {
+		Author author = createTestAuthor(1L, "Author");
+		BookDetailView first = createTestDetailView(1L, "First", author, null);
+		BookDetailView second = createTestDetailView(2L, "Second", author, null);
+		BookResponse firstResponse = createTestBookResponse(1L, "First", "111", author, null, null);
+		BookResponse secondResponse = createTestBookResponse(2L, "Second", "111", author, null, null);
+
+		when(bookRepository.findDetailsByIdIn(List.of(2L, 9L, 1L))).thenReturn(List.of(first, second));
+		when(mapper.toResponse(first)).thenReturn(firstResponse);
+		when(mapper.toResponse(second)).thenReturn(secondResponse);
+
+		BatchResult<BookResponse> result = bookService.findBooksByIds(List.of(2L, 9L, 1L, 2L));
+
+		assertEquals(List.of(secondResponse, firstResponse), result.results());
+		assertEquals(List.of(9L), result.missing());
+	}
+
+	@Test
+	void findBooksByIds_ShouldNotQuery_WhenNoIdsGiven() {
+		BatchResult<BookResponse> result = bookService.findBooksByIds(List.of());
+
+		assertTrue(result.results().isEmpty());
+		verifyNoInteractions(bookRepository);
+	}
+
+	@Test
+	void findRelatedBooks_ShouldLoadIndexedNeighboursInIndexOrder() {
+		Author author = createTestAuthor(1L, "Author");
+		BookDetailView first = createTestDetailView(3L, "First", author, null);
+		BookDetailView second = createTestDetailView(4L, "Second", author, null);
+		BookResponse firstResponse = createTestBookResponse(3L, "First", "111", author, null, null);
+		BookResponse secondResponse = createTestBookResponse(4L, "Second", "111", author, null, null);
+
+		when(coBorrowIndex.related(1L, 5)).thenReturn(List.of(4L, 3L));
+		when(bookRepository.findDetailsByIdIn(List.of(4L, 3L))).thenReturn(List.of(first, second));
+		when(mapper.toResponse(first)).thenReturn(firstResponse);
+		when(mapper.toResponse(second)).thenReturn(secondResponse);
+
+		List<BookResponse> result = bookService.findRelatedBooks(1L, 5);
+
+		assertEquals(List.of(secondResponse, firstResponse), result);
+		verify(bookRepository, never()).existsById(any());
+	}
+
+	@Test
+	void findRelatedBooks_ShouldReturnEmptyList_WhenBookHasNoNeighbours() {
+		when(coBorrowIndex.related(1L, 5)).thenReturn(List.of());
+		when(bookRepository.existsById(1L)).thenReturn(true);
+
+		assertTrue(bookService.findRelatedBooks(1L, 5).isEmpty());
+		verify(bookRepository, never()).findDetailsByIdIn(any());
+	}
+
+	@Test
+	void findRelatedBooks_ShouldThrowException_WhenBookNotFound() {
+		when(coBorrowIndex.related(99L, 5)).thenReturn(List.of());
+		when(bookRepository.existsById(99L)).thenReturn(false);
+
+		assertThrows(ResourceNotFoundException.class, () -> bookService.findRelatedBooks(99L, 5));
+	}
+
+	@Test
+	void findPopularBooks_ShouldPairRankingWithBookDetails() {
+		Author author = createTestAuthor(1L, "Author");
+		BookDetailView first = createTestDetailView(3L, "First", author, null);
+		BookResponse firstResponse = createTestBookResponse(3L, "First", "111", author, null, null);
+
+		when(popularBooksIndex.maxWindowDays()).thenReturn(30);
+		when(popularBooksIndex.top(7, 10)).thenReturn(List.of(
+				new PopularBooksIndex.Ranking(3L, 5), new PopularBooksIndex.Ranking(8L, 2)));
+		when(bookRepository.findDetailsByIdIn(List.of(3L, 8L))).thenReturn(List.of(first));
+		when(mapper.toResponse(first)).thenReturn(firstResponse);
+
+		List<PopularBook> result = bookService.findPopularBooks("7d", 10);
+
+		assertEquals(List.of(new PopularBook(firstResponse, 5)), result);
+	}
+
+	@Test
+	void findPopularBooks_ShouldThrowException_WhenWindowIsInvalid() {
+		when(popularBooksIndex.maxWindowDays()).thenReturn(30);
+
+		assertThrows(InvalidWindowException.class, () -> bookService.findPopularBooks("week", 10));
+		assertThrows(InvalidWindowException.class, () -> bookService.findPopularBooks("31d", 10));
+		assertThrows(InvalidWindowException.class, () -> bookService.findPopularBooks("0d", 10));
+		verify(popularBooksIndex, never()).top(anyInt(), anyInt());
+	}
+
+	@Test
+	void addBook_ShouldStockRequestedCopies() {
+		BookRequest request = new BookRequest("TestTitle", "111", 1L, null, null, 3);
+		Author author = createTestAuthor(1L, "TestAuthor");
+		Book book = createTestBook(null, "TestTitle", "111", author, null, null);
+
+		when(authorRepository.findById(1L)).thenReturn(Optional.of(author));
+		when(mapper.toEntity(request)).thenReturn(book);
+		when(bookRepository.save(book)).thenReturn(book);
+
+		bookService.addBook(request);
+
+		assertEquals(3, book.getTotalCopies());
+		assertEquals(3, book.getAvailableCopies());
+		assertTrue(book.isAvailable());
+	}
+
 	@Test
 	void findBookById_ShouldReturnBook_WhenExists() {
 		Long bookId = 1L;
 		Author author = createTestAuthor(1L, "TestAuthor");
-		Book book = createTestBook(bookId, "TestTitle", "111", author, null, null);
+		BookDetailView view = createTestDetailView(bookId, "TestTitle", author, null);
 		BookResponse expectedResponse = createTestBookResponse(bookId, "TestTitle", "111", author, null, null);
 
-		when(bookRepository.findById(bookId)).thenReturn(Optional.of(book));
-		when(mapper.toResponse(book)).thenReturn(expectedResponse);
+		when(bookRepository.findDetailById(bookId)).thenReturn(Optional.of(view));
+		when(mapper.toResponse(view)).thenReturn(expectedResponse);
 
 		BookResponse result = bookService.findBookById(bookId);
 
 		assertEquals(expectedResponse, result);
+		verify(bookRepository, never()).findById(any());
+	}
+
+	@Test
+	void findBookById_ShouldLoadOnce_WhenCalledRepeatedly() {
+		Author author = createTestAuthor(1L, "TestAuthor");
+		BookDetailView view = createTestDetailView(1L, "TestTitle", author, null);
+		BookResponse expectedResponse = createTestBookResponse(1L, "TestTitle", "111", author, null, null);
+
+		when(bookRepository.findDetailById(1L)).thenReturn(Optional.of(view));
+		when(mapper.toResponse(view)).thenReturn(expectedResponse);
+
+		bookService.findBookById(1L);
+		BookResponse result = bookService.findBookById(1L);
+
+		assertEquals(expectedResponse, result);
+		verify(bookRepository, times(1)).findDetailById(1L);
+	}
+
+	@Test
+	void findBookById_ShouldReload_WhenBookChanged() {
+		Author author = createTestAuthor(1L, "TestAuthor");
+		BookDetailView view = createTestDetailView(1L, "TestTitle", author, null);
+
+		when(bookRepository.findDetailById(1L)).thenReturn(Optional.of(view));
+		when(mapper.toResponse(view)).thenReturn(createTestBookResponse(1L, "TestTitle", "111", author, null, null));
+
+		bookService.findBookById(1L);
+		bookCache.onBookChanged(new BookChangedEvent(1L, "TestTitle", 1L, "TestAuthor"));
+		bookService.findBookById(1L);
+
+		verify(bookRepository, times(2)).findDetailById(1L);
 	}
 
 	@Test
 	void findBookById_ShouldThrowException_WhenBookNotFound() {
 		Long bookId = 9L;
-		when(bookRepository.findById(bookId)).thenReturn(Optional.empty());
+		when(bookRepository.findDetailById(bookId)).thenReturn(Optional.empty());
 		assertThrows(ResourceNotFoundException.class, () -> {
 			bookService.findBookById(bookId);
 		});
@@ -124,11 +351,11 @@ public class BookServiceImplTest {
 	void findBookByTitle_ShouldReturnBook_WhenExists() {
 		String title = "ABC";
 		Author author = createTestAuthor(1L, "TestAuthor");
-		Book book = createTestBook(1L, title, "111", author, null, null);
+		BookDetailView view = createTestDetailView(1L, title, author, null);
 		BookResponse expectedResponse = createTestBookResponse(1L, title, "111", author, null, null);
 
-		when(bookRepository.findBookByTitle(title)).thenReturn(Optional.of(book));
-		when(mapper.toResponse(book)).thenReturn(expectedResponse);
+		when(bookRepository.findDetailByTitle(title)).thenReturn(Optional.of(view));
+		when(mapper.toResponse(view)).thenReturn(expectedResponse);
 
 		BookResponse result = bookService.findBookByTitle(title);
 
@@ -138,40 +365,98 @@ public class BookServiceImplTest {
 	@Test
 	void findBookByTitle_ShouldThrowException_WhenBookNotFound() {
 		String title = "ABC";
-		when(bookRepository.findBookByTitle(title)).thenReturn(Optional.empty());
+		when(bookRepository.findDetailByTitle(title)).thenReturn(Optional.empty());
 		assertThrows(ResourceNotFoundException.class, () -> {
 			bookService.findBookByTitle(title);
 		});
 	}
 
 	@Test
-	void getAllBooks_ShouldReturnPageOfResponses() {
+	void findBookByIsbn_ShouldLookUpNormalizedIsbn13() {
+		Author author = createTestAuthor(1L, "TestAuthor");
+		BookDetailView view = createTestDetailView(1L, "TestTitle", author, null);
+		BookResponse expectedResponse = createTestBookResponse(1L, "TestTitle", "111", author, null, null);
+
+		when(bookRepository.findDetailsByIsbn13("9780306406157", Limit.of(1))).thenReturn(List.of(view));
+		when(mapper.toResponse(view)).thenReturn(expectedResponse);
+
+		BookResponse result = bookService.findBookByIsbn("0-306-40615-2");
+
+		assertEquals(expectedResponse, result);
+	}
+
+	@Test
+	void findBookByIsbn_ShouldThrowException_WhenBookNotFound() {
+		when(bookRepository.findDetailsByIsbn13("9780306406157", Limit.of(1))).thenReturn(List.of());
+
+		assertThrows(ResourceNotFoundException.class, () -> bookService.findBookByIsbn("978-0-306-40615-7"));
+	}
+
+	@Test
+	void findBookByIsbn_ShouldThrowException_WhenIsbnIsMalformed() {
+		assertThrows(InvalidIsbnException.class, () -> bookService.findBookByIsbn("not-an-isbn"));
+
+		verifyNoInteractions(bookRepository);
+	}
+
+	@Test
+	void findBookVersion_ShouldChange_WhenAuthorIsModified() {
+		LocalDateTime bookModifiedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+		Map<String, Object> before = new HashMap<>();
+		before.put("bookModifiedAt", bookModifiedAt);
+		before.put("authorModifiedAt", LocalDateTime.of(2026, 1, 1, 10, 0));
+		Map<String, Object> after = new HashMap<>(before);
+		after.put("authorModifiedAt", LocalDateTime.of(2026, 1, 2, 10, 0));
+
+		when(bookRepository.findVersionById(1L)).thenReturn(
+				Optional.of(projectionFactory.createProjection(BookVersionView.class, before)),
+				Optional.of(projectionFactory.createProjection(BookVersionView.class, after)));
+
+		ResourceVersion first = bookService.findBookVersion(1L);
+		ResourceVersion second = bookService.findBookVersion(1L);
+
+		assertNotEquals(first.eTag(), second.eTag());
+		assertTrue(first.eTag().startsWith("\"book-1-"));
+		assertEquals(bookModifiedAt.atZone(ZoneId.systemDefault()).toInstant(), first.lastModified());
+		verify(bookRepository, never()).findDetailById(any());
+	}
+
+	@Test
+	void findBookVersion_ShouldThrowException_WhenBookNotFound() {
+		when(bookRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+		assertThrows(ResourceNotFoundException.class, () -> bookService.findBookVersion(1L));
+	}
+
+	@Test
+	void getAllBooks_ShouldReturnPageOfSummaries() {
 		Pageable pageable = Pageable.ofSize(10);
 		Author author = createTestAuthor(1L, "TestAuthor");
-		Book book = createTestBook(1L, "TestTitle", "111", author, null, null);
-		Page<Book> bookPage = new PageImpl<>(List.of(book));
-		BookResponse response = createTestBookResponse(1L, "TestTitle", "111", author, null, null);
+		BookSummaryView view = createTestSummaryView(1L, "TestTitle", author);
+		Page<BookSummaryView> bookPage = new PageImpl<>(List.of(view));
+		BookSummary summary = createTestBookSummary(1L, "TestTitle", author);
 
-		when(bookRepository.findAll(pageable)).thenReturn(bookPage);
-		when(mapper.toResponse(book)).thenReturn(response);
+		when(bookRepository.findAllSummaries(pageable)).thenReturn(bookPage);
+		when(mapper.toSummary(view)).thenReturn(summary);
 
-		Page<BookResponse> result = bookService.getAllBooks(pageable);
+		Page<BookSummary> result = bookService.getAllBooks(pageable);
 
 		assertFalse(result.isEmpty());
 		assertEquals(1, result.getTotalElements());
-		assertEquals(response, result.getContent().getFirst());
-		verify(bookRepository).findAll(pageable);
+		assertEquals(summary, result.getContent().getFirst());
+		verify(bookRepository).findAllSummaries(pageable);
+		verify(bookRepository, never()).findAll(any(Pageable.class));
 	}
 
 	@Test
 	void getAllBooks_ShouldReturnEmptyList_WhenNoBookExist() {
 		Pageable pageable = Pageable.ofSize(10);
-		when(bookRepository.findAll(pageable)).thenReturn(Page.empty());
+		when(bookRepository.findAllSummaries(pageable)).thenReturn(Page.empty());
 
-		Page<BookResponse> result = bookService.getAllBooks(pageable);
+		Page<BookSummary> result = bookService.getAllBooks(pageable);
 
 		assertTrue(result.isEmpty());
-		verify(bookRepository).findAll(pageable);
+		verify(bookRepository).findAllSummaries(pageable);
 	}
 
 	@Test
@@ -180,14 +465,14 @@ public class BookServiceImplTest {
 		String authorName = "TestAuthor";
 		Pageable pageable = Pageable.ofSize(10);
 		Author author = createTestAuthor(1L, authorName);
-		Book book = createTestBook(1L, title, "111", author, null, null);
-		BookResponse response = createTestBookResponse(1L, title, "111", author, null, null);
-		Page<Book> bookPage = new PageImpl<>(List.of(book));
+		BookSummaryView view = createTestSummaryView(1L, title, author);
+		BookSummary summary = createTestBookSummary(1L, title, author);
+		Page<BookSummaryView> bookPage = new PageImpl<>(List.of(view));
 
 		when(bookRepository.searchByTitleAndAuthor(title, authorName, pageable)).thenReturn(bookPage);
-		when(mapper.toResponse(book)).thenReturn(response);
+		when(mapper.toSummary(view)).thenReturn(summary);
 
-		Page<BookResponse> result = bookService.searchBooks(title, authorName, pageable);
+		Page<BookSummary> result = bookService.searchBooks(title, authorName, pageable);
 
 		assertEquals(1, result.getTotalElements());
 		verify(bookRepository).searchByTitleAndAuthor(title, authorName, pageable);
@@ -200,12 +485,367 @@ public class BookServiceImplTest {
 		Pageable pageable = Pageable.ofSize(10);
 		when(bookRepository.searchByTitleAndAuthor(title, authorName, pageable)).thenReturn(Page.empty());
 
-		Page<BookResponse> result = bookService.searchBooks(title, authorName, pageable);
+		Page<BookSummary> result = bookService.searchBooks(title, authorName, pageable);
 
 		assertTrue(result.isEmpty());
 		verify(bookRepository).searchByTitleAndAuthor(title, authorName, pageable);
 	}
 
+	@Test
+	void searchBooks_ShouldLoadOnlyRequestedPage_WhenIndexReady() {
+		Pageable pageable = PageRequest.of(1, 2);
+		Author author = createTestAuthor(1L, "TestAuthor");
+		BookSummaryView view3 = createTestSummaryView(3L, "Title 3", author);
+		BookSummaryView view4 = createTestSummaryView(4L, "Title 4", author);
+		BookSummary response3 = createTestBookSummary(3L, "Title 3", author);
+		BookSummary response4 = createTestBookSummary(4L, "Title 4", author);
+
+		when(searchIndex.isReady()).thenReturn(true);
+		when(searchIndex.supports(pageable.getSort())).thenReturn(true);
+		when(searchIndex.search("title", null, pageable.getSort())).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+		when(bookRepository.findSummariesByIdIn(List.of(3L, 4L))).thenReturn(List.of(view4, view3));
+		when(mapper.toSummary(view3)).thenReturn(response3);
+		when(mapper.toSummary(view4)).thenReturn(response4);
+
+		Page<BookSummary> result = bookService.searchBooks("title", null, pageable);
+
+		assertEquals(5, result.getTotalElements());
+		assertEquals(List.of(response3, response4), result.getContent());
+		verify(bookRepository, never()).searchByTitleAndAuthor(any(), any(), any());
+	}
+
+	@Test
+	void searchBooks_ShouldFallBackToRepository_WhenSortNotSupportedByIndex() {
+		Pageable pageable = PageRequest.of(0, 10, Sort.by("createdAt"));
+		when(searchIndex.isReady()).thenReturn(true);
+		when(searchIndex.supports(pageable.getSort())).thenReturn(false);
+		when(bookRepository.searchByTitleAndAuthor("title", null, pageable)).thenReturn(Page.empty());
+
+		bookService.searchBooks("title", null, pageable);
+
+		verify(searchIndex, never()).search(any(), any(), any());
+		verify(bookRepository).searchByTitleAndAuthor("title", null, pageable);
+	}
+
+	@Test
+	void getAvailableBooks_ShouldReadPageFromBitmap_WhenSortedById() {
+		Pageable pageable = PageRequest.of(1, 2);
+		Author author = createTestAuthor(1L, "TestAuthor");
+		BookSummaryView view = createTestSummaryView(7L, "Title 7", author);
+		BookSummary summary = createTestBookSummary(7L, "Title 7", author);
+
+		when(availabilityIndex.isReady()).thenReturn(true);
+		when(availabilityIndex.availableIds(2, 2)).thenReturn(List.of(7L));
+		when(availabilityIndex.availableCount()).thenReturn(3);
+		when(bookRepository.findSummariesByIdIn(List.of(7L))).thenReturn(List.of(view));
+		when(mapper.toSummary(view)).thenReturn(summary);
+
+		Page<BookSummary> result = bookService.getAvailableBooks(pageable);
+
+		assertEquals(3, result.getTotalElements());
+		assertEquals(List.of(summary), result.getContent());
+		verify(bookRepository, never()).findAvailableSummaries(any());
+		verify(bookRepository, never()).countByAvailableTrue();
+	}
+
+	@Test
+	void getAvailableBooks_ShouldFilterIndexOrder_WhenSortedByTitle() {
+		Pageable pageable = PageRequest.of(0, 10, Sort.by("title"));
+		Author author = createTestAuthor(1L, "TestAuthor");
+		BookSummaryView view = createTestSummaryView(3L, "Title 3", author);
+		BookSummary summary = createTestBookSummary(3L, "Title 3", author);
+
+		when(availabilityIndex.isReady()).thenReturn(true);
+		when(searchIndex.isReady()).thenReturn(true);
+		when(searchIndex.supports(pageable.getSort())).thenReturn(true);
+		when(searchIndex.search(null, null, pageable.getSort())).thenReturn(List.of(5L, 3L));
+		when(availabilityIndex.retainAvailable(List.of(5L, 3L))).thenReturn(List.of(3L));
+		when(bookRepository.findSummariesByIdIn(List.of(3L))).thenReturn(List.of(view));
+		when(mapper.toSummary(view)).thenReturn(summary);
+
+		Page<BookSummary> result = bookService.getAvailableBooks(pageable);
+
+		assertEquals(1, result.getTotalElements());
+		assertEquals(List.of(summary), result.getContent());
+	}
+
+	@Test
+	void getAvailableBooks_ShouldQueryRepository_WhenBitmapNotReady() {
+		Pageable pageable = PageRequest.of(0, 10);
+		when(availabilityIndex.isReady()).thenReturn(false);
+		when(bookRepository.findAvailableSummaries(pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+		Page<BookSummary> result = bookService.getAvailableBooks(pageable);
+
+		assertTrue(result.isEmpty());
+		verify(bookRepository).findAvailableSummaries(pageable);
+	}
+
+	@Test
+	void searchAvailableBooks_ShouldIntersectSearchWithBitmap_WhenIndexReady() {
+		Pageable pageable = PageRequest.of(0, 10);
+		Author author = createTestAuthor(1L, "TestAuthor");
+		BookSummaryView view = createTestSummaryView(2L, "Title 2", author);
+		BookSummary summary = createTestBookSummary(2L, "Title 2", author);
+
+		when(availabilityIndex.isReady()).thenReturn(true);
+		when(searchIndex.isReady()).thenReturn(true);
+		when(searchIndex.supports(pageable.getSort())).thenReturn(true);
+		when(searchIndex.search("title", null, pageable.getSort())).thenReturn(List.of(1L, 2L));
+		when(availabilityIndex.retainAvailable(List.of(1L, 2L))).thenReturn(List.of(2L));
+		when(bookRepository.findSummariesByIdIn(List.of(2L))).thenReturn(List.of(view));
+		when(mapper.toSummary(view)).thenReturn(summary);
+
+		Page<BookSummary> result = bookService.searchAvailableBooks("title", null, pageable);
+
+		assertEquals(List.of(summary), result.getContent());
+		verify(bookRepository, never()).searchAvailableByTitleAndAuthor(any(), any(), any());
+	}
+
+	@Test
+	void searchAvailableBooks_ShouldQueryRepository_WhenLikeMode() {
+		bookService = createService(SearchMode.LIKE);
+		Pageable pageable = PageRequest.of(0, 10);
+		when(bookRepository.searchAvailableByTitleAndAuthor("title", null, pageable))
+				.thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+		bookService.searchAvailableBooks("title", null, pageable);
+
+		verify(bookRepository).searchAvailableByTitleAndAuthor("title", null, pageable);
+		verifyNoInteractions(searchIndex, availabilityIndex);
+	}
+
+	@Test
+	void searchBooksWithFacets_ShouldCountFromIndexes_WhenIndexReady() {
+		Pageable pageable = PageRequest.of(0, 1);
+		Author author = createTestAuthor(10L, "TestAuthor");
+		BookSummaryView view = createTestSummaryView(1L, "Title 1", author);
+		BookSummary summary = createTestBookSummary(1L, "Title 1", author);
+		List<Long> ids = List.of(1L, 2L, 3L);
+
+		when(availabilityIndex.isReady()).thenReturn(true);
+		when(searchIndex.isReady()).thenReturn(true);
+		when(searchIndex.supports(pageable.getSort())).thenReturn(true);
+		when(searchIndex.search("title", null, pageable.getSort())).thenReturn(ids);
+		when(availabilityIndex.retainAvailable(ids)).thenReturn(List.of(1L, 3L));
+		when(searchIndex.countByAuthor(ids)).thenReturn(Map.of(10L, 1L, 20L, 2L));
+		when(authorRepository.findNamesByIdIn(List.of(20L, 10L))).thenReturn(List.of(
+				authorName(10L, "TestAuthor"), authorName(20L, "Other")));
+		when(bookRepository.findSummariesByIdIn(List.of(1L))).thenReturn(List.of(view));
+		when(mapper.toSummary(view)).thenReturn(summary);
+
+		BookSearchResult result = bookService.searchBooksWithFacets("title", null, false, pageable);
+
+		assertEquals(3, result.results().getTotalElements());
+		assertEquals(List.of(summary), result.results().getContent());
+		assertEquals(new BookFacets(List.of(
+				new BookFacets.AuthorFacet(20L, "Other", 2),
+				new BookFacets.AuthorFacet(10L, "TestAuthor", 1)), 2, 1), result.facets());
+		verify(bookRepository, never()).countFacetsByTitleAndAuthor(any(), any());
+		verify(bookRepository, never()).countByTitleAndAuthor(any(), any());
+	}
+
+	@Test
+	void searchBooksWithFacets_ShouldUseOneAggregateInsteadOfCount_WhenLikeMode() {
+		bookService = createService(SearchMode.LIKE);
+		Pageable pageable = PageRequest.of(0, 10);
+		when(bookRepository.countFacetsByTitleAndAuthor("title", null)).thenReturn(List.of(
+				facetRow(10L, "TestAuthor", true, 4),
+				facetRow(10L, "TestAuthor", false, 1),
+				facetRow(20L, "Other", false, 2)));
+		when(bookRepository.searchAvailableByTitleAndAuthor("title", null, pageable))
+				.thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+		BookSearchResult result = bookService.searchBooksWithFacets("title", null, true, pageable);
+
+		assertEquals(4, result.results().getTotalElements());
+		assertEquals(new BookFacets(List.of(
+				new BookFacets.AuthorFacet(10L, "TestAuthor", 5),
+				new BookFacets.AuthorFacet(20L, "Other", 2)), 4, 3), result.facets());
+		verify(bookRepository, never()).countAvailableByTitleAndAuthor(any(), any());
+		verifyNoInteractions(searchIndex, availabilityIndex);
+	}
+
+	@Test
+	void getAllBooks_ShouldUseCachedTotal_WhenMorePagesExist() {
+		Author author = createTestAuthor(1L, "TestAuthor");
+		BookSummaryView view = createTestSummaryView(1L, "Title", author);
+		BookSummary summary = createTestBookSummary(1L, "Title", author);
+		Pageable pageable = PageRequest.of(0, 1);
+		when(bookRepository.findAllSummaries(pageable)).thenReturn(new SliceImpl<>(List.of(view), pageable, true));
+		when(totalCounts.get(eq(CountRegion.BOOKS), any(LongSupplier.class), eq("all"))).thenReturn(42L);
+		when(mapper.toSummary(view)).thenReturn(summary);
+
+		Page<BookSummary> result = bookService.getAllBooks(pageable);
+
+		assertEquals(42, result.getTotalElements());
+		assertTrue(result.hasNext());
+		verify(bookRepository, never()).count();
+	}
+
+	@Test
+	void getAllBooks_ShouldSkipCount_WhenSliceReachesLastElement() {
+		Pageable pageable = PageRequest.of(0, 10);
+		when(bookRepository.findAllSummaries(pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+		Page<BookSummary> result = bookService.getAllBooks(pageable);
+
+		assertEquals(0, result.getTotalElements());
+		verifyNoInteractions(totalCounts);
+	}
+
+	@Test
+	void sliceAllBooks_ShouldReturnSliceWithoutTotal() {
+		Author author = createTestAuthor(1L, "TestAuthor");
+		BookSummaryView view = createTestSummaryView(1L, "Title", author);
+		BookSummary summary = createTestBookSummary(1L, "Title", author);
+		Pageable pageable = PageRequest.of(0, 1);
+		when(bookRepository.findAllSummaries(pageable)).thenReturn(new SliceImpl<>(List.of(view), pageable, true));
+		when(mapper.toSummary(view)).thenReturn(summary);
+
+		var result = bookService.sliceAllBooks(pageable);
+
+		assertEquals(List.of(summary), result.getContent());
+		assertTrue(result.hasNext());
+		verifyNoInteractions(totalCounts);
+	}
+
+	@Test
+	void scrollAllBooks_ShouldFetchOneExtraRowAndReturnCursor_WhenMoreBooksExist() {
+		Author author = createTestAuthor(1L, "TestAuthor");
+		BookSummaryView view1 = createTestSummaryView(1L, "Title 1", author);
+		BookSummaryView view2 = createTestSummaryView(2L, "Title 2", author);
+		BookSummary summary1 = createTestBookSummary(1L, "Title 1", author);
+		when(bookRepository.findSummariesAfter(0L, Limit.of(2))).thenReturn(List.of(view1, view2));
+		when(mapper.toSummary(view1)).thenReturn(summary1);
+
+		CursorPage<BookSummary> result = bookService.scrollAllBooks(new CursorRequest(null, 1));
+
+		assertEquals(List.of(summary1), result.content());
+		assertTrue(result.hasNext());
+		assertEquals(1L, KeysetCursors.afterId(KeysetCursors.position(result.nextCursor(), KeysetCursors.BY_ID)));
+	}
+
+	@Test
+	void sliceAvailableBooks_ShouldReadAvailableSummaries() {
+		Author author = createTestAuthor(1L, "TestAuthor");
+		BookSummaryView view = createTestSummaryView(1L, "Title", author);
+		BookSummary summary = createTestBookSummary(1L, "Title", author);
+		Pageable pageable = PageRequest.of(0, 1);
+		when(bookRepository.findAvailableSummaries(pageable)).thenReturn(new SliceImpl<>(List.of(view), pageable, false));
+		when(mapper.toSummary(view)).thenReturn(summary);
+
+		var result = bookService.sliceAvailableBooks(pageable);
+
+		assertEquals(List.of(summary), result.getContent());
+		assertFalse(result.hasNext());
+		verify(bookRepository, never()).findAllSummaries(any());
+	}
+
+	@Test
+	void scrollAvailableBooks_ShouldReadAvailableSummariesAfterCursor() {
+		Author author = createTestAuthor(1L, "TestAuthor");
+		BookSummaryView view = createTestSummaryView(7L, "Title", author);
+		BookSummary summary = createTestBookSummary(7L, "Title", author);
+		String cursor = KeysetCursors.encode(ScrollPosition.forward(Map.of("id", 5L)));
+		when(bookRepository.findAvailableSummariesAfter(5L, Limit.of(3))).thenReturn(List.of(view));
+		when(mapper.toSummary(view)).thenReturn(summary);
+
+		CursorPage<BookSummary> result = bookService.scrollAvailableBooks(new CursorRequest(cursor, 2));
+
+		assertEquals(List.of(summary), result.content());
+		assertFalse(result.hasNext());
+		verify(bookRepository, never()).findSummariesAfter(anyLong(), any());
+	}
+
+	@Test
+	void scrollAllBooks_ShouldResumeAfterCursorId() {
+		String cursor = KeysetCursors.encode(ScrollPosition.forward(Map.of("id", 5L)));
+		when(bookRepository.findSummariesAfter(5L, Limit.of(3))).thenReturn(List.of());
+
+		CursorPage<BookSummary> result = bookService.scrollAllBooks(new CursorRequest(cursor, 2));
+
+		assertTrue(result.content().isEmpty());
+		assertFalse(result.hasNext());
+		assertNull(result.nextCursor());
+	}
+
+	@Test
+	void searchBooks_ShouldUseRankedQueryWithoutClientSort_WhenPostgresMode() {
+		bookService = createService(SearchMode.POSTGRES);
+		Pageable pageable = PageRequest.of(2, 10, Sort.by("title"));
+		when(bookRepository.searchRankedByTitleAndAuthor("title", "", PageRequest.of(2, 10))).thenReturn(Page.empty());
+
+		bookService.searchBooks("title", null, pageable);
+
+		verify(bookRepository).searchRankedByTitleAndAuthor("title", "", PageRequest.of(2, 10));
+		verifyNoInteractions(searchIndex);
+	}
+
+	@Test
+	void searchBooks_ShouldSkipIndex_WhenLikeMode() {
+		bookService = createService(SearchMode.LIKE);
+		Pageable pageable = Pageable.ofSize(10);
+		when(bookRepository.searchByTitleAndAuthor("title", "author", pageable)).thenReturn(Page.empty());
+
+		bookService.searchBooks("title", "author", pageable);
+
+		verify(bookRepository).searchByTitleAndAuthor("title", "author", pageable);
+		verifyNoInteractions(searchIndex);
+	}
+
+	@Test
+	void searchBooks_ShouldIgnoreWhitespaceFilters_InEveryMode() {
+		Pageable pageable = Pageable.ofSize(10);
+		bookService = createService(SearchMode.LIKE);
+		when(bookRepository.searchByTitleAndAuthor(null, null, pageable)).thenReturn(Page.empty());
+
+		bookService.searchBooks("  ", "\t", pageable);
+
+		verify(bookRepository).searchByTitleAndAuthor(null, null, pageable);
+
+		bookService = createService(SearchMode.POSTGRES);
+		when(bookRepository.searchRankedByTitleAndAuthor("", "", PageRequest.of(0, 10))).thenReturn(Page.empty());
+
+		bookService.searchBooks(" ", null, pageable);
+
+		verify(bookRepository).searchRankedByTitleAndAuthor("", "", PageRequest.of(0, 10));
+	}
+
+	@Test
+	void searchByDescription_ShouldUseFullTextQuery_WhenPostgresMode() {
+		bookService = createService(SearchMode.POSTGRES);
+		Author author = createTestAuthor(1L, "TestAuthor");
+		BookDetailView view = createTestDetailView(1L, "Title", author, "storms and knights");
+		BookResponse response = createTestBookResponse(1L, "Title", "111", author, null, "storms and knights");
+		when(bookRepository.searchRankedByDescription("knight", PageRequest.of(0, 10))).thenReturn(new PageImpl<>(List.of(view)));
+		when(mapper.toResponse(view)).thenReturn(response);
+
+		Page<BookResponse> result = bookService.searchByDescription("knight", PageRequest.of(0, 10));
+
+		assertEquals(List.of(response), result.getContent());
+		verify(bookRepository, never()).searchByDescription(any(), any());
+	}
+
+	@Test
+	void searchByDescription_ShouldUseLikeQuery_WhenNotPostgresMode() {
+		Pageable pageable = Pageable.ofSize(10);
+		when(bookRepository.searchByDescription("knight", pageable)).thenReturn(Page.empty());
+
+		Page<BookResponse> result = bookService.searchByDescription("knight", pageable);
+
+		assertTrue(result.isEmpty());
+		verify(bookRepository, never()).searchRankedByDescription(any(), any());
+	}
+
+	@Test
+	void suggest_ShouldCapLimit() {
+		List<Suggestion> suggestions = List.of(new Suggestion("The Way of Kings", Suggestion.Type.TITLE));
+		when(suggestionIndex.suggest("way", 25)).thenReturn(suggestions);
+
+		assertEquals(suggestions, bookService.suggest("way", 1000));
+	}
+
 	@Test
 	void updateBook_ShouldReturnUpdatedBook_WhenBookExists_SameAuthor() {
 		Long id = 1L;
@@ -247,6 +887,52 @@ public class BookServiceImplTest {
 		assertEquals("NewTitle", book.getTitle());
 		assertEquals("111", book.getIsbn());
 		assertEquals(2L, book.getAuthor().getId());
+		verify(eventPublisher).publishEvent(new BookChangedEvent(id, "NewTitle", 2L, "NewAuthorName"));
+	}
+
+	@Test
+	void updateBook_ShouldResizeCopiesBeforeLoading_WhenTotalCopiesGiven() {
+		Long id = 1L;
+		BookRequest request = new BookRequest("OldTitle", "111", 1L, null, null, 4);
+		Author author = createTestAuthor(1L, "Name");
+		Book book = createTestBook(id, "OldTitle", "111", author, null, null);
+		book.setTotalCopies(4);
+		book.setAvailableCopies(2);
+
+		when(bookRepository.resizeCopies(id, 4, NOW)).thenReturn(1);
+		when(bookRepository.findById(id)).thenReturn(Optional.of(book));
+
+		bookService.updateBook(id, request);
+
+		InOrder inOrder = inOrder(bookRepository);
+		inOrder.verify(bookRepository).resizeCopies(id, 4, NOW);
+		inOrder.verify(bookRepository).findById(id);
+		verify(eventPublisher).publishEvent(new BookAvailabilityChangedEvent(id, true));
+	}
+
+	@Test
+	void updateBook_ShouldThrowException_WhenMoreCopiesAreOnLoan() {
+		Long id = 1L;
+		BookRequest request = new BookRequest("OldTitle", "111", 1L, null, null, 1);
+
+		when(bookRepository.resizeCopies(id, 1, NOW)).thenReturn(0);
+		when(bookRepository.existsById(id)).thenReturn(true);
+
+		assertThrows(DataIntegrityException.class, () -> bookService.updateBook(id, request));
+		verify(bookRepository, never()).findById(any());
+	}
+
+	@Test
+	void updateBook_ShouldNotResizeCopies_WhenTotalCopiesOmitted() {
+		Long id = 1L;
+		BookRequest request = new BookRequest("NewTitle", "111", 1L);
+		Book book = createTestBook(id, "OldTitle", "111", createTestAuthor(1L, "Name"), null, null);
+
+		when(bookRepository.findById(id)).thenReturn(Optional.of(book));
+
+		bookService.updateBook(id, request);
+
+		verify(bookRepository, never()).resizeCopies(any(), anyInt(), any());
 	}
 
 	@Test
@@ -289,6 +975,8 @@ public class BookServiceImplTest {
 		bookService.deleteBook(id);
 
 		verify(bookRepository, times(1)).deleteById(id);
+		verify(eventPublisher).publishEvent(new BookDeletedEvent(id));
+		verify(totalCounts).invalidate(CountRegion.BOOKS);
 	}
 
 	@Test
@@ -303,6 +991,24 @@ public class BookServiceImplTest {
 		verify(bookRepository, never()).deleteById(id);
 	}
 
+	private BookServiceImpl createService(SearchMode mode) {
+		return new BookServiceImpl(bookRepository,
+				authorRepository,
+				mapper,
+				searchIndex,
+				suggestionIndex,
+				eventPublisher,
+				new SearchProperties(mode),
+				totalCounts,
+				catalogVersion,
+				bookCache,
+				availabilityIndex,
+				coBorrowIndex,
+				popularBooksIndex,
+				clock
+		);
+	}
+
 	private Author createTestAuthor(Long id, String name) {
 		Author author = new Author();
 		author.setId(id);
@@ -327,6 +1033,48 @@ public class BookServiceImplTest {
 	}
 
 	private BookResponse createTestBookResponse(Long id, String title, String isbn, Author author, String coverUrl, String description) {
-		return new BookResponse(id, title, isbn, author.getName(), author.getId(), true, coverUrl, description, null, null);
+		return new BookResponse(id, title, isbn, author.getName(), author.getId(), true, 1, 1, coverUrl, description, null, null);
+	}
+
+	private BookSummaryView createTestSummaryView(Long id, String title, Author author) {
+		Map<String, Object> row = new HashMap<>();
+		row.put("id", id);
+		row.put("title", title);
+		row.put("isbn", "111");
+		row.put("authorName", author.getName());
+		row.put("authorId", author.getId());
+		row.put("available", true);
+		row.put("coverUrl", null);
+		return projectionFactory.createProjection(BookSummaryView.class, row);
+	}
+
+	private BookDetailView createTestDetailView(Long id, String title, Author author, String description) {
+		Map<String, Object> row = new HashMap<>();
+		row.put("id", id);
+		row.put("title", title);
+		row.put("isbn", "111");
+		row.put("authorName", author.getName());
+		row.put("authorId", author.getId());
+		row.put("available", true);
+		row.put("availableCopies", 1);
+		row.put("totalCopies", 1);
+		row.put("coverUrl", null);
+		row.put("description", description);
+		row.put("createdAt", null);
+		row.put("modifiedAt", null);
+		return projectionFactory.createProjection(BookDetailView.class, row);
+	}
+
+	private AuthorNameView authorName(Long id, String name) {
+		return projectionFactory.createProjection(AuthorNameView.class, Map.of("id", id, "name", name));
+	}
+
+	private BookFacetView facetRow(Long authorId, String authorName, boolean available, long books) {
+		return projectionFactory.createProjection(BookFacetView.class,
+				Map.of("authorId", authorId, "authorName", authorName, "available", available, "books", books));
+	}
+
+	private BookSummary createTestBookSummary(Long id, String title, Author author) {
+		return new BookSummary(id, title, "111", author.getName(), author.getId(), true, null);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,223 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.mgrablo.BiblioNode.config.LoanProperties;
+import io.github.mgrablo.BiblioNode.config.RsaKeyConfig;
+import io.github.mgrablo.BiblioNode.dto.AuthorRequest;
+import io.github.mgrablo.BiblioNode.dto.BookRequest;
+import io.github.mgrablo.BiblioNode.dto.BorrowRequest;
+import io.github.mgrablo.BiblioNode.exception.BookNotAvailableException;
+import io.github.mgrablo.BiblioNode.exception.LoanLimitExceededException;
+import io.github.mgrablo.BiblioNode.model.Reader;
+import io.github.mgrablo.BiblioNode.model.User;
+import io.github.mgrablo.BiblioNode.repository.LoanRepository;
+import io.github.mgrablo.BiblioNode.repository.ReaderRepository;
+import io.github.mgrablo.BiblioNode.repository.UserRepository;
+
+/**
+ * Races borrowers through the real service and database, checking that the conditional claims let
+ * exactly as many borrowers win as there are copies, and no reader past the loan limit.
+ */
+@SpringBootTest(properties = "spring.datasource.hikari.connection-init-sql=SET LOCK_TIMEOUT 10000")
+@ActiveProfiles("test")
+public class BorrowConcurrencyIntegrationTest {
+	private static final int BORROWERS = 16;
+	private static final int ROUNDS = 5;
+
+	@Autowired
+	private LoanService loanService;
+
+	@Autowired
+	private AuthorService authorService;
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private LoanRepository loanRepository;
+
+	@Autowired
+	private LoanProperties loanProperties;
+
+	@Autowired
+	private ReaderRepository readerRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private JwtDecoder jwtDecoder;
+	@MockitoBean
+	private JwtEncoder jwtEncoder;
+	@MockitoBean
+	private RsaKeyConfig rsaKeyConfig;
+
+	private Long authorId;
+	private final List<Long> bookIds = new ArrayList<>();
+	private final List<Reader> readers = new ArrayList<>();
+	private final Queue<Long> loanIds = new ConcurrentLinkedQueue<>();
+
+	@BeforeEach
+	void seed() {
+		authorId = authorService.saveAuthor(new AuthorRequest("Race Author", "Bio")).id();
+		for (int i = 0; i < BORROWERS; i++) {
+			User user = new User();
+			user.setEmail("racer" + i + "@email.com");
+			user.setPassword("password");
+			user = userRepository.save(user);
+
+			Reader reader = new Reader();
+			reader.setFullName("Racer " + i);
+			reader.setUser(user);
+			readers.add(readerRepository.save(reader));
+		}
+	}
+
+	@AfterEach
+	void cleanUp() {
+		loanRepository.deleteAllById(loanIds);
+		readers.forEach(reader -> {
+			readerRepository.deleteById(reader.getId());
+			userRepository.deleteById(reader.getUser().getId());
+		});
+		bookIds.forEach(bookService::deleteBook);
+		authorService.deleteAuthor(authorId);
+		loanIds.clear();
+		readers.clear();
+		bookIds.clear();
+	}
+
+	@Test
+	void borrowBook_ShouldLendSingleCopyToExactlyOneReader() throws Exception {
+		for (int round = 0; round < ROUNDS; round++) {
+			Long bookId = addBook("Single " + round, 1);
+
+			RaceResult result = race(bookId);
+
+			assertTrue(result.failures().isEmpty(), () -> "Unexpected failures: " + result.failures());
+			assertEquals(1, result.winners());
+			assertEquals(BORROWERS - 1, result.unavailable());
+			assertEquals(1, loanRepository.countByBookId(bookId));
+			assertEquals(0, bookService.findBookById(bookId).availableCopies());
+
+			// Frees every winner's loan slot for the next round.
+			result.loanIds().forEach(loanService::returnBook);
+		}
+	}
+
+	@Test
+	void borrowBook_ShouldLendEachCopyOnce_WhenTitleHasSeveralCopies() throws Exception {
+		Long bookId = addBook("Several", 3);
+
+		RaceResult result = race(bookId);
+
+		assertTrue(result.failures().isEmpty(), () -> "Unexpected failures: " + result.failures());
+		assertEquals(3, result.winners());
+		assertEquals(BORROWERS - 3, result.unavailable());
+		assertEquals(3, loanRepository.countByBookId(bookId));
+		assertEquals(0, bookService.findBookById(bookId).availableCopies());
+	}
+
+	@Test
+	void borrowBook_ShouldHoldLoanLimit_WhenOneReaderBorrowsInParallel() throws Exception {
+		Reader reader = readers.getFirst();
+		List<Long> books = new ArrayList<>();
+		for (int i = 0; i < BORROWERS; i++) {
+			books.add(addBook("Parallel " + i, 1));
+		}
+		Queue<Long> won = new ConcurrentLinkedQueue<>();
+		AtomicInteger limited = new AtomicInteger();
+		Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+		CountDownLatch start = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(BORROWERS);
+		try {
+			for (Long bookId : books) {
+				executor.submit(() -> {
+					try {
+						start.await();
+						won.add(loanService.borrowBook(new BorrowRequest(bookId), reader.getUser().getEmail()).id());
+					} catch (LoanLimitExceededException e) {
+						limited.incrementAndGet();
+					} catch (Throwable e) {
+						failures.add(e);
+					}
+				});
+			}
+			start.countDown();
+		} finally {
+			executor.shutdown();
+			assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+		}
+		loanIds.addAll(won);
+
+		assertTrue(failures.isEmpty(), () -> "Unexpected failures: " + failures);
+		assertEquals(loanProperties.maxActiveLoans(), won.size());
+		assertEquals(BORROWERS - loanProperties.maxActiveLoans(), limited.get());
+		assertEquals(loanProperties.maxActiveLoans(), readerRepository.findById(reader.getId()).orElseThrow().getActiveLoanCount());
+	}
+
+	private RaceResult race(Long bookId) throws InterruptedException {
+		Queue<Long> won = new ConcurrentLinkedQueue<>();
+		AtomicInteger unavailable = new AtomicInteger();
+		Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+		CountDownLatch start = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(BORROWERS);
+		try {
+			for (Reader reader : readers) {
+				executor.submit(() -> {
+					try {
+						start.await();
+						won.add(loanService.borrowBook(new BorrowRequest(bookId), reader.getUser().getEmail()).id());
+					} catch (BookNotAvailableException e) {
+						unavailable.incrementAndGet();
+					} catch (Throwable e) {
+						failures.add(e);
+					}
+				});
+			}
+			start.countDown();
+		} finally {
+			executor.shutdown();
+			assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+		}
+
+		loanIds.addAll(won);
+		return new RaceResult(List.copyOf(won), unavailable.get(), List.copyOf(failures));
+	}
+
+	private Long addBook(String title, int copies) {
+		Long bookId = bookService.addBook(new BookRequest(title, "race-" + title, authorId, null, null, copies)).id();
+		bookIds.add(bookId);
+		return bookId;
+	}
+
+	private record RaceResult(List<Long> loanIds, int unavailable, List<Throwable> failures) {
+		int winners() {
+			return loanIds.size();
+		}
+	}
+}
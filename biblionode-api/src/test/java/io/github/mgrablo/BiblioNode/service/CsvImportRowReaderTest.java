@@ -0,0 +1,67 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import io.github.mgrablo.BiblioNode.dto.BookImportRow;
+import io.github.mgrablo.BiblioNode.exception.InvalidImportException;
+
+class CsvImportRowReaderTest {
+	@Test
+	void next_ShouldMapColumnsByHeader_InAnyOrder() throws IOException {
+		var reader = open("Author,ISBN,Title\r\nFrank Herbert,123,Dune\r\n");
+
+		var line = reader.next();
+
+		assertEquals(2, line.number());
+		assertEquals(new BookImportRow("Dune", "123", "Frank Herbert", null, null), line.row());
+		assertNull(reader.next());
+	}
+
+	@Test
+	void next_ShouldUnquoteFields_WithCommasQuotesAndNewlines() throws IOException {
+		var reader = open("title,isbn,author,description\n\"Dune, Messiah\",123,Herbert,\"He said \"\"hi\"\"\nand left\"\nNext,456,Herbert,\n");
+
+		var first = reader.next();
+		var second = reader.next();
+
+		assertEquals("Dune, Messiah", first.row().title());
+		assertEquals("He said \"hi\"\nand left", first.row().description());
+		assertEquals(4, second.number());
+		assertNull(second.row().description());
+	}
+
+	@Test
+	void next_ShouldSkipBlankLines_AndRejectExtraFields() throws IOException {
+		var reader = open("title,isbn,author\n\nDune,123,Herbert,extra\n");
+
+		var line = reader.next();
+
+		assertEquals(3, line.number());
+		assertNull(line.row());
+		assertEquals("Expected at most 3 fields but found 4", line.error());
+	}
+
+	@Test
+	void next_ShouldIgnoreByteOrderMark_BeforeHeader() throws IOException {
+		var reader = open("\uFEFFtitle,isbn,author\nDune,123,Herbert\n");
+
+		assertEquals(new BookImportRow("Dune", "123", "Herbert", null, null), reader.next().row());
+	}
+
+	@Test
+	void open_ShouldThrow_WhenRequiredColumnIsMissing() {
+		assertThrows(InvalidImportException.class, () -> open("title,isbn\nDune,123\n"));
+	}
+
+	private static CsvImportRowReader open(String csv) throws IOException {
+		return new CsvImportRowReader(new BufferedReader(new StringReader(csv)));
+	}
+}
@@ -0,0 +1,79 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.exception.InvalidCursorException;
+
+public class KeysetCursorsTest {
+	@Test
+	void position_ShouldReturnInitialKeyset_WhenCursorIsBlank() {
+		assertTrue(KeysetCursors.position(null, KeysetCursors.BY_ID).isInitial());
+		assertTrue(KeysetCursors.position("", KeysetCursors.BY_ID).isInitial());
+	}
+
+	@Test
+	void position_ShouldRestoreTypedKeys_WhenCursorWasEncoded() {
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("loanDate", LocalDateTime.of(2026, 1, 1, 12, 30, 15));
+		keys.put("id", 42L);
+		String cursor = KeysetCursors.encode(ScrollPosition.forward(keys));
+
+		KeysetScrollPosition position = KeysetCursors.position(cursor, KeysetCursors.BY_LOAN_DATE_AND_ID);
+
+		assertEquals(keys, position.getKeys());
+		assertEquals(ScrollPosition.Direction.FORWARD, position.getDirection());
+	}
+
+	@Test
+	void position_ShouldThrow_WhenCursorIsNotBase64() {
+		assertThrows(InvalidCursorException.class, () -> KeysetCursors.position("not a cursor!", KeysetCursors.BY_ID));
+	}
+
+	@Test
+	void position_ShouldThrow_WhenCursorHasUnexpectedKeys() {
+		String cursor = KeysetCursors.encode(ScrollPosition.forward(Map.of("title", "abc")));
+
+		assertThrows(InvalidCursorException.class, () -> KeysetCursors.position(cursor, KeysetCursors.BY_ID));
+	}
+
+	@Test
+	void position_ShouldThrow_WhenKeyValueHasWrongType() {
+		String cursor = Base64.getUrlEncoder().encodeToString("id=abc".getBytes(StandardCharsets.UTF_8));
+
+		assertThrows(InvalidCursorException.class, () -> KeysetCursors.position(cursor, KeysetCursors.BY_ID));
+	}
+
+	@Test
+	void toPage_ShouldPointNextCursorAtLastElement_WhenWindowHasNext() {
+		Window<Long> window = Window.from(List.of(1L, 2L), index -> ScrollPosition.forward(Map.of("id", index + 1L)), true);
+
+		CursorPage<String> page = KeysetCursors.toPage(window, String::valueOf, 2);
+
+		assertEquals(List.of("1", "2"), page.content());
+		assertTrue(page.hasNext());
+		assertEquals(2L, KeysetCursors.position(page.nextCursor(), KeysetCursors.BY_ID).getKeys().get("id"));
+	}
+
+	@Test
+	void toPage_ShouldOmitNextCursor_WhenWindowIsLast() {
+		Window<Long> window = Window.from(List.of(1L), index -> ScrollPosition.forward(Map.of("id", index + 1L)), false);
+
+		CursorPage<String> page = KeysetCursors.toPage(window, String::valueOf, 2);
+
+		assertFalse(page.hasNext());
+		assertNull(page.nextCursor());
+	}
+}
@@ -12,20 +12,41 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Window;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
+import io.github.mgrablo.BiblioNode.cache.BookResponseCache;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache.CountRegion;
+import io.github.mgrablo.BiblioNode.config.BookCacheProperties;
 import io.github.mgrablo.BiblioNode.config.LoanProperties;
+import io.github.mgrablo.BiblioNode.dto.BatchResult;
+import io.github.mgrablo.BiblioNode.dto.BookResponse;
 import io.github.mgrablo.BiblioNode.dto.BorrowRequest;
+import io.github.mgrablo.BiblioNode.dto.CursorPage;
+import io.github.mgrablo.BiblioNode.dto.CursorRequest;
 import io.github.mgrablo.BiblioNode.dto.LoanResponse;
+import io.github.mgrablo.BiblioNode.event.BookAvailabilityChangedEvent;
+import io.github.mgrablo.BiblioNode.event.BookBorrowedEvent;
 import io.github.mgrablo.BiblioNode.exception.BookNotAvailableException;
 import io.github.mgrablo.BiblioNode.exception.LoanAlreadyReturnedException;
 import io.github.mgrablo.BiblioNode.exception.LoanLimitExceededException;
@@ -35,6 +56,7 @@ import io.github.mgrablo.BiblioNode.model.*;
 import io.github.mgrablo.BiblioNode.repository.BookRepository;
 import io.github.mgrablo.BiblioNode.repository.LoanRepository;
 import io.github.mgrablo.BiblioNode.repository.ReaderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 public class LoanServiceImplTest {
@@ -50,9 +72,16 @@ public class LoanServiceImplTest {
 	@Mock
 	private ReaderRepository readerRepository;
 
+	@Mock
+	private TotalCountCache totalCounts;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private LoanServiceImpl loanService;
 
+	private BookResponseCache bookCache;
 	private Clock fixedClock;
 	private final Instant fixedInstant = Instant.parse("2026-01-01T12:00:00Z");
 	private final ZoneId zoneId = ZoneId.of("UTC");
@@ -62,100 +91,203 @@ public class LoanServiceImplTest {
 		LoanProperties loanProperties = new LoanProperties(5, 14);
 
 		fixedClock = Clock.fixed(fixedInstant, zoneId);
+		bookCache = new BookResponseCache(new BookCacheProperties(100), new SimpleMeterRegistry());
 		loanService = new LoanServiceImpl(loanRepository,
 				bookRepository,
 				readerRepository,
 				mapper,
 				loanProperties,
-				fixedClock
+				fixedClock,
+				totalCounts,
+				eventPublisher,
+				bookCache
 		);
 	}
 
 	@Test
 	public void borrowBook_ShouldReturnLoanResponse_WhenBookAvailable() {
 		LocalDateTime expectedNow = LocalDateTime.now(fixedClock);
-		Book book = spy(createTestBook(1L, "Test Book", "111"));
+		Book book = createTestBook(1L, "Test Book", "111");
+		book.setTotalCopies(2);
+		book.setAvailableCopies(1);
 		String email = "test@email.com";
 		Reader reader = createTestReader(1L, "Test Reader", email);
 		Loan loan = createTestLoan(1L, book, reader, expectedNow);
 		BorrowRequest request = new BorrowRequest(1L);
 		LoanResponse expectedResponse = createTestLoanResponse(1L, book, reader, expectedNow, null);
 
-		when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
 		when(readerRepository.findByUserEmail(email)).thenReturn(Optional.of(reader));
+		when(readerRepository.claimLoanSlot(1L, 5)).thenReturn(1);
+		when(bookRepository.claimCopy(1L, expectedNow)).thenReturn(1);
+		when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
 		when(loanRepository.save(any(Loan.class))).thenReturn(loan);
 		when(mapper.toResponse(any(Loan.class))).thenReturn(expectedResponse);
 
 		LoanResponse result = loanService.borrowBook(request, email);
 
 		assertEquals(expectedResponse, result);
-		assertFalse(book.isAvailable());
 		verify(loanRepository, times(1)).save(any(Loan.class));
+		verify(totalCounts).invalidate(CountRegion.LOANS);
+		verify(eventPublisher).publishEvent(new BookAvailabilityChangedEvent(1L, true));
+		verify(eventPublisher).publishEvent(new BookBorrowedEvent(1L, 1L, 1L));
 	}
 
 	@Test
-	public void borrowBook_ShouldThrowException_WhenBookNotAvailable() {
+	public void borrowBook_ShouldClaimCopyAfterReaderChecks() {
+		LocalDateTime expectedNow = LocalDateTime.now(fixedClock);
+		Book book = createTestBook(1L, "Test Book", "111");
+		String email = "test@email.com";
+		Reader reader = createTestReader(1L, "Test Reader", email);
+
+		when(readerRepository.findByUserEmail(email)).thenReturn(Optional.of(reader));
+		when(readerRepository.claimLoanSlot(1L, 5)).thenReturn(1);
+		when(bookRepository.claimCopy(1L, expectedNow)).thenReturn(1);
+		when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
+
+		loanService.borrowBook(new BorrowRequest(1L), email);
+
+		var inOrder = inOrder(readerRepository, loanRepository, bookRepository);
+		inOrder.verify(readerRepository).findByUserEmail(email);
+		inOrder.verify(readerRepository).claimLoanSlot(reader.getId(), 5);
+		inOrder.verify(bookRepository).claimCopy(1L, expectedNow);
+		inOrder.verify(bookRepository).findById(1L);
+		inOrder.verify(loanRepository).save(any(Loan.class));
+	}
+
+	@Test
+	public void borrowBook_ShouldPublishUnavailable_WhenLastCopyClaimed() {
+		LocalDateTime expectedNow = LocalDateTime.now(fixedClock);
 		Book book = createTestBook(1L, "Test Book", "111");
+		book.setAvailableCopies(0);
 		book.setAvailable(false);
-		BorrowRequest request = new BorrowRequest(1L);
+		String email = "test@email.com";
 
+		when(readerRepository.findByUserEmail(email)).thenReturn(Optional.of(createTestReader(1L, "Test Reader", email)));
+		when(readerRepository.claimLoanSlot(1L, 5)).thenReturn(1);
+		when(bookRepository.claimCopy(1L, expectedNow)).thenReturn(1);
 		when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
 
-		assertThrows(BookNotAvailableException.class, () -> loanService.borrowBook(request, "test@email.com"));
+		loanService.borrowBook(new BorrowRequest(1L), email);
+
+		verify(eventPublisher).publishEvent(new BookAvailabilityChangedEvent(1L, false));
+	}
+
+	@Test
+	public void borrowBook_ShouldThrowException_WhenBookNotAvailable() {
+		String email = "test@email.com";
+		BorrowRequest request = new BorrowRequest(1L);
+
+		when(readerRepository.findByUserEmail(email)).thenReturn(Optional.of(createTestReader(1L, "Test Reader", email)));
+		when(readerRepository.claimLoanSlot(1L, 5)).thenReturn(1);
+		when(bookRepository.claimCopy(eq(1L), any())).thenReturn(0);
+		when(bookRepository.existsById(1L)).thenReturn(true);
+
+		assertThrows(BookNotAvailableException.class, () -> loanService.borrowBook(request, email));
+		verify(loanRepository, never()).save(any());
+	}
+
+	@Test
+	public void borrowBook_ShouldRejectWithoutLoading_WhenCachedAsOnLoan() {
+		BookResponse cached = new BookResponse(1L, "Test Book", "111", "Author", 2L, false, 0, 1, null, null, null, null);
+		bookCache.get(1L, id -> cached);
+
+		assertThrows(BookNotAvailableException.class, () -> loanService.borrowBook(new BorrowRequest(1L), "test@email.com"));
+		verifyNoInteractions(bookRepository, readerRepository, loanRepository);
 	}
 
 	@Test
 	public void borrowBook_ShouldThrowException_WhenBookNotFound() {
+		String email = "test@email.com";
 		BorrowRequest request = new BorrowRequest(1L);
 
-		when(bookRepository.findById(1L)).thenReturn(Optional.empty());
+		when(readerRepository.findByUserEmail(email)).thenReturn(Optional.of(createTestReader(1L, "Test Reader", email)));
+		when(readerRepository.claimLoanSlot(1L, 5)).thenReturn(1);
+		when(bookRepository.claimCopy(eq(1L), any())).thenReturn(0);
+		when(bookRepository.existsById(1L)).thenReturn(false);
 
-		assertThrows(ResourceNotFoundException.class, () -> loanService.borrowBook(request, "test@email.com"));
+		assertThrows(ResourceNotFoundException.class, () -> loanService.borrowBook(request, email));
 	}
 
 	@Test
 	public void borrowBook_ShouldThrowException_WhenReaderNotFound() {
-		Book book = createTestBook(1L, "Test Book", "111");
 		BorrowRequest request = new BorrowRequest(1L);
 
-		when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
 		when(readerRepository.findByUserEmail("test@email.com")).thenReturn(Optional.empty());
 
 		assertThrows(ResourceNotFoundException.class, () -> loanService.borrowBook(request, "test@email.com"));
+		verify(bookRepository, never()).claimCopy(any(), any());
 	}
 
 	@Test
 	public void borrowBook_ShouldThrowException_WhenLoanLimitExceeded() {
-		Book book = createTestBook(1L, "Test Book", "111");
 		String email = "test@email.com";
 		Reader reader = createTestReader(1L, "Test Reader", email);
 		BorrowRequest request = new BorrowRequest(1L);
 
-		when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
 		when(readerRepository.findByUserEmail(email)).thenReturn(Optional.of(reader));
-		when(loanRepository.countByReaderIdAndReturnDateIsNull(reader.getId())).thenReturn(5L);
+		when(readerRepository.claimLoanSlot(reader.getId(), 5)).thenReturn(0);
 
 		assertThrows(LoanLimitExceededException.class, () -> loanService.borrowBook(request, email));
+		verify(bookRepository, never()).claimCopy(any(), any());
 	}
 
 	@Test
 	public void returnBook_ShouldReturnLoanResponse_WhenLoanValid() {
-		Book book = spy(createTestBook(1L, "Test Book", "111"));
+		Book book = createTestBook(1L, "Test Book", "111");
 		book.setAvailable(false);
 		Reader reader = createTestReader(1L, "Test Reader", "test@email.com");
 		LocalDateTime expectedNow = LocalDateTime.now(fixedClock);
 		Loan loan = createTestLoan(1L, book, reader, expectedNow);
+		loan.setReturnDate(expectedNow);
 		LoanResponse expectedResponse = createTestLoanResponse(1L, book, reader, expectedNow, expectedNow);
 
+		when(loanRepository.closeLoan(1L, expectedNow)).thenReturn(1);
 		when(loanRepository.findById(1L)).thenReturn(Optional.of(loan));
-		when(loanRepository.save(any(Loan.class))).thenReturn(loan);
-		when(mapper.toResponse(any(Loan.class))).thenReturn(expectedResponse);
+		when(mapper.toResponse(loan)).thenReturn(expectedResponse);
 
 		LoanResponse result = loanService.returnBook(1L);
 
 		assertEquals(expectedResponse, result);
-		verify(loanRepository, times(1)).save(any(Loan.class));
-		verify(book).setAvailable(true);
+		verify(loanRepository, never()).save(any(Loan.class));
+		var inOrder = inOrder(readerRepository, bookRepository);
+		inOrder.verify(readerRepository).releaseLoanSlot(reader.getId());
+		inOrder.verify(bookRepository).releaseCopy(1L, expectedNow);
+		verify(eventPublisher).publishEvent(new BookAvailabilityChangedEvent(book.getId(), true));
+	}
+
+	@Test
+	public void returnBook_ShouldNotReleaseCopy_WhenLoanClosedConcurrently() {
+		Book book = createTestBook(1L, "Test Book", "111");
+		Reader reader = createTestReader(1L, "Test Reader", "test@email.com");
+		LocalDateTime expectedNow = LocalDateTime.now(fixedClock);
+		Loan loan = createTestLoan(1L, book, reader, expectedNow.minusDays(1));
+		loan.setReturnDate(expectedNow);
+
+		when(loanRepository.closeLoan(1L, expectedNow)).thenReturn(0);
+		when(loanRepository.findById(1L)).thenReturn(Optional.of(loan));
+
+		assertThrows(LoanAlreadyReturnedException.class, () -> loanService.returnBook(1L));
+		verify(bookRepository, never()).releaseCopy(any(), any());
+		verify(readerRepository, never()).releaseLoanSlot(any());
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	public void findLoansByIdsAndReaderEmail_ShouldReportOtherReadersLoansAsMissing() {
+		String email = "test@email.com";
+		Reader reader = createTestReader(1L, "Test Reader", email);
+		LocalDateTime now = LocalDateTime.now(fixedClock);
+		Loan own = createTestLoan(5L, createTestBook(1L, "Test Book", "111"), reader, now);
+		LoanResponse ownResponse = createTestLoanResponse(5L, own.getBook(), reader, now, null);
+
+		when(loanRepository.findAllByIdInAndReaderUserEmail(List.of(7L, 5L), email)).thenReturn(List.of(own));
+		when(mapper.toResponse(own)).thenReturn(ownResponse);
+
+		BatchResult<LoanResponse> result = loanService.findLoansByIdsAndReaderEmail(List.of(7L, 5L), email);
+
+		assertEquals(List.of(ownResponse), result.results());
+		assertEquals(List.of(7L), result.missing());
+		verify(loanRepository, never()).findAllByIdIn(any());
 	}
 
 	@Test
@@ -188,7 +320,7 @@ public class LoanServiceImplTest {
 		LoanResponse expectedResponse = createTestLoanResponse(1L, book, reader, expectedNow, null);
 		Page<Loan> loanPage = new PageImpl<>(List.of(loan));
 
-		when(loanRepository.findAll(any(Pageable.class))).thenReturn(loanPage);
+		when(loanRepository.findAllBy(any(Pageable.class))).thenReturn(loanPage);
 		when(mapper.toResponse(any(Loan.class))).thenReturn(expectedResponse);
 
 		Page<LoanResponse> result = loanService.getAllLoans(Pageable.ofSize(10));
@@ -288,16 +420,87 @@ public class LoanServiceImplTest {
 	}
 
 	@Test
-	public void getOverdueLoans_ShouldUseCurrentTimeToFindOverdue() {
+	public void getOverdueLoans_ShouldLookUpOverdueStatus() {
 		Page<Loan> loanPage = new PageImpl<>(List.of());
 
-		when(loanRepository.findAllByReturnDateIsNullAndDueDateBefore(any(LocalDateTime.class), any(Pageable.class)))
+		when(loanRepository.findAllByStatus(eq(LoanStatus.OVERDUE), any(Pageable.class)))
 				.thenReturn(loanPage);
 
 		loanService.getOverdueLoans(Pageable.ofSize(10));
 
-		verify(loanRepository, times(1))
-				.findAllByReturnDateIsNullAndDueDateBefore(eq(LocalDateTime.now(fixedClock)), any(Pageable.class));
+		verify(loanRepository, times(1)).findAllByStatus(eq(LoanStatus.OVERDUE), any(Pageable.class));
+	}
+
+	@Test
+	public void getLoansByReaderId_ShouldUseCachedTotal_WhenMoreLoansExist() {
+		Book book = createTestBook(1L, "Test Book", "111");
+		Reader reader = createTestReader(1L, "Test Reader", "test@email.com");
+		LocalDateTime expectedNow = LocalDateTime.now(fixedClock);
+		Loan loan = createTestLoan(1L, book, reader, expectedNow);
+		LoanResponse expectedResponse = createTestLoanResponse(1L, book, reader, expectedNow, null);
+		Pageable pageable = PageRequest.of(0, 1);
+
+		when(loanRepository.findByReaderId(1L, pageable)).thenReturn(new SliceImpl<>(List.of(loan), pageable, true));
+		when(totalCounts.get(eq(CountRegion.LOANS), any(LongSupplier.class), eq("reader"), eq(1L))).thenReturn(12L);
+		when(mapper.toResponse(loan)).thenReturn(expectedResponse);
+
+		Page<LoanResponse> result = loanService.getLoansByReaderId(1L, pageable);
+
+		assertEquals(12, result.getTotalElements());
+		assertEquals(expectedResponse, result.getContent().getFirst());
+		verify(loanRepository, never()).countByReaderId(anyLong());
+	}
+
+	@Test
+	public void sliceLoans_ShouldUseActiveQuery_WhenActiveOnly() {
+		Pageable pageable = PageRequest.of(0, 10);
+		when(loanRepository.findAllByReturnDateIsNull(pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+		Slice<LoanResponse> result = loanService.sliceLoans(null, null, true, pageable);
+
+		assertFalse(result.hasNext());
+		verifyNoInteractions(totalCounts);
+	}
+
+	@Test
+	public void scrollLoans_ShouldUseActiveReaderQueryAndReturnNextCursor_WhenMoreLoansExist() {
+		Book book = createTestBook(1L, "Test Book", "111");
+		Reader reader = createTestReader(1L, "Test Reader", "test@email.com");
+		LocalDateTime expectedNow = LocalDateTime.now(fixedClock);
+		Loan loan = createTestLoan(7L, book, reader, expectedNow);
+		LoanResponse expectedResponse = createTestLoanResponse(7L, book, reader, expectedNow, null);
+		Window<Loan> window = Window.from(List.of(loan),
+				index -> ScrollPosition.forward(Map.of("loanDate", expectedNow, "id", 7L)), true);
+
+		when(loanRepository.findAllByReturnDateIsNullAndReaderIdOrderByLoanDateDescIdDesc(eq(1L), any(KeysetScrollPosition.class), eq(Limit.of(1))))
+				.thenReturn(window);
+		when(mapper.toResponse(loan)).thenReturn(expectedResponse);
+
+		CursorPage<LoanResponse> result = loanService.scrollLoans(1L, null, true, new CursorRequest(null, 1));
+
+		assertEquals(List.of(expectedResponse), result.content());
+		assertTrue(result.hasNext());
+		assertNotNull(result.nextCursor());
+		verify(loanRepository, never()).findAll(any(Pageable.class));
+	}
+
+	@Test
+	public void scrollLoansByReaderEmail_ShouldContinueAfterCursor() {
+		LocalDateTime loanDate = LocalDateTime.now(fixedClock);
+		Map<String, Object> keys = new LinkedHashMap<>();
+		keys.put("loanDate", loanDate);
+		keys.put("id", 7L);
+		String cursor = KeysetCursors.encode(ScrollPosition.forward(keys));
+
+		when(loanRepository.findByReaderUserEmailOrderByLoanDateDescIdDesc(eq("test@email.com"), any(KeysetScrollPosition.class), eq(Limit.of(5))))
+				.thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
+		CursorPage<LoanResponse> result = loanService.scrollLoansByReaderEmail("test@email.com", new CursorRequest(cursor, 5));
+
+		assertTrue(result.content().isEmpty());
+		assertFalse(result.hasNext());
+		verify(loanRepository).findByReaderUserEmailOrderByLoanDateDescIdDesc(
+				"test@email.com", ScrollPosition.forward(keys), Limit.of(5));
 	}
 
 	private Book createTestBook(Long id, String title, String isbn) {
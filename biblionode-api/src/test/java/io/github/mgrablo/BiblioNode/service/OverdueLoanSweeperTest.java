@@ -0,0 +1,65 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache.CountRegion;
+import io.github.mgrablo.BiblioNode.config.PaginationProperties;
+import io.github.mgrablo.BiblioNode.repository.LoanRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class OverdueLoanSweeperTest {
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 10, 12, 0);
+
+	@Mock
+	private LoanRepository loanRepository;
+
+	private final Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private TotalCountCache totalCounts;
+	private OverdueLoanSweeper sweeper;
+
+	@BeforeEach
+	void setup() {
+		totalCounts = new TotalCountCache(clock, new PaginationProperties(20, 100, Duration.ofMinutes(1), 100));
+		sweeper = new OverdueLoanSweeper(loanRepository, clock, totalCounts, meterRegistry);
+	}
+
+	@Test
+	void sweep_ShouldReportLoansMarkedOverdue() {
+		when(loanRepository.markOverdue(NOW)).thenReturn(3, 0);
+
+		assertEquals(3, sweeper.sweep());
+		assertEquals(0, sweeper.sweep());
+
+		DistributionSummary summary = meterRegistry.get("loans.overdue.sweep").summary();
+		assertEquals(2, summary.count());
+		assertEquals(3.0, summary.totalAmount());
+		assertEquals(3.0, summary.max());
+	}
+
+	@Test
+	void sweep_ShouldEvictLoanTotals_WhenLoansTransitioned() {
+		when(loanRepository.markOverdue(NOW)).thenReturn(1);
+		assertEquals(5, totalCounts.get(CountRegion.LOANS, () -> 5, "overdue"));
+
+		sweeper.sweep();
+
+		assertEquals(6, totalCounts.get(CountRegion.LOANS, () -> 6, "overdue"));
+	}
+}
@@ -11,12 +11,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache;
+import io.github.mgrablo.BiblioNode.cache.TotalCountCache.CountRegion;
 import io.github.mgrablo.BiblioNode.dto.ReaderRequest;
 import io.github.mgrablo.BiblioNode.dto.ReaderResponse;
 import io.github.mgrablo.BiblioNode.dto.UserProfileResponse;
@@ -24,7 +28,6 @@ import io.github.mgrablo.BiblioNode.exception.ResourceNotFoundException;
 import io.github.mgrablo.BiblioNode.mapper.ReaderMapper;
 import io.github.mgrablo.BiblioNode.model.Reader;
 import io.github.mgrablo.BiblioNode.model.User;
-import io.github.mgrablo.BiblioNode.repository.LoanRepository;
 import io.github.mgrablo.BiblioNode.repository.ReaderRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,7 +40,7 @@ public class ReaderServiceImplTest {
 	private ReaderRepository readerRepository;
 
 	@Mock
-	private LoanRepository loanRepository;
+	private TotalCountCache totalCounts;
 
 	@InjectMocks
 	private ReaderServiceImpl readerService;
@@ -55,6 +58,7 @@ public class ReaderServiceImplTest {
 
 		ReaderResponse result = readerService.createProfile(request, user);
 		assertEquals(expectedResponse, result);
+		verify(totalCounts).invalidate(CountRegion.READERS);
 	}
 
 	@Test
@@ -110,17 +114,16 @@ public class ReaderServiceImplTest {
 		String email = "test@email.com";
 		User user = createTestUser(email);
 		Reader reader = createTestReader(1L, "TestName", user);
-		Long activeLoansCount = 2L;
+		reader.setActiveLoanCount(2);
 
 		when(readerRepository.findByUserEmail(anyString())).thenReturn(Optional.of(reader));
-		when(loanRepository.countByReaderIdAndReturnDateIsNull(anyLong())).thenReturn(activeLoansCount);
 
 		UserProfileResponse result = readerService.getUserProfileByEmail(email);
 
 		assertEquals(email, result.email());
 		assertEquals(reader.getFullName(), result.name());
 		assertEquals(reader.getCreatedAt(), result.memberSince());
-		assertEquals(activeLoansCount, result.activeLoansCount());
+		assertEquals(2L, result.activeLoansCount());
 	}
 
 	@Test
@@ -134,7 +137,7 @@ public class ReaderServiceImplTest {
 		ReaderResponse response2 = createTestResponse(2L, "Test Name2", "test2@email.com");
 		Page<Reader> readerPage = new PageImpl<>(List.of(reader1, reader2));
 
-		when(readerRepository.findAll(pageable)).thenReturn(readerPage);
+		when(readerRepository.findAllBy(pageable)).thenReturn(readerPage);
 		when(mapper.toResponse(reader1)).thenReturn(response1);
 		when(mapper.toResponse(reader2)).thenReturn(response2);
 
@@ -144,19 +147,35 @@ public class ReaderServiceImplTest {
 		assertEquals(2, result.getTotalElements());
 		assertEquals(response1, result.getContent().getFirst());
 		assertEquals(response2, result.getContent().get(1));
-		verify(readerRepository).findAll(pageable);
+		verify(readerRepository).findAllBy(pageable);
 	}
 
 	@Test
 	public void getAll_ShouldReturnEmptyList_WhenReadersDoNotExist() {
 		Pageable pageable = Pageable.ofSize(10);
 
-		when(readerRepository.findAll(pageable)).thenReturn(Page.empty());
+		when(readerRepository.findAllBy(pageable)).thenReturn(Page.empty());
 
 		Page<ReaderResponse> result = readerService.getAll(pageable);
 
 		assertTrue(result.isEmpty());
-		verify(readerRepository).findAll(pageable);
+		verify(readerRepository).findAllBy(pageable);
+	}
+
+	@Test
+	public void sliceAll_ShouldReturnSliceWithoutTotal() {
+		Pageable pageable = PageRequest.of(0, 1);
+		Reader reader = createTestReader(1L, "Test Name1", createTestUser("test1@email.com"));
+		ReaderResponse response = createTestResponse(1L, "Test Name1", "test1@email.com");
+
+		when(readerRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(reader), pageable, true));
+		when(mapper.toResponse(reader)).thenReturn(response);
+
+		var result = readerService.sliceAll(pageable);
+
+		assertEquals(List.of(response), result.getContent());
+		assertTrue(result.hasNext());
+		verifyNoInteractions(totalCounts);
 	}
 
 	@Test
@@ -0,0 +1,55 @@
+package io.github.mgrablo.BiblioNode.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+public class SlicePagesTest {
+	private static final LongSupplier NO_COUNT = () -> {
+		throw new AssertionError("count should not be needed");
+	};
+
+	@Test
+	void toPage_ShouldDeriveTotal_WhenSliceIsLast() {
+		Page<String> page = SlicePages.toPage(new SliceImpl<>(List.of("a", "b"), PageRequest.of(2, 5), false), NO_COUNT);
+
+		assertEquals(12, page.getTotalElements());
+		assertFalse(page.hasNext());
+	}
+
+	@Test
+	void toPage_ShouldDeriveTotal_WhenFirstPageIsEmpty() {
+		Page<String> page = SlicePages.toPage(new SliceImpl<>(List.of(), PageRequest.of(0, 5), false), NO_COUNT);
+
+		assertEquals(0, page.getTotalElements());
+	}
+
+	@Test
+	void toPage_ShouldUseSuppliedTotal_WhenMorePagesExist() {
+		Page<String> page = SlicePages.toPage(new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 2), true), () -> 40);
+
+		assertEquals(40, page.getTotalElements());
+		assertEquals(20, page.getTotalPages());
+	}
+
+	@Test
+	void toPage_ShouldUseSuppliedTotal_WhenPageIsBeyondEnd() {
+		Page<String> page = SlicePages.toPage(new SliceImpl<>(List.of(), PageRequest.of(9, 5), false), () -> 7);
+
+		assertEquals(7, page.getTotalElements());
+	}
+
+	@Test
+	void toPage_ShouldNotReportFewerElementsThanSeen_WhenSuppliedTotalIsStale() {
+		Page<String> page = SlicePages.toPage(new SliceImpl<>(List.of("a", "b"), PageRequest.of(1, 2), true), () -> 1);
+
+		assertEquals(5, page.getTotalElements());
+		assertTrue(page.hasNext());
+	}
+}
@@ -1,6 +1,7 @@
 import { inject, Injectable } from '@angular/core';
 import { HttpClient } from '@angular/common/http';
 import { BookResponse } from './dto/book-response';
+import { BookSummaryResponse } from './dto/book-summary-response';
 import { Page } from '../../../shared/models/page.model';
 
 @Injectable({ providedIn: 'root' })
@@ -8,7 +9,7 @@ export class BookService {
   private http = inject(HttpClient);
 
   getAllBooks() {
-    return this.http.get<Page<BookResponse>>('api/books');
+    return this.http.get<Page<BookSummaryResponse>>('api/books');
   }
 
   getBookById(id: number) {
@@ -0,0 +1,9 @@
+export interface BookSummaryResponse {
+  id: number;
+  title: string;
+  isbn: string;
+  authorName: string;
+  authorId: number;
+  available: boolean;
+  coverUrl: string | null;
+}
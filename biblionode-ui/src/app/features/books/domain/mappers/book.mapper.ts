@@ -1,4 +1,5 @@
 import { BookResponse } from '../../data-access/dto/book-response';
+import { BookSummaryResponse } from '../../data-access/dto/book-summary-response';
 import { Book } from '../models/book.model';
 
 export class BookMapper {
@@ -15,7 +16,19 @@ export class BookMapper {
     };
   }
 
-  static toBookList(responses: BookResponse[]): Book[] {
-    return responses.map(BookMapper.toBook);
+  static toBookSummary(response: BookSummaryResponse): Book {
+    return {
+      id: response.id,
+      title: response.title,
+      isbn: response.isbn,
+      authorName: response.authorName,
+      availableCopies: response.available ? 1 : 0,
+      coverUrl: response.coverUrl,
+      description: null,
+    };
+  }
+
+  static toBookList(responses: BookSummaryResponse[]): Book[] {
+    return responses.map(BookMapper.toBookSummary);
   }
 }